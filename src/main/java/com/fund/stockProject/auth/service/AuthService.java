@@ -5,9 +5,13 @@ import com.fund.stockProject.user.entity.User;
 import com.fund.stockProject.user.repository.UserRepository;
 import com.fund.stockProject.experiment.repository.ExperimentRepository;
 import com.fund.stockProject.experiment.repository.ExperimentTradeItemRepository;
+import com.fund.stockProject.experiment.service.InvestmentPatternService;
+import com.fund.stockProject.experiment.service.UserExperimentStatsService;
 import com.fund.stockProject.preference.repository.PreferenceRepository;
 import com.fund.stockProject.notification.repository.NotificationRepository;
 import com.fund.stockProject.notification.repository.UserDeviceTokenRepository;
+import com.fund.stockProject.notification.service.DeviceTokenRegistry;
+import com.fund.stockProject.notification.service.NotificationUnreadCounter;
 import com.fund.stockProject.auth.repository.RefreshTokenRepository;
 import com.fund.stockProject.security.principle.CustomUserDetails;
 import com.fund.stockProject.global.service.S3Service;
@@ -35,8 +39,12 @@ public class AuthService {
     private final PreferenceRepository preferenceRepository;
     private final NotificationRepository notificationRepository;
     private final UserDeviceTokenRepository userDeviceTokenRepository;
+    private final DeviceTokenRegistry deviceTokenRegistry;
+    private final NotificationUnreadCounter notificationUnreadCounter;
     private final ExperimentRepository experimentRepository;
     private final ExperimentTradeItemRepository experimentTradeItemRepository;
+    private final UserExperimentStatsService userExperimentStatsService;
+    private final InvestmentPatternService investmentPatternService;
     private final RefreshTokenRepository refreshTokenRepository;
     private final S3Service s3Service;
     private final PasswordEncoder passwordEncoder;
@@ -86,15 +94,19 @@ public class AuthService {
 
         // 2. Experiment 삭제
         experimentRepository.deleteByUserId(userId);
+        userExperimentStatsService.deleteByUserId(userId);
+        investmentPatternService.deleteByUserId(userId);
 
         // 3. Preference 데이터 삭제
         preferenceRepository.deleteByUserId(userId);
 
         // 4. Notification 데이터 삭제
         notificationRepository.deleteByUserId(userId);
+        notificationUnreadCounter.evict(userId);
 
         // 5. UserDeviceToken 데이터 삭제
         userDeviceTokenRepository.deleteByUserId(userId);
+        deviceTokenRegistry.invalidate(userId);
 
         // 6. RefreshToken 데이터 삭제 (email 기반)
         refreshTokenRepository.deleteByEmail(email);
@@ -0,0 +1,45 @@
+package com.fund.stockProject.experiment.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 투자 패턴 (매수 점수 X, 수익률 Y 평면에서 원점 (50, 0) 기준 사분면)
+ */
+public enum INVESTMENTPATTERN {
+    VALUE_PREEMPTIVE("value-preemptive"),   // 2사분면: X < 50, Y > 0 (가치 선점형)
+    TREND_PREEMPTIVE("trend-preemptive"),   // 1사분면: X >= 50, Y > 0 (트렌드 선점형)
+    REVERSE_INVESTOR("reverse-investor"),   // 3사분면: X < 50, Y <= 0 (역행 투자형)
+    LAGGING_FOLLOWER("lagging-follower");   // 4사분면: X >= 50, Y <= 0 (후행 추종형)
+
+    private final String type;
+
+    INVESTMENTPATTERN(String type) {
+        this.type = type;
+    }
+
+    @JsonValue
+    public String getType() {
+        return type;
+    }
+
+    @JsonCreator
+    public static INVESTMENTPATTERN fromType(String type) {
+        for (INVESTMENTPATTERN pattern : INVESTMENTPATTERN.values()) {
+            if (pattern.type.equals(type)) {
+                return pattern;
+            }
+        }
+        throw new IllegalArgumentException("Unknown investment pattern: " + type);
+    }
+
+    /**
+     * 실험 1건이 속하는 사분면
+     */
+    public static INVESTMENTPATTERN quadrantOf(int score, double roi) {
+        if (roi > 0) {
+            return score < 50 ? VALUE_PREEMPTIVE : TREND_PREEMPTIVE;
+        }
+        return score < 50 ? REVERSE_INVESTOR : LAGGING_FOLLOWER;
+    }
+}
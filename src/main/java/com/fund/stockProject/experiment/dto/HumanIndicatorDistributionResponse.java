@@ -1,11 +1,16 @@
 package com.fund.stockProject.experiment.dto;
 
 import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // Redis 캐시 역직렬화용
 public class HumanIndicatorDistributionResponse {
     private long totalUsers; // 완료된 실험 1건 이상 유저 수
     private Map<String, Integer> distribution; // 등급별 유저 비율
@@ -9,8 +9,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -23,6 +26,13 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "experiment",
+    indexes = {
+        @Index(name = "idx_experiment_status_sell_due_date", columnList = "status, sell_due_date"),
+        @Index(name = "idx_experiment_user_stock_buy_at", columnList = "user_id, stock_id, buy_at")
+    }
+)
 public class Experiment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,6 +52,10 @@ public class Experiment {
     @JsonIgnore
     private LocalDateTime sellAt;
 
+    @JsonIgnore
+    @Column(name = "sell_due_date")
+    private LocalDate sellDueDate; // 자동 매도 예정일 (매수일 포함 5번째 영업일)
+
     @Column(nullable = false)
     private Double buyPrice;
 
@@ -63,4 +77,8 @@ public class Experiment {
         this.sellAt = sellAt;
         this.roi = roi;
     }
+
+    public void updateSellDueDate(LocalDate sellDueDate) {
+        this.sellDueDate = sellDueDate;
+    }
 }
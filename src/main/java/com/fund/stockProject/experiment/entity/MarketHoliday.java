@@ -0,0 +1,43 @@
+package com.fund.stockProject.experiment.entity;
+
+import com.fund.stockProject.global.entity.Core;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공휴일 (공공데이터포털 특일 정보 API 결과를 로컬에 보관)
+ *
+ * 재시작 시 외부 API를 다시 호출하지 않고 영업일 달력을 구성하기 위해 사용합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "market_holiday",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_market_holiday_date",
+        columnNames = {"holiday_date"}
+    )
+)
+public class MarketHoliday extends Core {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "holiday_date", nullable = false)
+    private LocalDate holidayDate;
+
+    public MarketHoliday(LocalDate holidayDate) {
+        this.holidayDate = holidayDate;
+    }
+}
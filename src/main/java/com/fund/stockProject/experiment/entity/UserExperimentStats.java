@@ -0,0 +1,178 @@
+package com.fund.stockProject.experiment.entity;
+
+import com.fund.stockProject.experiment.domain.SCORERANGE;
+import com.fund.stockProject.global.entity.Core;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 완료 실험 누적 통계
+ *
+ * 자동 매도로 실험이 완료될 때마다 갱신되며, 성공률과 인간지표 점수 구간별 평균 수익률을
+ * experiment 행을 다시 읽지 않고 바로 계산합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "user_experiment_stats",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_user_experiment_stats_user",
+        columnNames = {"user_id"}
+    )
+)
+public class UserExperimentStats extends Core {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount; // 완료된 실험 수
+
+    @Column(name = "success_count", nullable = false)
+    private int successCount; // 수익률 > 0 인 완료 실험 수
+
+    @Column(name = "range_0_59_count", nullable = false)
+    private int range0To59Count;
+
+    @Column(name = "range_0_59_roi_sum", nullable = false)
+    private double range0To59RoiSum;
+
+    @Column(name = "range_60_69_count", nullable = false)
+    private int range60To69Count;
+
+    @Column(name = "range_60_69_roi_sum", nullable = false)
+    private double range60To69RoiSum;
+
+    @Column(name = "range_70_79_count", nullable = false)
+    private int range70To79Count;
+
+    @Column(name = "range_70_79_roi_sum", nullable = false)
+    private double range70To79RoiSum;
+
+    @Column(name = "range_80_89_count", nullable = false)
+    private int range80To89Count;
+
+    @Column(name = "range_80_89_roi_sum", nullable = false)
+    private double range80To89RoiSum;
+
+    @Column(name = "range_90_100_count", nullable = false)
+    private int range90To100Count;
+
+    @Column(name = "range_90_100_roi_sum", nullable = false)
+    private double range90To100RoiSum;
+
+    public UserExperimentStats(Integer userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * 실험 완료 1건 반영
+     */
+    public void applyCompleted(int score, double roi) {
+        completedCount++;
+        if (roi > 0) {
+            successCount++;
+        }
+
+        SCORERANGE scoreRange = toScoreRange(score);
+        if (scoreRange == null) {
+            return;
+        }
+        switch (scoreRange) {
+            case RANGE_0_59 -> {
+                range0To59Count++;
+                range0To59RoiSum += roi;
+            }
+            case RANGE_60_69 -> {
+                range60To69Count++;
+                range60To69RoiSum += roi;
+            }
+            case RANGE_70_79 -> {
+                range70To79Count++;
+                range70To79RoiSum += roi;
+            }
+            case RANGE_80_89 -> {
+                range80To89Count++;
+                range80To89RoiSum += roi;
+            }
+            case RANGE_90_100 -> {
+                range90To100Count++;
+                range90To100RoiSum += roi;
+            }
+        }
+    }
+
+    /**
+     * 성공률 (%, 소수 첫째 자리 반올림). 완료 실험이 없으면 0.0
+     */
+    public double getSuccessRate() {
+        return toSuccessRate(successCount, completedCount);
+    }
+
+    public int getCount(SCORERANGE scoreRange) {
+        return switch (scoreRange) {
+            case RANGE_0_59 -> range0To59Count;
+            case RANGE_60_69 -> range60To69Count;
+            case RANGE_70_79 -> range70To79Count;
+            case RANGE_80_89 -> range80To89Count;
+            case RANGE_90_100 -> range90To100Count;
+        };
+    }
+
+    public double getRoiSum(SCORERANGE scoreRange) {
+        return switch (scoreRange) {
+            case RANGE_0_59 -> range0To59RoiSum;
+            case RANGE_60_69 -> range60To69RoiSum;
+            case RANGE_70_79 -> range70To79RoiSum;
+            case RANGE_80_89 -> range80To89RoiSum;
+            case RANGE_90_100 -> range90To100RoiSum;
+        };
+    }
+
+    /**
+     * 점수 구간 평균 수익률 (데이터 없으면 0.0)
+     */
+    public double getAvgRoi(SCORERANGE scoreRange) {
+        int count = getCount(scoreRange);
+        return count == 0 ? 0.0 : getRoiSum(scoreRange) / count;
+    }
+
+    public static double toSuccessRate(int successCount, int completedCount) {
+        return completedCount == 0 ? 0.0 : Math.round(successCount * 1000.0 / completedCount) / 10.0;
+    }
+
+    /**
+     * 인간지표 점수 -> 점수 구간 (0~100 범위 밖이면 null)
+     */
+    public static SCORERANGE toScoreRange(int score) {
+        if (score < 0 || score > 100) {
+            return null;
+        }
+        if (score < 60) {
+            return SCORERANGE.RANGE_0_59;
+        }
+        if (score < 70) {
+            return SCORERANGE.RANGE_60_69;
+        }
+        if (score < 80) {
+            return SCORERANGE.RANGE_70_79;
+        }
+        if (score < 90) {
+            return SCORERANGE.RANGE_80_89;
+        }
+        return SCORERANGE.RANGE_90_100;
+    }
+}
@@ -0,0 +1,58 @@
+package com.fund.stockProject.experiment.entity;
+
+import com.fund.stockProject.experiment.domain.INVESTMENTPATTERN;
+import com.fund.stockProject.global.entity.Core;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 투자 패턴 (완료된 실험 전체 이력 기준, 배치로 갱신)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "user_investment_pattern",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_user_investment_pattern_user",
+        columnNames = {"user_id"}
+    )
+)
+public class UserInvestmentPattern extends Core {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "pattern_type", nullable = false, length = 32)
+    private INVESTMENTPATTERN patternType;
+
+    @Column(name = "experiment_count", nullable = false)
+    private int experimentCount; // 분류에 사용한 완료 실험 수
+
+    @Column(name = "value_preemptive_sum", nullable = false)
+    private double valuePreemptiveSum;
+
+    @Column(name = "trend_preemptive_sum", nullable = false)
+    private double trendPreemptiveSum;
+
+    @Column(name = "reverse_investor_sum", nullable = false)
+    private double reverseInvestorSum;
+
+    @Column(name = "lagging_follower_sum", nullable = false)
+    private double laggingFollowerSum;
+}
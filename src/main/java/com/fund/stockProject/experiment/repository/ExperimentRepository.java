@@ -1,27 +1,29 @@
 package com.fund.stockProject.experiment.repository;
 
 import com.fund.stockProject.experiment.entity.Experiment;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ExperimentRepository extends JpaRepository<Experiment, Integer> {
-    @Query("SELECT e FROM Experiment e JOIN e.user u  WHERE u.email = :email ORDER BY e.roi ASC")
-    List<Experiment> findExperimentsByEmail(@Param("email") String email); // 이메일을 기준으로 해당 유저의 실험정보 조회
+    @Query("SELECT e FROM Experiment e JOIN FETCH e.stock JOIN e.user u WHERE u.email = :email ORDER BY e.roi ASC")
+    List<Experiment> findExperimentsWithStockByEmail(@Param("email") String email); // 종목까지 한 번에 조회 (매수 현황)
 
     @Query("SELECT COUNT(e) FROM Experiment e WHERE e.status = :status")
     int countExperimentsByStatus(@Param("status") String status); // 상태(진행/완료) 별 실험 개수
 
-    @Query("SELECT COUNT(e) FROM Experiment e JOIN e.user u WHERE u.email = :email AND e.status = :status")
-    int countExperimentsByEmailAndStatus(@Param("email") String email, @Param("status") String status); // 이메일과 상태별 실험 개수
-
     @Query("SELECT e FROM Experiment e JOIN e.user u  WHERE u.email = :email and e.status = :status ORDER BY e.roi ASC")
     List<Experiment> findExperimentsByEmailAndStatus(@Param("email") String email, @Param("status") String status); // 이메일과 완료된 실험을 기준으로 해당 유저의 실험정보 조회
 
@@ -37,124 +39,70 @@ public interface ExperimentRepository extends JpaRepository<Experiment, Integer>
     @Query("SELECT e FROM Experiment e WHERE e.stock.id = :stockId AND e.user.id = :userId AND e.status = 'PROGRESS'")
     Optional<Experiment> findProgressExperimentByUserAndStock(@Param("userId") Integer userId, @Param("stockId") Integer stockId);
 
+    // 진행 중인 동일 종목 실험과 당일 동일 종목 매수가 모두 없을 때만 매수 실험 저장 (0이면 중복 매수)
+    @Modifying
+    @Query(value = "INSERT INTO experiment (stock_id, user_id, buy_at, sell_due_date, buy_price, roi, status, score) "
+        + "SELECT :stockId, :userId, :buyAt, :sellDueDate, :buyPrice, 0, 'PROGRESS', :score FROM DUAL "
+        + "WHERE NOT EXISTS (SELECT 1 FROM experiment e WHERE e.user_id = :userId AND e.stock_id = :stockId "
+        + "AND (e.status = 'PROGRESS' OR (e.buy_at >= :startOfDay AND e.buy_at < :endOfDay)))", nativeQuery = true)
+    int insertProgressExperimentIfAbsent(@Param("userId") Integer userId, @Param("stockId") Integer stockId,
+                                         @Param("buyAt") LocalDateTime buyAt, @Param("sellDueDate") LocalDate sellDueDate,
+                                         @Param("buyPrice") double buyPrice, @Param("score") int score,
+                                         @Param("startOfDay") LocalDateTime startOfDay, @Param("endOfDay") LocalDateTime endOfDay);
+
     @Query("SELECT count(e) FROM Experiment e WHERE e.buyAt BETWEEN :startOfWeek and :endOfWeek")
     int countExperimentsForWeek(@Param("startOfWeek") LocalDateTime startOfWeek, @Param("endOfWeek") LocalDateTime endOfWeek);
 
     @Query("SELECT e FROM Experiment e JOIN e.user u  WHERE u.email = :email and e.status = :status ORDER BY e.roi ASC")
     List<Experiment> findAllExperimentsByEmailAndStatus(@Param("email") String email, @Param("status") String status); // 이메일과 완료된 실험을 기준으로 해당 유저의 실험정보 조회
 
-    @Query("SELECT e FROM Experiment e JOIN FETCH e.stock WHERE e.status = 'PROGRESS'")
-    List<Experiment> findProgressExperimentsWithStock();
+    @Query("SELECT e FROM Experiment e JOIN FETCH e.stock WHERE e.status = 'PROGRESS' AND e.sellDueDate <= :today ORDER BY e.stock.id")
+    List<Experiment> findDueExperimentsWithStock(@Param("today") LocalDate today); // 자동 매도 대상 (status, sell_due_date 인덱스)
 
-    @Query("SELECT e FROM Experiment e JOIN FETCH e.stock WHERE e.buyAt > :start AND e.status = :status")
-    List<Experiment> findProgressExperiments(@Param("start") LocalDateTime start, @Param("status") String status);
+    @Query("SELECT COUNT(DISTINCT e.user.id) FROM Experiment e WHERE e.status = 'COMPLETE'")
+    long countUsersWithCompletedExperiments(); // 완료된 실험이 있는 유저 수 (user_experiment_stats 행 수와 비교)
 
-    @Query("SELECT AVG(e.roi) FROM Experiment e WHERE e.score BETWEEN :start AND :end AND e.user.email = :email AND e.status = 'COMPLETE'")
-    Double findUserAvgRoi(@Param("start") int start, @Param("end") int end, @Param("email") String email);
+    @Query("SELECT COUNT(e) > 0 FROM Experiment e WHERE e.user.id = :userId AND e.status = 'COMPLETE'")
+    boolean existsCompletedByUserId(@Param("userId") Integer userId);
 
-    @Query("SELECT AVG(e.roi) FROM Experiment e WHERE e.score BETWEEN :start AND :end AND e.status = 'COMPLETE'")
-    Double findTotalAvgRoi(@Param("start") int start, @Param("end") int end);
+    // 완료된 실험 전체를 유저 순으로 스트리밍 [userId, score, roi] (MySQL 행 단위 fetch, 트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT e.user.id, e.score, e.roi FROM Experiment e WHERE e.status = 'COMPLETE' AND e.roi IS NOT NULL ORDER BY e.user.id")
+    Stream<Object[]> streamCompletedScoreAndRoiOrderByUser();
 
-    @Query(value = "SELECT ROUND(IFNULL(profitable.cnt, 0) / total.cnt * 100, 1) AS ratio "
-        + "FROM ( "
-        + " SELECT u.email, COUNT(e.id) AS cnt "
-        + " FROM experiment e "
-        + " JOIN users u ON e.user_id = u.id "
-        + " WHERE e.status = 'COMPLETE' "
-        + " GROUP BY u.email "
-        + " ) AS total "
-        + "LEFT JOIN "
-        + " ( "
-        + " SELECT u.email, COUNT(e.id) AS cnt "
-        + " FROM experiment e "
-        + " JOIN users u ON e.user_id = u.id "
-        + " WHERE e.status = 'COMPLETE' AND e.roi > 0 "
-        + " GROUP BY u.email "
-        + " ) AS profitable "
-        + "ON total.email = profitable.email "
-        + "WHERE total.email = :email ", nativeQuery = true)
-    double findSuccessExperimentRate(@Param("email") String email);
-
-    @Query(value = "SELECT count(*) "
-        + "FROM "
-        + "( "
-        + "  SELECT ROUND(IFNULL(profitable.cnt, 0) / total.cnt * 100, 1) AS ratio "
-        + "  FROM "
-        + "  ( SELECT u.email, COUNT(e.id) AS cnt "
-        + "    FROM experiment e "
-        + "    JOIN users u ON e.user_id = u.id "
-        + "    WHERE e.status = 'COMPLETE' "
-        + "    GROUP BY u.email "
-        + "    HAVING COUNT(e.id) > 0 "
-        + "   ) AS total "
-        + " LEFT JOIN "
-        + "  ( "
-        + "    SELECT u.email, COUNT(e.id) AS cnt "
-        + "    FROM experiment e "
-        + "    JOIN users u ON e.user_id = u.id "
-        + "    WHERE e.status = 'COMPLETE' AND e.roi > 0 "
-        + "    GROUP BY u.email "
-        + "  ) AS profitable "
-        + " ON total.email = profitable.email "
-        + "  WHERE total.cnt > 0 "
-        + ") a "
-        + "WHERE a.ratio BETWEEN :startRange AND :endRange", nativeQuery = true)
-    int countSameGradeUser(@Param("startRange") int startRange, @Param("endRange") int endRange);
-
-    @Query(value = "SELECT count(*) "
-        + "FROM "
-        + "( "
-        + "  SELECT ROUND(IFNULL(profitable.cnt, 0) / total.cnt * 100, 1) AS ratio "
-        + "  FROM "
-        + "  ( SELECT u.email, COUNT(e.id) AS cnt "
-        + "    FROM experiment e "
-        + "    JOIN users u ON e.user_id = u.id "
-        + "    WHERE e.status = 'COMPLETE' "
-        + "    GROUP BY u.email "
-        + "    HAVING COUNT(e.id) > 0 "
-        + "   ) AS total "
-        + " LEFT JOIN "
-        + "  ( "
-        + "    SELECT u.email, COUNT(e.id) AS cnt "
-        + "    FROM experiment e "
-        + "    JOIN users u ON e.user_id = u.id "
-        + "    WHERE e.status = 'COMPLETE' AND e.roi > 0 "
-        + "    GROUP BY u.email "
-        + "  ) AS profitable "
-        + " ON total.email = profitable.email "
-        + "  WHERE total.cnt > 0 "
-        + ") a "
-        + "WHERE a.ratio >= :startRange AND a.ratio < :endRange", nativeQuery = true)
-    int countUsersBySuccessRateRange(@Param("startRange") double startRange, @Param("endRange") double endRange);
-
-    @Query(value = "SELECT count(*) "
-        + "FROM "
-        + "( "
-        + "  SELECT ROUND(IFNULL(profitable.cnt, 0) / total.cnt * 100, 1) AS ratio "
-        + "  FROM "
-        + "  ( SELECT u.email, COUNT(e.id) AS cnt "
-        + "    FROM experiment e "
-        + "    JOIN users u ON e.user_id = u.id "
-        + "    WHERE e.status = 'COMPLETE' "
-        + "    GROUP BY u.email "
-        + "    HAVING COUNT(e.id) > 0 "
-        + "   ) AS total "
-        + " LEFT JOIN "
-        + "  ( "
-        + "    SELECT u.email, COUNT(e.id) AS cnt "
-        + "    FROM experiment e "
-        + "    JOIN users u ON e.user_id = u.id "
-        + "    WHERE e.status = 'COMPLETE' AND e.roi > 0 "
-        + "    GROUP BY u.email "
-        + "  ) AS profitable "
-        + " ON total.email = profitable.email "
-        + "  WHERE total.cnt > 0 "
-        + ") a "
-        + "WHERE a.ratio >= :startRange", nativeQuery = true)
-    int countUsersBySuccessRateAtLeast(@Param("startRange") double startRange);
+    @Query(value = "SELECT DISTINCT DATE(e.buy_at) FROM experiment e WHERE e.status = 'PROGRESS'", nativeQuery = true)
+    List<Object> findProgressBuyDates(); // 진행 중 실험의 매수일 목록
 
-    @Query("SELECT COUNT(DISTINCT e.user.id) FROM Experiment e WHERE e.status = 'COMPLETE'")
-    long countUsersWithCompletedExperiments();
+    @Modifying
+    @Query("UPDATE Experiment e SET e.sellDueDate = :sellDueDate "
+        + "WHERE e.status = 'PROGRESS' AND e.buyAt >= :start AND e.buyAt < :end "
+        + "AND (e.sellDueDate IS NULL OR e.sellDueDate <> :sellDueDate)")
+    int updateProgressSellDueDate(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+                                  @Param("sellDueDate") LocalDate sellDueDate); // 매수일 단위 자동 매도 예정일 보정
+
+    @Query("SELECT e FROM Experiment e JOIN FETCH e.stock WHERE e.status = 'PROGRESS' AND e.sellDueDate >= :today ORDER BY e.stock.id")
+    List<Experiment> findProgressExperimentsWithStockDueFrom(@Param("today") LocalDate today); // 진행 데이터 수집 대상 (자동 매도 전 또는 당일)
+
+    @Modifying
+    @Query(value = "UPDATE experiment "
+        + "SET roi = (:price - buy_price) / buy_price * 100 "
+        + "WHERE id IN (:experimentIds) "
+        + "AND status = 'PROGRESS' ", nativeQuery = true)
+    int updateProgressRoi(@Param("experimentIds") List<Integer> experimentIds, @Param("price") double price); // 같은 종목 진행 실험 수익률 일괄 갱신
+
+    @Modifying
+    @Query(value = "UPDATE experiment "
+        + "SET sell_price = :sellPrice, "
+        + "    sell_at = :sellAt, "
+        + "    roi = (:sellPrice - buy_price) / buy_price * 100, "
+        + "    status = 'COMPLETE' "
+        + "WHERE id IN (:experimentIds) "
+        + "AND status = 'PROGRESS' ", nativeQuery = true)
+    int completeExperiments(@Param("experimentIds") List<Integer> experimentIds, @Param("sellPrice") double sellPrice,
+                            @Param("sellAt") LocalDateTime sellAt); // 같은 종목 실험 일괄 매도
+
+    @Query("SELECT e FROM Experiment e JOIN FETCH e.stock WHERE e.buyAt > :start AND e.status = :status")
+    List<Experiment> findProgressExperiments(@Param("start") LocalDateTime start, @Param("status") String status);
 
     @Query(value = "SELECT "
         + "    sub.buy_date, "
@@ -15,9 +15,24 @@ public interface ExperimentTradeItemRepository extends JpaRepository<ExperimentT
     @Query("SELECT e FROM ExperimentTradeItem e WHERE e.experiment.id = :experimentId ORDER BY e.tradeAt ASC")
     List<ExperimentTradeItem> findExperimentTradeItemsByExperimentId(@Param("experimentId") Integer experimentId);
 
-    @Query("SELECT e FROM ExperimentTradeItem e WHERE e.experiment.id = :experimentId AND e.tradeAt BETWEEN :start and :end ORDER BY e.tradeAt")
-    List<ExperimentTradeItem> findExperimentTradeItemsForToday(@Param("experimentId") Integer experimentId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    // 실험별 가장 최근 거래 항목의 점수 [experimentId, score] (같은 시각이면 id가 큰 행이 뒤에 옴)
+    @Query("SELECT t.experiment.id, t.score FROM ExperimentTradeItem t "
+        + "WHERE t.experiment.id IN :experimentIds "
+        + "AND t.tradeAt = (SELECT MAX(t2.tradeAt) FROM ExperimentTradeItem t2 WHERE t2.experiment.id = t.experiment.id) "
+        + "ORDER BY t.id ASC")
+    List<Object[]> findLatestTradeScoresByExperimentIds(@Param("experimentIds") List<Integer> experimentIds);
+
     
+    @Query("SELECT DISTINCT e.experiment.id FROM ExperimentTradeItem e WHERE e.experiment.id IN :experimentIds AND e.tradeAt BETWEEN :start and :end")
+    List<Integer> findExperimentIdsWithTradeItemBetween(@Param("experimentIds") List<Integer> experimentIds, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 같은 트랜잭션에서 방금 INSERT 한 실험의 매수 거래 항목 저장
+    @Modifying
+    @Query(value = "INSERT INTO experiment_trade_item (experiment_id, trade_at, price, score, roi) "
+        + "VALUES (LAST_INSERT_ID(), :tradeAt, :price, :score, 0)", nativeQuery = true)
+    int insertBuyTradeItemForLastInsertedExperiment(@Param("tradeAt") LocalDateTime tradeAt, @Param("price") double price,
+                                                    @Param("score") int score);
+
     // 사용자의 모든 실험 거래 항목 삭제
     @Modifying
     @Transactional
@@ -0,0 +1,20 @@
+package com.fund.stockProject.experiment.repository;
+
+import com.fund.stockProject.experiment.entity.MarketHoliday;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MarketHolidayRepository extends JpaRepository<MarketHoliday, Long> {
+
+    List<MarketHoliday> findByHolidayDateBetween(LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @Query("DELETE FROM MarketHoliday h WHERE h.holidayDate BETWEEN :startDate AND :endDate")
+    int deleteByHolidayDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,73 @@
+package com.fund.stockProject.experiment.repository;
+
+import com.fund.stockProject.experiment.entity.UserExperimentStats;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface UserExperimentStatsRepository extends JpaRepository<UserExperimentStats, Long> {
+
+    // experiment 테이블의 완료 실험으로 유저별 통계를 다시 계산 (INSERT ... SELECT ... GROUP BY user_id)
+    String REBUILD_SQL = "INSERT INTO user_experiment_stats ("
+        + "  user_id, completed_count, success_count, "
+        + "  range_0_59_count, range_0_59_roi_sum, range_60_69_count, range_60_69_roi_sum, "
+        + "  range_70_79_count, range_70_79_roi_sum, range_80_89_count, range_80_89_roi_sum, "
+        + "  range_90_100_count, range_90_100_roi_sum, created_at, modified_at) "
+        + "SELECT e.user_id, COUNT(*), SUM(CASE WHEN e.roi > 0 THEN 1 ELSE 0 END), "
+        + "  SUM(CASE WHEN e.score BETWEEN 0 AND 59 THEN 1 ELSE 0 END), SUM(CASE WHEN e.score BETWEEN 0 AND 59 THEN e.roi ELSE 0 END), "
+        + "  SUM(CASE WHEN e.score BETWEEN 60 AND 69 THEN 1 ELSE 0 END), SUM(CASE WHEN e.score BETWEEN 60 AND 69 THEN e.roi ELSE 0 END), "
+        + "  SUM(CASE WHEN e.score BETWEEN 70 AND 79 THEN 1 ELSE 0 END), SUM(CASE WHEN e.score BETWEEN 70 AND 79 THEN e.roi ELSE 0 END), "
+        + "  SUM(CASE WHEN e.score BETWEEN 80 AND 89 THEN 1 ELSE 0 END), SUM(CASE WHEN e.score BETWEEN 80 AND 89 THEN e.roi ELSE 0 END), "
+        + "  SUM(CASE WHEN e.score BETWEEN 90 AND 100 THEN 1 ELSE 0 END), SUM(CASE WHEN e.score BETWEEN 90 AND 100 THEN e.roi ELSE 0 END), "
+        + "  NOW(), NOW() "
+        + "FROM experiment e "
+        + "WHERE e.status = 'COMPLETE' ";
+
+    String REBUILD_ON_DUPLICATE = "GROUP BY e.user_id "
+        + "ON DUPLICATE KEY UPDATE "
+        + "  completed_count = VALUES(completed_count), success_count = VALUES(success_count), "
+        + "  range_0_59_count = VALUES(range_0_59_count), range_0_59_roi_sum = VALUES(range_0_59_roi_sum), "
+        + "  range_60_69_count = VALUES(range_60_69_count), range_60_69_roi_sum = VALUES(range_60_69_roi_sum), "
+        + "  range_70_79_count = VALUES(range_70_79_count), range_70_79_roi_sum = VALUES(range_70_79_roi_sum), "
+        + "  range_80_89_count = VALUES(range_80_89_count), range_80_89_roi_sum = VALUES(range_80_89_roi_sum), "
+        + "  range_90_100_count = VALUES(range_90_100_count), range_90_100_roi_sum = VALUES(range_90_100_roi_sum), "
+        + "  modified_at = VALUES(modified_at)";
+
+    Optional<UserExperimentStats> findByUserId(Integer userId);
+
+    @Modifying
+    @Transactional
+    @Query(value = REBUILD_SQL + REBUILD_ON_DUPLICATE, nativeQuery = true)
+    int rebuildAll();
+
+    @Modifying
+    @Query(value = REBUILD_SQL + "AND e.user_id = :userId " + REBUILD_ON_DUPLICATE, nativeQuery = true)
+    int rebuildByUserId(@Param("userId") Integer userId);
+
+    // 전체 유저 합계 [range_0_59_count, range_0_59_roi_sum, ..., range_90_100_count, range_90_100_roi_sum]
+    @Query(value = "SELECT "
+        + "  COALESCE(SUM(range_0_59_count), 0), COALESCE(SUM(range_0_59_roi_sum), 0), "
+        + "  COALESCE(SUM(range_60_69_count), 0), COALESCE(SUM(range_60_69_roi_sum), 0), "
+        + "  COALESCE(SUM(range_70_79_count), 0), COALESCE(SUM(range_70_79_roi_sum), 0), "
+        + "  COALESCE(SUM(range_80_89_count), 0), COALESCE(SUM(range_80_89_roi_sum), 0), "
+        + "  COALESCE(SUM(range_90_100_count), 0), COALESCE(SUM(range_90_100_roi_sum), 0) "
+        + "FROM user_experiment_stats", nativeQuery = true)
+    List<Object[]> sumScoreRangeTotals();
+
+    // 유저별 성공률(소수 첫째 자리 반올림) 분포 [ratio, user_count]
+    @Query(value = "SELECT ROUND(s.success_count / s.completed_count * 100, 1) AS ratio, COUNT(*) AS user_count "
+        + "FROM user_experiment_stats s "
+        + "WHERE s.completed_count > 0 "
+        + "GROUP BY ratio", nativeQuery = true)
+    List<Object[]> countUsersGroupBySuccessRate();
+
+    @Modifying
+    @Query("DELETE FROM UserExperimentStats s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Integer userId);
+}
@@ -0,0 +1,21 @@
+package com.fund.stockProject.experiment.repository;
+
+import com.fund.stockProject.experiment.entity.UserInvestmentPattern;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserInvestmentPatternRepository extends JpaRepository<UserInvestmentPattern, Long> {
+
+    // 패턴별 유저 수 [patternType, user_count]
+    @Query("SELECT p.patternType, COUNT(p) FROM UserInvestmentPattern p GROUP BY p.patternType")
+    List<Object[]> countUsersGroupByPatternType();
+
+    @Modifying
+    @Query("DELETE FROM UserInvestmentPattern p WHERE p.userId = :userId")
+    int deleteByUserId(@Param("userId") Integer userId);
+}
@@ -0,0 +1,180 @@
+package com.fund.stockProject.experiment.service;
+
+import com.fund.stockProject.experiment.entity.Experiment;
+import com.fund.stockProject.experiment.entity.ExperimentTradeItem;
+import com.fund.stockProject.experiment.repository.ExperimentRepository;
+import com.fund.stockProject.experiment.repository.ExperimentTradeItemRepository;
+import com.fund.stockProject.score.entity.Score;
+import com.fund.stockProject.score.repository.ScoreRepository;
+import com.fund.stockProject.stock.domain.COUNTRY;
+import com.fund.stockProject.stock.domain.EXCHANGENUM;
+import com.fund.stockProject.stock.dto.response.StockInfoResponse;
+import com.fund.stockProject.stock.entity.Stock;
+import com.fund.stockProject.stock.service.SecurityService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 모의투자 자동 매도
+ *
+ * 1. 자동 매도 예정일(sellDueDate)이 오늘 이전인 실험만 조회
+ * 2. 종목별로 묶어 종목당 한 번만 시세 조회 (동시 요청 수 제한)
+ * 3. 종목 단위 트랜잭션에서 해당 종목의 실험을 UPDATE 1회로 완료 처리하고 trade item 을 함께 저장
+ * 시세를 받지 못한 종목의 실험은 PROGRESS 로 남아 다음 실행에서 다시 처리됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExperimentAutoSellService {
+
+    private static final ZoneId ASIA_SEOUL = ZoneId.of("Asia/Seoul");
+    private static final Duration PRICE_FETCH_TIMEOUT = Duration.ofMinutes(5); // 전체 시세 조회 상한
+
+    private final ExperimentRepository experimentRepository;
+    private final ExperimentTradeItemRepository experimentTradeItemRepository;
+    private final ScoreRepository scoreRepository;
+    private final SecurityService securityService;
+    private final UserExperimentStatsService userExperimentStatsService;
+    private final PlatformTransactionManager transactionManager;
+
+    public AutoSellResult sellDueExperiments() {
+        final LocalDate today = LocalDate.now(ASIA_SEOUL);
+        final List<Experiment> dueExperiments = experimentRepository.findDueExperimentsWithStock(today);
+        if (dueExperiments.isEmpty()) {
+            return new AutoSellResult(0, 0, 0, 0);
+        }
+
+        // 종목별 묶음 (필수 값이 없는 실험은 실패 처리)
+        final Map<Integer, List<Experiment>> experimentsByStockId = new LinkedHashMap<>();
+        final Map<Integer, Stock> stockById = new LinkedHashMap<>();
+        int failureCount = 0;
+        for (Experiment experiment : dueExperiments) {
+            final Stock stock = experiment.getStock();
+            if (stock.getSymbol() == null || stock.getExchangeNum() == null || !isPositiveFinite(experiment.getBuyPrice())) {
+                log.error("Skipping auto-sell for invalid experiment - experimentId: {}, stockId: {}, buyPrice: {}",
+                    experiment.getId(), stock.getId(), experiment.getBuyPrice());
+                failureCount++;
+                continue;
+            }
+            stockById.putIfAbsent(stock.getId(), stock);
+            experimentsByStockId.computeIfAbsent(stock.getId(), id -> new ArrayList<>()).add(experiment);
+        }
+
+        // 종목당 시세 1회, 동시 조회 (실패한 종목은 결과에서 빠짐)
+        Map<Integer, StockInfoResponse> priceByStockId = Map.of();
+        try {
+            final Map<Integer, StockInfoResponse> prices = securityService.getRealTimeStockPrices(stockById.values())
+                .block(PRICE_FETCH_TIMEOUT);
+            if (prices != null) {
+                priceByStockId = prices;
+            }
+        } catch (Exception e) {
+            log.error("Failed to fetch prices for auto-sell - stocks: {}", stockById.size(), e);
+        }
+
+        // trade item 점수용 최신 점수
+        final Map<Integer, Score> latestScoreByStockId = new HashMap<>();
+        for (Score score : scoreRepository.findLatestScoresByStockIds(new ArrayList<>(stockById.keySet()))) {
+            latestScoreByStockId.put(score.getStockId(), score);
+        }
+
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        final LocalDateTime sellAt = LocalDateTime.now();
+        int successCount = 0;
+        int soldStockCount = 0;
+        for (Map.Entry<Integer, List<Experiment>> entry : experimentsByStockId.entrySet()) {
+            final Stock stock = stockById.get(entry.getKey());
+            final List<Experiment> experiments = entry.getValue();
+            final StockInfoResponse stockInfo = priceByStockId.get(stock.getId());
+            final Double price = stockInfo != null ? stockInfo.getPrice() : null;
+            if (!isPositiveFinite(price)) {
+                log.warn("Invalid sell price for auto-sell - stockId: {}, experiments: {}, price: {}",
+                    stock.getId(), experiments.size(), price);
+                failureCount += experiments.size();
+                continue;
+            }
+
+            try {
+                final Integer completed = transactionTemplate.execute(status ->
+                    completeStockExperiments(stock, experiments, price, sellAt, latestScoreByStockId.get(stock.getId())));
+                successCount += completed == null ? 0 : completed;
+                failureCount += experiments.size() - (completed == null ? 0 : completed);
+                soldStockCount++;
+            } catch (Exception e) {
+                log.error("Failed to auto-sell experiments - stockId: {}, experiments: {}",
+                    stock.getId(), experiments.size(), e);
+                failureCount += experiments.size();
+            }
+        }
+
+        return new AutoSellResult(dueExperiments.size(), soldStockCount, successCount, failureCount);
+    }
+
+    private int completeStockExperiments(Stock stock, List<Experiment> experiments, double price, LocalDateTime sellAt,
+                                         Score latestScore) {
+        final List<Integer> experimentIds = experiments.stream().map(Experiment::getId).toList();
+        final int updated = experimentRepository.completeExperiments(experimentIds, price, sellAt);
+        if (updated != experimentIds.size()) {
+            // 이미 완료된 실험이 섞인 경우: 통계 중복 반영을 막기 위해 종목 전체를 다음 실행으로 넘김
+            throw new IllegalStateException("Experiments changed during auto-sell - stockId: " + stock.getId()
+                + ", expected: " + experimentIds.size() + ", updated: " + updated);
+        }
+
+        final COUNTRY country = getCountryFromExchangeNum(stock.getExchangeNum());
+        final List<ExperimentTradeItem> tradeItems = new ArrayList<>(experiments.size());
+        for (Experiment experiment : experiments) {
+            final double roi = (price - experiment.getBuyPrice()) / experiment.getBuyPrice() * 100;
+            int score = experiment.getScore(); // 기본값은 실험의 점수
+            if (latestScore != null) {
+                score = COUNTRY.KOREA.equals(country) ? latestScore.getScoreKorea() : latestScore.getScoreOversea();
+            }
+
+            tradeItems.add(ExperimentTradeItem.builder()
+                .experiment(experiment)
+                .price(price)
+                .roi(roi)
+                .score(score)
+                .tradeAt(sellAt)
+                .build());
+
+            // 유저 통계 및 전체 성공률 분포에 완료 1건 반영
+            userExperimentStatsService.onExperimentCompleted(experiment.getUser().getId(), experiment.getScore(), roi);
+        }
+        experimentTradeItemRepository.saveAll(tradeItems);
+
+        log.info("Auto-sell completed - stockId: {}, experiments: {}, price: {}", stock.getId(), experiments.size(), price);
+        return updated;
+    }
+
+    private COUNTRY getCountryFromExchangeNum(EXCHANGENUM exchangenum) {
+        return List.of(EXCHANGENUM.KOSPI, EXCHANGENUM.KOSDAQ, EXCHANGENUM.KOREAN_ETF).contains(exchangenum)
+            ? COUNTRY.KOREA : COUNTRY.OVERSEA;
+    }
+
+    private boolean isPositiveFinite(Double value) {
+        return value != null && Double.isFinite(value) && value > 0;
+    }
+
+    /**
+     * 자동 매도 실행 결과
+     *
+     * @param dueCount 매도 대상 실험 수
+     * @param stockCount 매도 처리한 종목 수
+     * @param successCount 완료된 실험 수
+     * @param failureCount 다음 실행으로 넘어간 실험 수
+     */
+    public record AutoSellResult(int dueCount, int stockCount, int successCount, int failureCount) {
+    }
+}
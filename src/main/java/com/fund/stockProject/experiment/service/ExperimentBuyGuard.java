@@ -0,0 +1,119 @@
+package com.fund.stockProject.experiment.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모의 매수 멱등 키 (유저, 종목, 날짜)
+ *
+ * 같은 키의 매수 요청은 하나만 처리하고, 처리 중이거나 이미 매수한 요청은 DB/시세 조회 없이 바로 돌려보냅니다.
+ * 메모리에서 먼저 확인하고 Redis SET NX 로 인스턴스 간에도 공유합니다. Redis 장애 시에는 메모리 키만 사용합니다.
+ * 처리 중 키는 PENDING_TTL 후 자동 만료되고, 매수 완료 키는 그날 자정까지 유지됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExperimentBuyGuard {
+
+    private static final ZoneId ASIA_SEOUL = ZoneId.of("Asia/Seoul");
+    private static final String KEY_PREFIX = "experiment:buy:";
+    private static final String PENDING = "PENDING";
+    private static final String DONE = "DONE";
+    private static final Duration PENDING_TTL = Duration.ofSeconds(30); // 매수 처리 상한 (시세 조회 포함)
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<String, LocalEntry> localEntries = new ConcurrentHashMap<>();
+
+    public enum State {
+        ACQUIRED, // 이 요청이 처리
+        IN_PROGRESS, // 같은 매수 요청 처리 중
+        COMPLETED // 오늘 이미 매수 완료
+    }
+
+    public State tryAcquire(Integer userId, Integer stockId, LocalDate date) {
+        final String key = buildKey(userId, stockId, date);
+        final long now = System.currentTimeMillis();
+
+        // 1. 메모리 (같은 인스턴스로 들어온 연속 요청)
+        final LocalEntry pending = new LocalEntry(false, now + PENDING_TTL.toMillis());
+        final LocalEntry existing = localEntries.compute(key, (k, current) ->
+            current != null && current.expiresAt() > now ? current : pending);
+        if (existing != pending) {
+            return existing.done() ? State.COMPLETED : State.IN_PROGRESS;
+        }
+
+        // 2. Redis (다른 인스턴스로 들어온 요청)
+        try {
+            final Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, PENDING, PENDING_TTL);
+            if (Boolean.TRUE.equals(acquired)) {
+                return State.ACQUIRED;
+            }
+            final String value = stringRedisTemplate.opsForValue().get(key);
+            if (DONE.equals(value)) {
+                localEntries.put(key, new LocalEntry(true, endOfDayMillis(date)));
+                return State.COMPLETED;
+            }
+            localEntries.remove(key, pending);
+            return State.IN_PROGRESS;
+        } catch (Exception e) {
+            log.warn("Buy guard falling back to local key - key: {}, error: {}", key, e.getMessage());
+            return State.ACQUIRED;
+        }
+    }
+
+    /**
+     * 매수 완료 (그날 같은 종목 매수 요청은 바로 거절)
+     */
+    public void complete(Integer userId, Integer stockId, LocalDate date) {
+        final String key = buildKey(userId, stockId, date);
+        final long expiresAt = endOfDayMillis(date);
+        localEntries.put(key, new LocalEntry(true, expiresAt));
+        try {
+            final long ttlMillis = expiresAt - System.currentTimeMillis();
+            if (ttlMillis > 0) {
+                stringRedisTemplate.opsForValue().set(key, DONE, Duration.ofMillis(ttlMillis));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to mark buy guard completed - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 매수 실패 (같은 요청 재시도 허용)
+     */
+    public void release(Integer userId, Integer stockId, LocalDate date) {
+        final String key = buildKey(userId, stockId, date);
+        localEntries.remove(key);
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("Failed to release buy guard - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000L)
+    public void evictExpired() {
+        final long now = System.currentTimeMillis();
+        localEntries.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+    }
+
+    private String buildKey(Integer userId, Integer stockId, LocalDate date) {
+        return KEY_PREFIX + userId + ":" + stockId + ":" + date;
+    }
+
+    private long endOfDayMillis(LocalDate date) {
+        return date.plusDays(1).atStartOfDay(ASIA_SEOUL).toInstant().toEpochMilli();
+    }
+
+    private record LocalEntry(boolean done, long expiresAt) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.fund.stockProject.experiment.service;
+
+import com.fund.stockProject.experiment.domain.SCORERANGE;
+import com.fund.stockProject.experiment.entity.UserExperimentStats;
+import com.fund.stockProject.experiment.repository.UserExperimentStatsRepository;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 유저 기준 실험 통계 캐시 (모든 유저에게 같은 값)
+ *
+ * - 인간지표 점수 구간별 전체 수익률 합계/개수
+ * - 유저별 성공률 분포: 성공률(소수 첫째 자리) 단위 히스토그램
+ * user_experiment_stats 에서 한 번 읽은 뒤, 실험이 완료될 때마다 변경분만 반영합니다.
+ * 다른 인스턴스의 변경은 TTL 이 지나면 다시 읽어 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExperimentGlobalStatsCache {
+
+    private static final long TTL_MS = 10 * 60 * 1000L; // 10분
+    private static final int RATE_BUCKETS = 1001; // 성공률 0.0 ~ 100.0 을 10배 한 인덱스
+
+    private final UserExperimentStatsRepository userExperimentStatsRepository;
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null && System.currentTimeMillis() - current.loadedAt < TTL_MS) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null || System.currentTimeMillis() - snapshot.loadedAt >= TTL_MS) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * 한 유저의 실험 완료 1건을 반영합니다. (로드 전이면 다음 로드 때 반영되므로 무시)
+     *
+     * @param previous 반영 전 유저 통계 (첫 완료면 null)
+     * @param updated 반영 후 유저 성공률 상태
+     * @param score 완료된 실험의 매수 시점 점수
+     * @param roi 완료된 실험의 수익률
+     */
+    public synchronized void onExperimentCompleted(RateState previous, RateState updated, int score, double roi) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        int[] userCountBySuccessRate = current.userCountBySuccessRate.clone();
+        int completedUserCount = current.completedUserCount;
+        if (previous != null && previous.completedCount() > 0) {
+            userCountBySuccessRate[toIndex(previous.successRate())]--;
+        } else {
+            completedUserCount++;
+        }
+        userCountBySuccessRate[toIndex(updated.successRate())]++;
+
+        int[] countByScoreRange = current.countByScoreRange.clone();
+        double[] roiSumByScoreRange = current.roiSumByScoreRange.clone();
+        SCORERANGE scoreRange = UserExperimentStats.toScoreRange(score);
+        if (scoreRange != null) {
+            countByScoreRange[scoreRange.ordinal()]++;
+            roiSumByScoreRange[scoreRange.ordinal()] += roi;
+        }
+
+        snapshot = new Snapshot(countByScoreRange, roiSumByScoreRange, userCountBySuccessRate,
+            completedUserCount, current.loadedAt);
+    }
+
+    private Snapshot load() {
+        // 통계 행 시드는 기동 시 UserExperimentStatsService.seedMissingStats 에서 수행
+        int[] countByScoreRange = new int[SCORERANGE.values().length];
+        double[] roiSumByScoreRange = new double[SCORERANGE.values().length];
+        List<Object[]> totals = userExperimentStatsRepository.sumScoreRangeTotals();
+        if (!totals.isEmpty()) {
+            Object[] row = totals.get(0);
+            for (SCORERANGE scoreRange : SCORERANGE.values()) {
+                countByScoreRange[scoreRange.ordinal()] = ((Number) row[scoreRange.ordinal() * 2]).intValue();
+                roiSumByScoreRange[scoreRange.ordinal()] = ((Number) row[scoreRange.ordinal() * 2 + 1]).doubleValue();
+            }
+        }
+
+        int[] userCountBySuccessRate = new int[RATE_BUCKETS];
+        int completedUserCount = 0;
+        for (Object[] row : userExperimentStatsRepository.countUsersGroupBySuccessRate()) {
+            int count = ((Number) row[1]).intValue();
+            userCountBySuccessRate[toIndex(((Number) row[0]).doubleValue())] += count;
+            completedUserCount += count;
+        }
+
+        log.info("Experiment global stats loaded - completedUsers: {}", completedUserCount);
+        return new Snapshot(countByScoreRange, roiSumByScoreRange, userCountBySuccessRate,
+            completedUserCount, System.currentTimeMillis());
+    }
+
+    private static int toIndex(double rate) {
+        return Math.max(0, Math.min(RATE_BUCKETS - 1, (int) Math.round(rate * 10)));
+    }
+
+    /**
+     * 유저 성공률 상태 (반영 전/후)
+     */
+    public record RateState(int completedCount, double successRate) {
+    }
+
+    public static class Snapshot {
+        private final int[] countByScoreRange;
+        private final double[] roiSumByScoreRange;
+        private final int[] userCountBySuccessRate;
+        private final int completedUserCount;
+        private final long loadedAt;
+
+        private Snapshot(int[] countByScoreRange, double[] roiSumByScoreRange, int[] userCountBySuccessRate,
+                         int completedUserCount, long loadedAt) {
+            this.countByScoreRange = countByScoreRange;
+            this.roiSumByScoreRange = roiSumByScoreRange;
+            this.userCountBySuccessRate = userCountBySuccessRate;
+            this.completedUserCount = completedUserCount;
+            this.loadedAt = loadedAt;
+        }
+
+        /**
+         * 점수 구간 전체 유저 평균 수익률 (데이터 없으면 0.0)
+         */
+        public double getTotalAvgRoi(SCORERANGE scoreRange) {
+            int count = countByScoreRange[scoreRange.ordinal()];
+            return count == 0 ? 0.0 : roiSumByScoreRange[scoreRange.ordinal()] / count;
+        }
+
+        /**
+         * 완료된 실험이 있는 유저 수
+         */
+        public int getCompletedUserCount() {
+            return completedUserCount;
+        }
+
+        /**
+         * 성공률이 start 이상 end 이하인 유저 수
+         */
+        public int countUsersBetween(double start, double end) {
+            return sum(toIndex(start), toIndex(end));
+        }
+
+        /**
+         * 성공률이 start 이상 end 미만인 유저 수
+         */
+        public int countUsersInRange(double start, double end) {
+            return sum(toIndex(start), toIndex(end) - 1);
+        }
+
+        /**
+         * 성공률이 start 이상인 유저 수
+         */
+        public int countUsersAtLeast(double start) {
+            return sum(toIndex(start), RATE_BUCKETS - 1);
+        }
+
+        private int sum(int from, int to) {
+            return to < from ? 0 : Arrays.stream(userCountBySuccessRate, from, to + 1).sum();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.fund.stockProject.experiment.service;
+
+import com.fund.stockProject.experiment.repository.ExperimentRepository;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 진행 중 실험의 자동 매도 예정일(sellDueDate) 보정
+ *
+ * 예정일은 매수 시점의 영업일 달력으로 계산해 저장하므로, 공휴일이 새로 반영되면(임시공휴일, 다음 연도 발표)
+ * 진행 중 실험의 예정일을 매수일 단위로 다시 계산합니다. 기동 시에는 예정일이 없는 기존 실험도 채웁니다.
+ * 진행 중 실험은 최근 며칠치 매수일만 남으므로 매수일 수만큼의 UPDATE 로 끝납니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExperimentSellDueDateReconciler {
+
+    private final ExperimentRepository experimentRepository;
+    private final TradingCalendar tradingCalendar;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @EventListener
+    public void onCalendarChanged(TradingCalendar.CalendarChangedEvent event) {
+        log.info("Trading calendar changed - reconciling sell due dates, year: {}", event.year());
+        reconcile();
+    }
+
+    public synchronized int reconcile() {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int updatedCount = 0;
+        try {
+            for (LocalDate buyDate : findProgressBuyDates()) {
+                final LocalDate sellDueDate = tradingCalendar.nthBusinessDay(buyDate,
+                    ExperimentService.AUTO_SELL_BUSINESS_DAYS);
+                final Integer updated = transactionTemplate.execute(status ->
+                    experimentRepository.updateProgressSellDueDate(
+                        buyDate.atStartOfDay(), buyDate.plusDays(1).atStartOfDay(), sellDueDate));
+                updatedCount += updated == null ? 0 : updated;
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile sell due dates", e);
+        }
+
+        if (updatedCount > 0) {
+            log.info("Sell due dates reconciled - updated experiments: {}", updatedCount);
+        }
+        return updatedCount;
+    }
+
+    private List<LocalDate> findProgressBuyDates() {
+        final List<LocalDate> buyDates = new ArrayList<>();
+        for (Object value : experimentRepository.findProgressBuyDates()) {
+            if (value instanceof LocalDate localDate) {
+                buyDates.add(localDate);
+            } else if (value instanceof Date date) {
+                buyDates.add(date.toLocalDate());
+            }
+        }
+        return buyDates;
+    }
+}
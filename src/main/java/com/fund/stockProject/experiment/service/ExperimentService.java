@@ -1,7 +1,6 @@
 package com.fund.stockProject.experiment.service;
 
-import com.fund.stockProject.user.entity.User;
-import com.fund.stockProject.user.repository.UserRepository;
+import com.fund.stockProject.experiment.domain.INVESTMENTPATTERN;
 import com.fund.stockProject.experiment.domain.SCORERANGE;
 import com.fund.stockProject.experiment.dto.ExperimentReportResponse;
 import com.fund.stockProject.experiment.dto.ExperimentSimpleResponse;
@@ -14,6 +13,7 @@ import com.fund.stockProject.experiment.dto.ReportPatternDto;
 import com.fund.stockProject.experiment.dto.ReportStatisticDto;
 import com.fund.stockProject.experiment.entity.Experiment;
 import com.fund.stockProject.experiment.entity.ExperimentTradeItem;
+import com.fund.stockProject.experiment.entity.UserExperimentStats;
 import com.fund.stockProject.experiment.repository.ExperimentRepository;
 import com.fund.stockProject.experiment.repository.ExperimentTradeItemRepository;
 import com.fund.stockProject.score.entity.Score;
@@ -28,20 +28,26 @@ import com.fund.stockProject.stock.repository.StockRepository;
 import com.fund.stockProject.stock.service.SecurityService;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.fund.stockProject.portfolio.dto.PortfolioResultResponse;
 
 @Slf4j
@@ -50,23 +56,33 @@ import com.fund.stockProject.portfolio.dto.PortfolioResultResponse;
 public class ExperimentService {
 
     private static final ZoneId ASIA_SEOUL = ZoneId.of("Asia/Seoul");
+    static final int AUTO_SELL_BUSINESS_DAYS = 5; // 매수일 포함 5번째 영업일에 자동 매도
+    private static final Duration BUY_QUOTE_TIMEOUT = Duration.ofSeconds(3); // 매수 시세 조회 상한
 
     private final ExperimentRepository experimentRepository;
     private final StockRepository stockRepository;
-    private final UserRepository userRepository;
     private final ScoreRepository scoreRepository;
     private final SecurityService securityService;
     private final StockQueryRepository stockQueryRepository;
     private final ExperimentTradeItemRepository experimentTradeItemRepository;
-    private final HolidayService holidayService;
+    private final ExperimentGlobalStatsCache experimentGlobalStatsCache;
+    private final HumanIndicatorDistributionCache humanIndicatorDistributionCache;
+    private final InvestmentPatternService investmentPatternService;
+    private final UserExperimentStatsService userExperimentStatsService;
+    private final TradingCalendar tradingCalendar;
+    private final ExperimentBuyGuard experimentBuyGuard;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${experiment.buy.quote-max-staleness:PT10S}")
+    private Duration quoteMaxStaleness; // 매수에 재사용할 캐시 시세의 최대 경과 시간
 
     /*
      * 실험실 - 매수 현황
      * */
     public ExperimentStatusResponse getExperimentStatus(final CustomUserDetails customUserDetails) {
-        // 로그인한 유저 관련 모의 투자 정보 조회
-final List<Experiment> experimentsByUserId = experimentRepository.findExperimentsByEmail(
-    customUserDetails.getEmail());
+        // 로그인한 유저 관련 모의 투자 정보 조회 (종목 함께 조회)
+        final List<Experiment> experimentsByUserId = experimentRepository.findExperimentsWithStockByEmail(
+            customUserDetails.getEmail());
 
         if (experimentsByUserId.isEmpty()) {
             // 빈 실험일 때도 기본값을 가진 응답 반환 (에러가 아닌 빈 상태)
@@ -85,106 +101,72 @@ final List<Experiment> experimentsByUserId = experimentRepository.findExperiment
         // 완료된 모의 투자 종목
         final List<ExperimentInfoResponse> completeExperimentsInfo = new ArrayList<>();
 
-        // 진행중인 실험 수를 DB에서 직접 조회 (Experiment 엔티티의 status 필드 기반, StockInfo 조회와 무관)
-        final int countByStatusProgress = experimentRepository.countExperimentsByEmailAndStatus(
-            customUserDetails.getEmail(), "PROGRESS");
+        // 진행중인 실험 수 (Experiment 엔티티의 status 필드 기반, StockInfo 조회와 무관)
+        final int countByStatusProgress = (int) experimentsByUserId.stream()
+            .filter(experiment -> "PROGRESS".equals(experiment.getStatus()))
+            .count();
+
+        final List<Integer> experimentIds = experimentsByUserId.stream().map(Experiment::getId).toList();
+        final List<Stock> stocks = experimentsByUserId.stream()
+            .map(Experiment::getStock)
+            .filter(Objects::nonNull)
+            .toList();
+
+        // 실험별 최근 거래 항목 점수, 종목별 최신 점수를 각각 한 번에 조회
+        final Map<Integer, Integer> latestTradeScoreByExperimentId = new HashMap<>();
+        for (Object[] row : experimentTradeItemRepository.findLatestTradeScoresByExperimentIds(experimentIds)) {
+            latestTradeScoreByExperimentId.put((Integer) row[0], (Integer) row[1]);
+        }
+        final Map<Integer, Score> latestScoreByStockId = new HashMap<>();
+        for (Score score : scoreRepository.findLatestScoresByStockIds(
+            stocks.stream().map(Stock::getId).distinct().toList())) {
+            latestScoreByStockId.put(score.getStockId(), score);
+        }
+
+        // 현재 가격은 종목 단위로 동시에 조회 (실패한 종목은 매수가 사용)
+        Map<Integer, StockInfoResponse> priceByStockId = Map.of();
+        try {
+            final Map<Integer, StockInfoResponse> prices = securityService.getRealTimeStockPrices(stocks).block();
+            if (prices != null) {
+                priceByStockId = prices;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to get StockInfo in batch, will use default values - experiments: {}", experimentIds.size(), e);
+        }
 
         // 로그인한 유저 관련 모의 투자 정보 조회 진행/완료 리스트에 저장
         for (final Experiment experiment : experimentsByUserId) {
-            final Optional<Stock> bySymbol = stockRepository.findBySymbol(experiment.getStock().getSymbol());
+            final Stock stock = experiment.getStock();
 
-            if (bySymbol.isEmpty()) {
-                log.warn("Stock not found for symbol: {}, experimentId: {}", 
-                    experiment.getStock().getSymbol(), experiment.getId());
+            if (stock == null) {
+                log.warn("Stock not found for experimentId: {}", experiment.getId());
                 continue; // 해당 실험을 건너뛰고 다음 실험 처리
             }
 
-            final Stock stock = bySymbol.get();
-
-            // StockInfo 조회 시 타임아웃이나 에러 처리
-            StockInfoResponse stockInfoKorea = null;
-            COUNTRY country = getCountryFromExchangeNum(stock.getExchangeNum()); // 기본값 설정
-            try {
-                stockInfoKorea = securityService.getSecurityStockInfoKorea(
-                    stock.getId(),
-                    stock.getSymbolName(),
-                    stock.getSecurityName(),
-                    stock.getSymbol(),
-                    stock.getExchangeNum(),
-                    country
-                ).block();
-                
-                if (stockInfoKorea != null && stockInfoKorea.getCountry() != null) {
-                    country = stockInfoKorea.getCountry();
-                }
-            } catch (Exception e) {
-                log.warn("Failed to get StockInfo for stockId: {}, experimentId: {}, will use default values", 
-                    stock.getId(), experiment.getId(), e);
-                // StockInfo 조회 실패해도 실험 정보는 포함시킴
-            }
+            final COUNTRY country = getCountryFromExchangeNum(stock.getExchangeNum());
+            final StockInfoResponse stockInfo = priceByStockId.get(stock.getId());
 
             // 매수 시점 점수
             final int buyScore = experiment.getScore();
-            
-            // 현재 시점 점수 조회: 최근 ExperimentTradeItem이 있으면 그것의 score 사용, 없으면 Score 테이블에서 최신 점수 조회
+
+            // 현재 시점 점수: 최근 ExperimentTradeItem이 있으면 그것의 score 사용, 없으면 Score 테이블의 최신 점수 사용
             int currentScore = buyScore; // 기본값은 매수 시점 점수
-            final List<ExperimentTradeItem> tradeItems = experimentTradeItemRepository.findExperimentTradeItemsByExperimentId(experiment.getId());
-            if (!tradeItems.isEmpty()) {
-                // 가장 최근 trade item의 score 사용
-                currentScore = tradeItems.get(tradeItems.size() - 1).getScore();
-            } else if (stockInfoKorea != null) {
-                // trade item이 없으면 Score 테이블에서 최신 점수 조회
-                try {
-                    final Optional<Score> scoreOptional = scoreRepository.findByStockIdAndDate(stock.getId(), LocalDate.now());
-                    if (scoreOptional.isEmpty()) {
-                        final Optional<Score> latestScoreOptional = scoreRepository.findTopByStockIdOrderByDateDesc(stock.getId());
-                        if (latestScoreOptional.isPresent()) {
-                            final Score latestScore = latestScoreOptional.get();
-                            if (country.equals(COUNTRY.KOREA)) {
-                                currentScore = latestScore.getScoreKorea();
-                            } else {
-                                currentScore = latestScore.getScoreOversea();
-                            }
-                        }
-                    } else {
-                        final Score todayScore = scoreOptional.get();
-                        if (country.equals(COUNTRY.KOREA)) {
-                            currentScore = todayScore.getScoreKorea();
-                        } else {
-                            currentScore = todayScore.getScoreOversea();
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to get current score for stockId: {}, experimentId: {}", 
-                        stock.getId(), experiment.getId(), e);
-                    // currentScore는 buyScore로 유지
+            final Integer latestTradeScore = latestTradeScoreByExperimentId.get(experiment.getId());
+            if (latestTradeScore != null) {
+                currentScore = latestTradeScore;
+            } else {
+                final Score latestScore = latestScoreByStockId.get(stock.getId());
+                if (latestScore != null) {
+                    currentScore = country == COUNTRY.KOREA ? latestScore.getScoreKorea() : latestScore.getScoreOversea();
                 }
             }
-            
+
             // 현재 가격
-            final Double currentPrice = (stockInfoKorea != null && stockInfoKorea.getPrice() != null)
-                ? stockInfoKorea.getPrice()
+            final Double currentPrice = (stockInfo != null && stockInfo.getPrice() != null)
+                ? stockInfo.getPrice()
                 : experiment.getBuyPrice();
 
-            if (experiment.getStatus().equals("PROGRESS")) {
-                progressExperimentsInfo.add(ExperimentInfoResponse.builder()
-                    .experimentId(experiment.getId())
-                    .roi(experiment.getRoi())
-                    .buyAt(experiment.getBuyAt())
-                    .buyPrice(experiment.getBuyPrice())
-                    .symbolName(stock.getSymbolName())
-                    .status(experiment.getStatus())
-                    .country(country)
-                    .buyScore(buyScore)
-                    .currentScore(currentScore)
-                    .currentPrice(currentPrice)
-                    .stockId(stock.getId())
-                    .build());
-
-                continue;
-            }
-
-            completeExperimentsInfo.add(ExperimentInfoResponse.builder()
+            final ExperimentInfoResponse experimentInfo = ExperimentInfoResponse.builder()
                 .experimentId(experiment.getId())
                 .roi(experiment.getRoi())
                 .buyAt(experiment.getBuyAt())
@@ -196,7 +178,14 @@ final List<Experiment> experimentsByUserId = experimentRepository.findExperiment
                 .currentScore(currentScore)
                 .currentPrice(currentPrice)
                 .stockId(stock.getId())
-                .build());
+                .build();
+
+            if (experiment.getStatus().equals("PROGRESS")) {
+                progressExperimentsInfo.add(experimentInfo);
+                continue;
+            }
+
+            completeExperimentsInfo.add(experimentInfo);
         }
 
         final double averageRoi = experimentsByUserId.stream()
@@ -373,252 +362,154 @@ final List<Experiment> experimentsByUserId = experimentRepository.findExperiment
         return List.of(EXCHANGENUM.KOSPI, EXCHANGENUM.KOSDAQ, EXCHANGENUM.KOREAN_ETF).contains(exchangenum) ? COUNTRY.KOREA : COUNTRY.OVERSEA;
     }
 
-    @Transactional
+    /*
+     * 실험실 - 모의 매수
+     *
+     * (유저, 종목, 날짜) 멱등 키로 연속 요청을 먼저 걸러내고, 시세는 quoteMaxStaleness 이내의 캐시를 재사용합니다.
+     * 시세 조회는 트랜잭션 밖에서 하고, 저장은 중복 조건을 포함한 INSERT 1회 + 거래 항목 INSERT 1회로 끝냅니다.
+     */
     public ExperimentSimpleResponse buyExperiment(final CustomUserDetails customUserDetails, final Integer stockId, String country) {
+        final Integer userId = customUserDetails.getId();
+        final LocalDateTime now = LocalDateTime.now(); // 현재 날짜와 시간
+        final LocalDate today = now.toLocalDate();
+
+        // 같은 매수 요청이 처리 중이거나 오늘 이미 매수했으면 바로 반환
+        final ExperimentBuyGuard.State guardState = experimentBuyGuard.tryAcquire(userId, stockId, today);
+        if (guardState == ExperimentBuyGuard.State.IN_PROGRESS) {
+            return failedBuyResponse("매수 요청을 처리 중입니다");
+        }
+        if (guardState == ExperimentBuyGuard.State.COMPLETED) {
+            return failedBuyResponse("같은 종목 중복 구매");
+        }
+
+        boolean completed = false;
+        try {
+            final BuyOutcome outcome = buy(userId, stockId, now);
+            completed = outcome.completed();
+            return outcome.response();
+        } finally {
+            if (completed) {
+                experimentBuyGuard.complete(userId, stockId, today);
+            } else {
+                experimentBuyGuard.release(userId, stockId, today);
+            }
+        }
+    }
+
+    private BuyOutcome buy(final Integer userId, final Integer stockId, final LocalDateTime now) {
         // Stock 조회 및 검증
         final Optional<Stock> stockById = stockRepository.findStockById(stockId);
         if (stockById.isEmpty()) {
             log.warn("Stock not found - stockId: {}", stockId);
-            return ExperimentSimpleResponse.builder()
-                .message("종목을 찾을 수 없습니다")
-                .success(false)
-                .price(0.0d)
-                .build();
+            return BuyOutcome.failed("종목을 찾을 수 없습니다");
         }
         final Stock stock = stockById.get();
 
-        // User 조회 및 검증
-        final Optional<User> userById = userRepository.findByEmail(customUserDetails.getEmail());
-        if (userById.isEmpty()) {
-            log.warn("User not found - email: {}", customUserDetails.getEmail());
-            return ExperimentSimpleResponse.builder()
-                .message("사용자 정보를 찾을 수 없습니다")
-                .success(false)
-                .price(0.0d)
-                .build();
-        }
-        final User user = userById.get();
-
-        final LocalDateTime now = LocalDateTime.now(); // 현재 날짜와 시간
-        final LocalTime current = now.toLocalTime(); // 현재 시간
-        final LocalDateTime startOfToday = now.toLocalDate().atStartOfDay(); // 오늘 시작 시간
-        final LocalDateTime endOfToday = now.toLocalDate().atTime(LocalTime.MAX); // 오늘 마지막 시간
-        final DayOfWeek dayOfWeek = now.getDayOfWeek(); // 요일
-        Double price = 0.0d;
-
-        // 진행 중인 동일 종목 실험이 있으면 중복 매수 불가
-        Optional<Experiment> progressExperiment = experimentRepository.findProgressExperimentByUserAndStock(
-            user.getId(), stockId);
-        if (progressExperiment.isPresent()) {
-            return ExperimentSimpleResponse.builder()
-                .message("진행 중인 동일 종목이 있습니다")
-                .success(false)
-                .price(0.0d)
-                .build();
-        }
-
-        // Score 조회 및 검증 - 오늘 날짜 우선, 없으면 최신 점수 사용
-        Optional<Score> scoreOptional = scoreRepository.findByStockIdAndDate(stockId, LocalDate.now());
+        // 최신 점수 (오늘 점수가 있으면 오늘 점수)
+        final Optional<Score> scoreOptional = scoreRepository.findTopByStockIdOrderByDateDesc(stockId);
         if (scoreOptional.isEmpty()) {
-            log.warn("Today's score not found for stock - stockId: {}, trying latest score", stockId);
-            // 오늘 날짜 점수가 없으면 최신 점수 조회 시도
-            scoreOptional = scoreRepository.findTopByStockIdOrderByDateDesc(stockId);
-            if (scoreOptional.isEmpty()) {
-                log.error("No score found for stock - stockId: {}", stockId);
-                return ExperimentSimpleResponse.builder()
-                    .message("점수 정보를 찾을 수 없습니다")
-                    .success(false)
-                    .price(0.0d)
-                    .build();
-            }
-            log.info("Using latest score instead of today's score for stockId: {}", stockId);
+            log.error("No score found for stock - stockId: {}", stockId);
+            return BuyOutcome.failed("점수 정보를 찾을 수 없습니다");
         }
-        final Score findByStockIdAndDate = scoreOptional.get();
-        int score = 9999;
+        final Score latestScore = scoreOptional.get();
 
-        // 차트에서 이미 작동하는 getSecurityStockInfoKorea 사용 (inquire-price API)
-        // inquire-price-2는 작동하지 않으므로 inquire-price로 변경
-        // StockInfo 조회 - 차트와 동일한 방식으로 .block() 사용
-        StockInfoResponse stockInfoResponse;
+        // 시세 - quoteMaxStaleness 이내 캐시 우선, 없으면 KIS 조회 (같은 종목 동시 조회는 1회로 공유)
+        final StockInfoResponse stockInfoResponse;
         try {
-            stockInfoResponse = securityService.getSecurityStockInfoKorea(
-                stock.getId(),
-                stock.getSymbolName(),
-                stock.getSecurityName(),
-                stock.getSymbol(),
-                stock.getExchangeNum(),
-                getCountryFromExchangeNum(stock.getExchangeNum())
-            ).block();
+            stockInfoResponse = securityService.getRealTimeStockPrice(stock, quoteMaxStaleness).block(BUY_QUOTE_TIMEOUT);
         } catch (Exception e) {
             log.warn("Failed to get StockInfo for stock - stockId: {}, error: {}", stockId, e.getMessage());
-            return ExperimentSimpleResponse.builder()
-                .message("주가 정보를 가져올 수 없습니다")
-                .success(false)
-                .price(0.0d)
-                .build();
+            return BuyOutcome.failed("주가 정보를 가져올 수 없습니다");
+        }
+        if (stockInfoResponse == null) {
+            log.warn("Empty StockInfo for stock - stockId: {}", stockId);
+            return BuyOutcome.failed("주가 정보를 가져올 수 없습니다");
         }
 
-        if (stockInfoResponse.getCountry().equals(COUNTRY.KOREA)) {
-            score = findByStockIdAndDate.getScoreKorea();
-            final Optional<Experiment> experimentByStockIdAndBuyAt = experimentRepository.findExperimentByStockIdForTodayAndUser(
-                stockId, user.getId(), startOfToday, endOfToday);
-
-            // 하루에 같은 종목 중복 구매 불가 처리
-            if (experimentByStockIdAndBuyAt.isPresent()) {
-                return ExperimentSimpleResponse.builder()
-                    .message("같은 종목 중복 구매")
-                    .success(false)
-                    .price(0.0d)
-                    .build();
-            }
-
-            LocalTime koreaEndTime = LocalTime.of(17, 0);
+        final COUNTRY stockCountry = stockInfoResponse.getCountry() != null
+            ? stockInfoResponse.getCountry() : getCountryFromExchangeNum(stock.getExchangeNum());
+        final boolean isKorea = COUNTRY.KOREA.equals(stockCountry);
+        final int score = isKorea ? latestScore.getScoreKorea() : latestScore.getScoreOversea();
 
-            // 종가 결정 - null 체크 추가
-            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-                price = stockInfoResponse.getYesterdayPrice() != null ? stockInfoResponse.getYesterdayPrice() : stockInfoResponse.getPrice();
-            } else {
-                Double selectedPrice = current.isBefore(koreaEndTime) ? stockInfoResponse.getYesterdayPrice() : stockInfoResponse.getPrice();
-                price = selectedPrice != null ? selectedPrice : (stockInfoResponse.getPrice() != null ? stockInfoResponse.getPrice() : stockInfoResponse.getYesterdayPrice());
-            }
-            
-            // 최종 가격 유효성 검증
-            if (!isPositiveFinite(price)) {
-                log.error("Invalid price for stock buy - stockId: {}, price={}, stockInfo: price={}, yesterdayPrice={}",
-                    stockId, price, stockInfoResponse.getPrice(), stockInfoResponse.getYesterdayPrice());
-                return ExperimentSimpleResponse.builder()
-                    .message("주가 정보를 가져올 수 없습니다")
-                    .success(false)
-                    .price(0.0d)
-                    .build();
-            }
+        // 종가 결정 - 주말이거나 장 마감 전(국내 17시, 해외 06시)이면 전일 종가
+        final DayOfWeek dayOfWeek = now.getDayOfWeek();
+        final LocalTime endTime = isKorea ? LocalTime.of(17, 0) : LocalTime.of(6, 0);
+        final Double price;
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            price = stockInfoResponse.getYesterdayPrice() != null ? stockInfoResponse.getYesterdayPrice() : stockInfoResponse.getPrice();
         } else {
-            // 해외 주식 로직
-            score = findByStockIdAndDate.getScoreOversea();
-
-            // 해당 구간에 이미 매수한 경우 중복 매수 방지
-            Optional<Experiment> existingItem = experimentRepository.findExperimentByStockIdForTodayAndUser(
-                stockId, user.getId(), startOfToday, endOfToday);
-
-            if (existingItem.isPresent()) {
-                return ExperimentSimpleResponse.builder()
-                    .message("같은 종목 중복 구매")
-                    .success(false)
-                    .price(0.0d)
-                    .build();
-            }
-
-            LocalTime overseasEndTime = LocalTime.of(6, 0);
-            
-            // 종가 결정 - null 체크 추가
-            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-                price = stockInfoResponse.getYesterdayPrice() != null ? stockInfoResponse.getYesterdayPrice() : stockInfoResponse.getPrice();
-            } else {
-                Double selectedPrice = current.isBefore(overseasEndTime) ? stockInfoResponse.getYesterdayPrice() : stockInfoResponse.getPrice();
-                price = selectedPrice != null ? selectedPrice : (stockInfoResponse.getPrice() != null ? stockInfoResponse.getPrice() : stockInfoResponse.getYesterdayPrice());
-            }
-            
-            // 최종 가격 유효성 검증
-            if (!isPositiveFinite(price)) {
-                log.error("Invalid price for overseas stock buy - stockId: {}, price={}, stockInfo: price={}, yesterdayPrice={}",
-                    stockId, price, stockInfoResponse.getPrice(), stockInfoResponse.getYesterdayPrice());
-                return ExperimentSimpleResponse.builder()
-                    .message("주가 정보를 가져올 수 없습니다")
-                    .success(false)
-                    .price(0.0d)
-                    .build();
-            }
+            Double selectedPrice = now.toLocalTime().isBefore(endTime) ? stockInfoResponse.getYesterdayPrice() : stockInfoResponse.getPrice();
+            price = selectedPrice != null ? selectedPrice : (stockInfoResponse.getPrice() != null ? stockInfoResponse.getPrice() : stockInfoResponse.getYesterdayPrice());
         }
 
-        List<Score> scores = stock.getScores();
-
-        // 저장할 실험 데이터 생성
-        final Experiment experiment = Experiment.builder()
-            .user(user)
-            .stock(stock)
-            .status("PROGRESS")
-            .buyAt(now)
-            .buyPrice(price)
-            .roi(0.0d)  // 매수 시점에는 ROI 0%
-            .score(score)
-            .build();
-
-        // 모의 매수한 실험 데이터 저장
-        experimentRepository.save(experiment);
+        // 최종 가격 유효성 검증
+        if (!isPositiveFinite(price)) {
+            log.error("Invalid price for stock buy - stockId: {}, country: {}, price={}, stockInfo: price={}, yesterdayPrice={}",
+                stockId, stockCountry, price, stockInfoResponse.getPrice(), stockInfoResponse.getYesterdayPrice());
+            return BuyOutcome.failed("주가 정보를 가져올 수 없습니다");
+        }
 
-        final ExperimentTradeItem experimentTradeItem = ExperimentTradeItem.builder()
-            .experiment(experiment)
-            .price(price)
-            .roi(0.0d)
-            .score(experiment.getScore())
-            .tradeAt(now)
-            .build();
+        // 진행 중/당일 동일 종목이 없을 때만 저장 (조건 확인과 저장을 INSERT 1회로)
+        final LocalDate today = now.toLocalDate();
+        final LocalDate sellDueDate = tradingCalendar.nthBusinessDay(today, AUTO_SELL_BUSINESS_DAYS);
+        final Boolean inserted = new TransactionTemplate(transactionManager).execute(status -> {
+            final int insertedCount = experimentRepository.insertProgressExperimentIfAbsent(userId, stockId, now,
+                sellDueDate, price, score, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+            if (insertedCount == 0) {
+                return false;
+            }
+            experimentTradeItemRepository.insertBuyTradeItemForLastInsertedExperiment(now, price, score);
+            return true;
+        });
 
-        experimentTradeItemRepository.save(experimentTradeItem);
+        if (!Boolean.TRUE.equals(inserted)) {
+            // 중복 사유는 실패한 경우에만 조회
+            if (experimentRepository.findProgressExperimentByUserAndStock(userId, stockId).isPresent()) {
+                return BuyOutcome.failed("진행 중인 동일 종목이 있습니다");
+            }
+            return new BuyOutcome(failedBuyResponse("같은 종목 중복 구매"), true);
+        }
 
-        return ExperimentSimpleResponse.builder()
+        return new BuyOutcome(ExperimentSimpleResponse.builder()
             .message("모의 매수 성공")
             .success(true)
             .price(price)
+            .build(), true);
+    }
+
+    private static ExperimentSimpleResponse failedBuyResponse(String message) {
+        return ExperimentSimpleResponse.builder()
+            .message(message)
+            .success(false)
+            .price(0.0d)
             .build();
     }
 
+    // completed: 오늘 이 종목을 더 매수할 수 없는 상태 (멱등 키 유지)
+    private record BuyOutcome(ExperimentSimpleResponse response, boolean completed) {
+
+        static BuyOutcome failed(String message) {
+            return new BuyOutcome(failedBuyResponse(message), false);
+        }
+    }
+
     // 매수결과 조회
     public ExperimentReportResponse getReport(CustomUserDetails customUserDetails) {
         final String email = customUserDetails.getEmail();
 
+        // 전체 유저 통계는 캐시, 유저 통계는 user_experiment_stats 1행
+        final ExperimentGlobalStatsCache.Snapshot globalStats = experimentGlobalStatsCache.get();
+        final UserExperimentStats userStats = userExperimentStatsService.getStats(customUserDetails.getId());
+
         // 인간지표 점수대별 평균 수익률
         final List<ReportStatisticDto> reportStatisticDtos = new ArrayList<>();
-
-        // 1. 60점 이하 평균 수익률
-        final double totalAvgRoi_0_59 = defaultIfNull(experimentRepository.findTotalAvgRoi(0, 59));
-        final Double userAvgRoi_0_59 = experimentRepository.findUserAvgRoi(0, 59, email);
-
-        reportStatisticDtos.add(ReportStatisticDto.builder()
-            .totalAvgRoi(totalAvgRoi_0_59)
-            .userAvgRoi(userAvgRoi_0_59 != null ? userAvgRoi_0_59 : 0.0)
-            .scoreRange(SCORERANGE.RANGE_0_59.getRange())
-            .build());
-
-        // 2. 60~69점 평균 수익률
-        final double totalAvgRoi_60_69 = defaultIfNull(experimentRepository.findTotalAvgRoi(60, 69));
-        final Double userAvgRoi_60_69 = experimentRepository.findUserAvgRoi(60, 69, email);
-
-        reportStatisticDtos.add(ReportStatisticDto.builder()
-            .totalAvgRoi(totalAvgRoi_60_69)
-            .userAvgRoi(userAvgRoi_60_69 != null ? userAvgRoi_60_69 : 0.0)
-            .scoreRange(SCORERANGE.RANGE_60_69.getRange())
-            .build());
-
-        // 3. 70~79점 평균 수익률
-        final double totalAvgRoi_70_79 = defaultIfNull(experimentRepository.findTotalAvgRoi(70, 79));
-        final Double userAvgRoi_70_79 = experimentRepository.findUserAvgRoi(70, 79, email);
-
-        reportStatisticDtos.add(ReportStatisticDto.builder()
-            .totalAvgRoi(totalAvgRoi_70_79)
-            .userAvgRoi(userAvgRoi_70_79 != null ? userAvgRoi_70_79 : 0.0)
-            .scoreRange(SCORERANGE.RANGE_70_79.getRange())
-            .build());
-
-        // 3. 80~89점 평균 수익률
-        final double totalAvgRoi_80_89 = defaultIfNull(experimentRepository.findTotalAvgRoi(80, 89));
-        final Double userAvgRoi_80_89 = experimentRepository.findUserAvgRoi(80, 89, email);
-
-        reportStatisticDtos.add(ReportStatisticDto.builder()
-            .totalAvgRoi(totalAvgRoi_80_89)
-            .userAvgRoi(userAvgRoi_80_89 != null ? userAvgRoi_80_89 : 0.0)
-            .scoreRange(SCORERANGE.RANGE_80_89.getRange())
-            .build());
-
-        // 5. 90이상 평균 수익률
-        final double totalAvgRoi_90_100 = defaultIfNull(experimentRepository.findTotalAvgRoi(90, 100));
-        final Double userAvgRoi_90_100 = experimentRepository.findUserAvgRoi(90, 100, email);
-
-        reportStatisticDtos.add(ReportStatisticDto.builder()
-            .totalAvgRoi(totalAvgRoi_90_100)
-            .userAvgRoi(userAvgRoi_90_100 != null ? userAvgRoi_90_100 : 0.0)
-            .scoreRange(SCORERANGE.RANGE_90_100.getRange())
-            .build());
+        for (SCORERANGE scoreRange : SCORERANGE.values()) {
+            reportStatisticDtos.add(ReportStatisticDto.builder()
+                .totalAvgRoi(globalStats.getTotalAvgRoi(scoreRange))
+                .userAvgRoi(userStats.getAvgRoi(scoreRange))
+                .scoreRange(scoreRange.getRange())
+                .build());
+        }
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -636,19 +527,14 @@ final List<Experiment> experimentsByUserId = experimentRepository.findExperiment
         final int weeklyExperimentCount = experimentRepository.countExperimentsForWeekByUser(
             email, startOfWeek, endOfWeek);
 
-        // 특정 사용자가 진행한 총 실험
-        final List<Experiment> experimentsByEmailAndStatus = experimentRepository.findExperimentsByEmailAndStatus(
-            email, "COMPLETE");
-
-        // 전체 진행한 실험 개수
-        long totalExperimentCount = experimentsByEmailAndStatus.size();
+        // 전체 진행한(완료된) 실험 개수
+        long totalExperimentCount = userStats.getCompletedCount();
 
         // 성공한 수익률 데이터
-        long successExperimentCount = experimentsByEmailAndStatus.stream()
-            .filter(experiment -> experiment.getRoi() > 0).count();
+        long successExperimentCount = userStats.getSuccessCount();
 
-        // 유저 성공률 데이터 조회
-        final double successExperimentRate = experimentRepository.findSuccessExperimentRate(email);
+        // 유저 성공률 (소수 첫째 자리 반올림)
+        final double successExperimentRate = userStats.getSuccessRate();
         int startRange = 0;
         int endRange;
 
@@ -669,8 +555,8 @@ final List<Experiment> experimentsByUserId = experimentRepository.findExperiment
         }
 
         // 동일 등급 전체 유저 비율 계산
-        final int countSameGradeUser = experimentRepository.countSameGradeUser(startRange, endRange);
-        final long completedUserCount = experimentRepository.countUsersWithCompletedExperiments();
+        final int countSameGradeUser = globalStats.countUsersBetween(startRange, endRange);
+        final long completedUserCount = globalStats.getCompletedUserCount();
         long sameGradeUserRage = completedUserCount == 0 ? 0 : (countSameGradeUser * 100L / completedUserCount);
 
         final List<ReportPatternDto> reportPatternDtos = new ArrayList<>();
@@ -766,8 +652,9 @@ final List<Experiment> experimentsByUserId = experimentRepository.findExperiment
             startRange = 81;
             endRange = 100;
         }
-        final int countSameGradeUser = experimentRepository.countSameGradeUser(startRange, endRange);
-        final long completedUserCount = experimentRepository.countUsersWithCompletedExperiments();
+        final ExperimentGlobalStatsCache.Snapshot globalStats = experimentGlobalStatsCache.get();
+        final int countSameGradeUser = globalStats.countUsersBetween(startRange, endRange);
+        final long completedUserCount = globalStats.getCompletedUserCount();
         int sameGradePercentile = completedUserCount == 0 ? 0 : (int) (countSameGradeUser * 100L / completedUserCount);
 
         Map<String, Integer> distribution = new LinkedHashMap<>();
@@ -778,23 +665,24 @@ final List<Experiment> experimentsByUserId = experimentRepository.findExperiment
             distribution.put("good", 0);
             distribution.put("best", 0);
         } else {
-            distribution.put("worst", (int) (experimentRepository.countUsersBySuccessRateRange(0, 20) * 100L / completedUserCount));
-            distribution.put("bad", (int) (experimentRepository.countUsersBySuccessRateRange(20, 40) * 100L / completedUserCount));
-            distribution.put("normal", (int) (experimentRepository.countUsersBySuccessRateRange(40, 60) * 100L / completedUserCount));
-            distribution.put("good", (int) (experimentRepository.countUsersBySuccessRateRange(60, 80) * 100L / completedUserCount));
-            distribution.put("best", (int) (experimentRepository.countUsersBySuccessRateAtLeast(80) * 100L / completedUserCount));
+            distribution.put("worst", (int) (globalStats.countUsersInRange(0, 20) * 100L / completedUserCount));
+            distribution.put("bad", (int) (globalStats.countUsersInRange(20, 40) * 100L / completedUserCount));
+            distribution.put("normal", (int) (globalStats.countUsersInRange(40, 60) * 100L / completedUserCount));
+            distribution.put("good", (int) (globalStats.countUsersInRange(60, 80) * 100L / completedUserCount));
+            distribution.put("best", (int) (globalStats.countUsersAtLeast(80) * 100L / completedUserCount));
         }
 
-        // 점수 구간별 사용자 평균 수익률 및 전체 유저 평균
-        Double u_60_69 = defaultIfNull(experimentRepository.findUserAvgRoi(60, 69, email));
-        Double u_70_79 = defaultIfNull(experimentRepository.findUserAvgRoi(70, 79, email));
-        Double u_80_89 = defaultIfNull(experimentRepository.findUserAvgRoi(80, 89, email));
-        Double u_90_100 = defaultIfNull(experimentRepository.findUserAvgRoi(90, 100, email));
+        // 점수 구간별 사용자 평균 수익률(user_experiment_stats) 및 전체 유저 평균(캐시)
+        final UserExperimentStats userStats = userExperimentStatsService.getStats(customUserDetails.getId());
+        Double u_60_69 = userStats.getAvgRoi(SCORERANGE.RANGE_60_69);
+        Double u_70_79 = userStats.getAvgRoi(SCORERANGE.RANGE_70_79);
+        Double u_80_89 = userStats.getAvgRoi(SCORERANGE.RANGE_80_89);
+        Double u_90_100 = userStats.getAvgRoi(SCORERANGE.RANGE_90_100);
 
-        Double t_60_69 = defaultIfNull(experimentRepository.findTotalAvgRoi(60, 69));
-        Double t_70_79 = defaultIfNull(experimentRepository.findTotalAvgRoi(70, 79));
-        Double t_80_89 = defaultIfNull(experimentRepository.findTotalAvgRoi(80, 89));
-        Double t_90_100 = defaultIfNull(experimentRepository.findTotalAvgRoi(90, 100));
+        Double t_60_69 = globalStats.getTotalAvgRoi(SCORERANGE.RANGE_60_69);
+        Double t_70_79 = globalStats.getTotalAvgRoi(SCORERANGE.RANGE_70_79);
+        Double t_80_89 = globalStats.getTotalAvgRoi(SCORERANGE.RANGE_80_89);
+        Double t_90_100 = globalStats.getTotalAvgRoi(SCORERANGE.RANGE_90_100);
 
         List<PortfolioResultResponse.ScoreTableItem> scoreTable = new ArrayList<>();
         scoreTable.add(PortfolioResultResponse.ScoreTableItem.builder().min(60).max(69).avgYieldTotal(t_60_69).avgYieldUser(u_60_69).build());
@@ -844,47 +732,16 @@ final List<Experiment> experimentsByUserId = experimentRepository.findExperiment
                 .build())
             .collect(java.util.stream.Collectors.toList());
 
-        // 패턴 결정 로직 (Vector Analysis - 원점 (50, 0) 기준 거리 합산)
-        String patternType = "value-preemptive"; // 기본값
-        double valuePreemptiveSum = 0;    // 2사분면: X < 50, Y > 0
-        double trendPreemptiveSum = 0;    // 1사분면: X > 50, Y > 0
-        double reverseInvestorSum = 0;    // 3사분면: X < 50, Y < 0
-        double laggingFollowerSum = 0;    // 4사분면: X > 50, Y < 0
-
-        for (PortfolioResultResponse.HistoryPoint point : history) {
-            double dx = point.getScore() - 50.0;
-            double dy = point.getRoi();
-            double distance = Math.sqrt(dx * dx + dy * dy);
-
-            if (point.getScore() < 50 && point.getRoi() > 0) {
-                valuePreemptiveSum += distance;   // 가치 선점형
-            } else if (point.getScore() >= 50 && point.getRoi() > 0) {
-                trendPreemptiveSum += distance;   // 트렌드 선점형
-            } else if (point.getScore() < 50 && point.getRoi() <= 0) {
-                reverseInvestorSum += distance;   // 역행 투자형
-            } else {
-                laggingFollowerSum += distance;   // 후행 추종형
-            }
-        }
-
-        double maxSum = Math.max(Math.max(valuePreemptiveSum, trendPreemptiveSum),
-                                 Math.max(reverseInvestorSum, laggingFollowerSum));
-
-        if (maxSum > 0) {
-            if (maxSum == valuePreemptiveSum) {
-                patternType = "value-preemptive";
-            } else if (maxSum == trendPreemptiveSum) {
-                patternType = "trend-preemptive";
-            } else if (maxSum == reverseInvestorSum) {
-                patternType = "reverse-investor";
-            } else {
-                patternType = "lagging-follower";
-            }
+        // 패턴 결정 (완료된 실험 전체 이력, 원점 (50, 0) 기준 사분면별 거리 합산)
+        final InvestmentPatternAccumulator patternAccumulator = new InvestmentPatternAccumulator();
+        for (Experiment experiment : completed) {
+            patternAccumulator.add(experiment.getScore(), experiment.getRoi());
         }
+        final INVESTMENTPATTERN investmentPattern = patternAccumulator.result();
+        String patternType = investmentPattern.getType();
 
-        // 패턴별 유저 비율 계산 (간단히 전체 유저 대비 동일 패턴 유저 비율로 가정)
-        // 실제로는 DB에서 각 유저의 패턴을 계산해야 하지만, 여기서는 랜덤하게 분포한다고 가정하여 25%로 설정
-        int patternPercentile = 25;
+        // 같은 패턴 유저 비율 (배치로 계산한 전체 유저 패턴 분포)
+        int patternPercentile = investmentPatternService.getPercentile(investmentPattern);
 
         // Response 빌드
         PortfolioResultResponse.Recommend recommend = PortfolioResultResponse.Recommend.builder()
@@ -916,28 +773,9 @@ final List<Experiment> experimentsByUserId = experimentRepository.findExperiment
             .build();
     }
 
-    @Transactional(readOnly = true)
+    // 전체 유저 공통 분포: 메모리/Redis 캐시 (자동 매도 완료 후 및 주기적으로 재계산)
     public HumanIndicatorDistributionResponse getHumanIndicatorDistribution() {
-        final long completedUserCount = experimentRepository.countUsersWithCompletedExperiments();
-        Map<String, Integer> distribution = new LinkedHashMap<>();
-        if (completedUserCount == 0) {
-            distribution.put("worst", 0);
-            distribution.put("bad", 0);
-            distribution.put("normal", 0);
-            distribution.put("good", 0);
-            distribution.put("best", 0);
-        } else {
-            distribution.put("worst", (int) (experimentRepository.countSameGradeUser(0, 20) * 100L / completedUserCount));
-            distribution.put("bad", (int) (experimentRepository.countSameGradeUser(21, 40) * 100L / completedUserCount));
-            distribution.put("normal", (int) (experimentRepository.countSameGradeUser(41, 60) * 100L / completedUserCount));
-            distribution.put("good", (int) (experimentRepository.countSameGradeUser(61, 80) * 100L / completedUserCount));
-            distribution.put("best", (int) (experimentRepository.countSameGradeUser(81, 100) * 100L / completedUserCount));
-        }
-
-        return HumanIndicatorDistributionResponse.builder()
-            .totalUsers(completedUserCount)
-            .distribution(distribution)
-            .build();
+        return humanIndicatorDistributionCache.get();
     }
 
     private BestWorstRangeScores resolveBestWorstRangeScores(List<PortfolioResultResponse.ScoreTableItem> scoreTable) {
@@ -1045,300 +883,10 @@ final List<Experiment> experimentsByUserId = experimentRepository.findExperiment
         return Math.round(value * 10.0) / 10.0;
     }
 
-    private double defaultIfNull(Double value) {
-        return value != null ? value : 0.0;
-    }
-
-    // 영업일 기준 실험 진행한 기간이 5일 이상 지난 실험 데이터 조회
-    @Transactional(readOnly = true)
-    public List<Experiment> findExperimentsAfter5BusinessDays() {
-        final LocalDate today = LocalDate.now(ASIA_SEOUL);
-        final List<Experiment> progressExperiments = experimentRepository.findProgressExperimentsWithStock();
-
-        if (progressExperiments.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        final List<Experiment> dueExperiments = new ArrayList<>();
-
-        for (Experiment experiment : progressExperiments) {
-            if (experiment.getBuyAt() == null) {
-                log.warn("Skipping experiment with null buyAt - experimentId: {}", experiment.getId());
-                continue;
-            }
-
-            final LocalDate autoSellDate = calculateNthBusinessDay(experiment.getBuyAt().toLocalDate(), 5);
-            if (!today.isBefore(autoSellDate)) {
-                dueExperiments.add(experiment);
-            }
-        }
-
-        log.info("Found {} experiments that reached 5th business day out of {} progress experiments",
-            dueExperiments.size(), progressExperiments.size());
-        return dueExperiments;
-    }
-
-    // 시작일을 포함해 n번째 영업일을 계산 (주말/공휴일 제외)
-    private LocalDate calculateNthBusinessDay(LocalDate fromDate, int nthBusinessDay) {
-        int businessDays = 0;
-        LocalDate date = fromDate;
-
-        while (businessDays < nthBusinessDay) {
-            if (isBusinessDay(date)) {
-                businessDays++;
-            }
-
-            if (businessDays < nthBusinessDay) {
-                date = date.plusDays(1);
-            }
-        }
-
-        return date;
-    }
-
-    private boolean isBusinessDay(LocalDate date) {
-        final DayOfWeek day = date.getDayOfWeek();
-        if (day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY) {
-            return false;
-        }
-
-        return !holidayService.isHolidaySync(date);
-    }
-
-    // 자동판매 - 실험 데이터 수정
-    @Transactional
-    public boolean updateExperiment(Experiment experiment) {
-        try {
-            // 이미 완료된 실험은 스킵
-            if (!"PROGRESS".equals(experiment.getStatus())) {
-                log.info("Skipping already completed experiment - experimentId: {}, status: {}", 
-                        experiment.getId(), experiment.getStatus());
-                return true; // 스킵은 성공으로 간주
-            }
-            
-            // Stock이 null인 경우 실패
-            final Stock stock = experiment.getStock();
-            if (stock == null) {
-                log.error("Stock is null for experiment - experimentId: {}", experiment.getId());
-                return false;
-            }
-            
-            // Stock 필수 필드 검증
-            if (stock.getId() == null || stock.getSymbol() == null || stock.getExchangeNum() == null) {
-                log.error("Stock has null required fields for experiment - experimentId: {}, stockId: {}, symbol: {}, exchangeNum: {}", 
-                        experiment.getId(), stock.getId(), stock.getSymbol(), stock.getExchangeNum());
-                return false;
-            }
-            
-            log.info("Starting auto-sell update for experiment - experimentId: {}, stockId: {}, symbol: {}", 
-                    experiment.getId(), stock.getId(), stock.getSymbol());
-
-            final StockInfoResponse stockInfo;
-            try {
-                stockInfo = securityService.getSecurityStockInfoKorea(
-                    stock.getId(),
-                    stock.getSymbolName(),
-                    stock.getSecurityName(),
-                    stock.getSymbol(),
-                    stock.getExchangeNum(),
-                    getCountryFromExchangeNum(stock.getExchangeNum())
-                ).block();
-            } catch (Exception e) {
-                log.error("Failed to fetch stock info for auto-sell - experimentId: {}, stockId: {}, symbol: {}, error: {}", 
-                        experiment.getId(), stock.getId(), stock.getSymbol(), e.getMessage(), e);
-                return false;
-            }
-
-            if (stockInfo == null) {
-                log.warn("Stock info is null for auto-sell - experimentId: {}, stockId: {}",
-                        experiment.getId(), stock.getId());
-                return false;
-            }
-
-            final Double price = stockInfo.getPrice();
-            if (!isPositiveFinite(price)) {
-                log.warn("Invalid sell price for auto-sell - experimentId: {}, stockId: {}, price: {}, yesterdayPrice: {}",
-                        experiment.getId(), stock.getId(), stockInfo.getPrice(), stockInfo.getYesterdayPrice());
-                return false;
-            }
-
-            final Double buyPrice = experiment.getBuyPrice();
-            if (!isPositiveFinite(buyPrice)) {
-                log.error("Invalid buyPrice for auto-sell - experimentId: {}, buyPrice: {}",
-                        experiment.getId(), buyPrice);
-                return false;
-            }
-
-            final Double roi = calculateRoi(price, buyPrice);
-            if (roi == null) {
-                log.error("Failed to calculate ROI for auto-sell - experimentId: {}, price: {}, buyPrice: {}",
-                        experiment.getId(), price, buyPrice);
-                return false;
-            }
-
-            final LocalDateTime sellAt = LocalDateTime.now();
-            experiment.updateExperiment(price, "COMPLETE", sellAt, roi);
-            // DB flush를 통해 잘못된 값은 여기서 즉시 감지
-            experimentRepository.saveAndFlush(experiment);
-                
-            // 완료 시점의 trade item 저장
-            try {
-                Optional<Score> scoreOptional = scoreRepository.findByStockIdAndDate(stock.getId(), LocalDate.now());
-                if (scoreOptional.isEmpty()) {
-                    scoreOptional = scoreRepository.findTopByStockIdOrderByDateDesc(stock.getId());
-                }
-                
-                int score = experiment.getScore(); // 기본값은 실험의 점수
-                if (scoreOptional.isPresent()) {
-                    final Score scoreData = scoreOptional.get();
-                    if (COUNTRY.KOREA.equals(stockInfo.getCountry())) {
-                        score = scoreData.getScoreKorea();
-                    } else {
-                        score = scoreData.getScoreOversea();
-                    }
-                }
-                
-                final ExperimentTradeItem finalTradeItem = ExperimentTradeItem.builder()
-                    .experiment(experiment)
-                    .price(price)
-                    .roi(roi)
-                    .score(score)
-                    .tradeAt(sellAt)
-                    .build();
-                
-                experimentTradeItemRepository.save(finalTradeItem);
-                log.info("Saved final trade item for completed experiment - experimentId: {}", experiment.getId());
-            } catch (Exception e) {
-                log.warn("Failed to save final trade item for experiment - experimentId: {}", experiment.getId(), e);
-                // trade item 저장 실패해도 실험 완료는 성공으로 처리
-            }
-
-            log.info("Auto-sell completed successfully - experimentId: {}, price: {}, roi: {}",
-                    experiment.getId(), price, roi);
-            return true;
-
-        } catch (Exception e) {
-            log.error("Failed to auto-sell experiment - experimentId: {}", experiment.getId(), e);
-            return false;
-        }
-    }
-
-    // 실험 진행이 5영업일이 지나지 않은 실험 데이터 조회
-    public List<Experiment> findExperimentsPrevious5BusinessDays() {
-        final LocalDate today = LocalDate.now(ASIA_SEOUL);
-        final List<Experiment> progressExperiments = experimentRepository.findProgressExperimentsWithStock();
-
-        if (progressExperiments.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        final List<Experiment> beforeAutoSell = new ArrayList<>();
-        for (Experiment experiment : progressExperiments) {
-            if (experiment.getBuyAt() == null) {
-                log.warn("Skipping experiment with null buyAt - experimentId: {}", experiment.getId());
-                continue;
-            }
-
-            final LocalDate autoSellDate = calculateNthBusinessDay(experiment.getBuyAt().toLocalDate(), 5);
-            // 자동 매도 전(또는 당일) 실험만 진행 데이터 수집 대상으로 유지
-            if (!today.isAfter(autoSellDate)) {
-                beforeAutoSell.add(experiment);
-            }
-        }
-
-        return beforeAutoSell;
-    }
-
     public void saveExperiment(Experiment experiment) {
 
     }
 
-    @Transactional
-    public void saveExperimentTradeItem(Experiment experiment) {
-        final LocalDateTime now = LocalDateTime.now();
-        final LocalDateTime startOfToday = now.toLocalDate().atStartOfDay(); // 오늘 시작 시간
-        final LocalDateTime endOfToday = now.toLocalDate().atTime(LocalTime.MAX); // 오늘 마지막 시간
-
-        final List<ExperimentTradeItem> experimentTradeItemsByExperimentId = experimentTradeItemRepository.findExperimentTradeItemsForToday(experiment.getId(), startOfToday, endOfToday);
-
-        if (experimentTradeItemsByExperimentId.isEmpty()) {
-            final Stock stock = experiment.getStock();
-
-            StockInfoResponse stockInfoResponse;
-            try {
-                stockInfoResponse = securityService.getSecurityStockInfoKorea(
-                    stock.getId(),
-                    stock.getSymbolName(),
-                    stock.getSecurityName(),
-                    stock.getSymbol(),
-                    stock.getExchangeNum(),
-                    getCountryFromExchangeNum(stock.getExchangeNum())
-                ).block();
-            } catch (Exception e) {
-                log.error("Failed to get StockInfo for saveExperimentTradeItem - experimentId: {}, stockId: {}", 
-                    experiment.getId(), stock.getId(), e);
-                return;
-            }
-
-            final Double price = stockInfoResponse != null ? stockInfoResponse.getPrice() : null;
-            if (!isPositiveFinite(price)) {
-                log.warn("Invalid stock price for saveExperimentTradeItem - experimentId: {}, stockId: {}, price: {}, yesterdayPrice: {}",
-                    experiment.getId(), stock.getId(),
-                    stockInfoResponse != null ? stockInfoResponse.getPrice() : null,
-                    stockInfoResponse != null ? stockInfoResponse.getYesterdayPrice() : null);
-                return;
-            }
-
-            if (!isPositiveFinite(experiment.getBuyPrice())) {
-                log.warn("Invalid buyPrice for saveExperimentTradeItem - experimentId: {}, buyPrice: {}",
-                    experiment.getId(), experiment.getBuyPrice());
-                return;
-            }
-
-            final Double roiValue = calculateRoi(price, experiment.getBuyPrice());
-            if (roiValue == null) {
-                log.warn("Failed to calculate ROI for saveExperimentTradeItem - experimentId: {}, price: {}, buyPrice: {}",
-                    experiment.getId(), price, experiment.getBuyPrice());
-                return;
-            }
-            final double roi = roiValue;
-            
-            Optional<Score> scoreOptional = scoreRepository.findByStockIdAndDate(experiment.getStock().getId(), LocalDate.now());
-            if (scoreOptional.isEmpty()) {
-                log.warn("Today's score not found for saveExperimentTradeItem - experimentId: {}, stockId: {}", 
-                    experiment.getId(), stock.getId());
-                return;
-            }
-            
-            final Score findByStockIdAndDate = scoreOptional.get();
-            int score = 9999;
-
-            if (COUNTRY.KOREA.equals(stockInfoResponse.getCountry())) {
-                score = findByStockIdAndDate.getScoreKorea();
-            } else {
-                score = findByStockIdAndDate.getScoreOversea();
-            }
-
-            final ExperimentTradeItem experimentTradeItem = ExperimentTradeItem.builder()
-                .tradeAt(now)
-                .score(score)
-                .roi(roi)
-                .price(price)
-                .experiment(experiment)
-                .build();
-
-            experimentTradeItemRepository.save(experimentTradeItem);
-            
-            // Experiment 엔티티의 ROI도 업데이트 (PROGRESS 상태일 때만)
-            if ("PROGRESS".equals(experiment.getStatus())) {
-                experiment.updateExperiment(null, "PROGRESS", null, roi);
-                experimentRepository.save(experiment);
-            }
-            
-            log.debug("Saved ExperimentTradeItem for experimentId: {}, updated ROI: {}", experiment.getId(), roi);
-        }
-    }
-
     private boolean isPositiveFinite(Double value) {
         return value != null && Double.isFinite(value) && value > 0;
     }
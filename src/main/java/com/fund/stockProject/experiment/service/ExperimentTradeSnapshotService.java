@@ -0,0 +1,228 @@
+package com.fund.stockProject.experiment.service;
+
+import com.fund.stockProject.experiment.entity.Experiment;
+import com.fund.stockProject.experiment.repository.ExperimentRepository;
+import com.fund.stockProject.experiment.repository.ExperimentTradeItemRepository;
+import com.fund.stockProject.score.entity.Score;
+import com.fund.stockProject.score.repository.ScoreRepository;
+import com.fund.stockProject.stock.domain.COUNTRY;
+import com.fund.stockProject.stock.domain.EXCHANGENUM;
+import com.fund.stockProject.stock.dto.response.StockInfoResponse;
+import com.fund.stockProject.stock.entity.Stock;
+import com.fund.stockProject.stock.service.SecurityService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 진행 중 실험의 일별 가격/점수 스냅샷 (ExperimentTradeItem)
+ *
+ * 자동 매도 전(또는 당일)인 실험을 한 번에 조회한 뒤, 종목 단위로 오늘 점수와 시세를 한 번씩만 읽고
+ * CHUNK_SIZE 개씩 trade item 을 다중 행 INSERT 로 저장하며 종목별 수익률을 UPDATE 1회로 갱신합니다.
+ * 오늘 이미 스냅샷이 있는 실험은 건너뛰므로 재실행해도 중복 저장되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExperimentTradeSnapshotService {
+
+    private static final ZoneId ASIA_SEOUL = ZoneId.of("Asia/Seoul");
+    private static final int CHUNK_SIZE = 500; // 트랜잭션/INSERT 한 번에 처리할 실험 수 (IN 절 크기 포함)
+    private static final Duration PRICE_FETCH_TIMEOUT = Duration.ofMinutes(5); // 전체 시세 조회 상한
+
+    private final ExperimentRepository experimentRepository;
+    private final ExperimentTradeItemRepository experimentTradeItemRepository;
+    private final ScoreRepository scoreRepository;
+    private final SecurityService securityService;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SnapshotResult snapshotProgressExperiments() {
+        final long startedAt = System.currentTimeMillis();
+        final LocalDate today = LocalDate.now(ASIA_SEOUL);
+
+        // 자동 매도일이 오늘 이후(당일 포함)인 실험만 조회
+        final List<Experiment> experiments = experimentRepository.findProgressExperimentsWithStockDueFrom(today);
+        if (experiments.isEmpty()) {
+            return new SnapshotResult(0, 0, 0, 0, 0, System.currentTimeMillis() - startedAt);
+        }
+
+        // 오늘 이미 스냅샷이 있는 실험 제외
+        final Set<Integer> alreadySaved = new HashSet<>();
+        final List<Integer> experimentIds = experiments.stream().map(Experiment::getId).toList();
+        for (List<Integer> chunk : chunk(experimentIds)) {
+            alreadySaved.addAll(experimentTradeItemRepository.findExperimentIdsWithTradeItemBetween(
+                chunk, today.atStartOfDay(), today.atTime(LocalTime.MAX)));
+        }
+
+        final List<Experiment> targets = new ArrayList<>();
+        final Map<Integer, Stock> stockById = new LinkedHashMap<>();
+        int skippedCount = 0;
+        for (Experiment experiment : experiments) {
+            if (alreadySaved.contains(experiment.getId())) {
+                continue;
+            }
+            final Stock stock = experiment.getStock();
+            if (stock.getSymbol() == null || stock.getExchangeNum() == null || !isPositiveFinite(experiment.getBuyPrice())) {
+                log.warn("Skipping trade snapshot for invalid experiment - experimentId: {}, stockId: {}, buyPrice: {}",
+                    experiment.getId(), stock.getId(), experiment.getBuyPrice());
+                skippedCount++;
+                continue;
+            }
+            targets.add(experiment);
+            stockById.putIfAbsent(stock.getId(), stock);
+        }
+
+        // 종목 단위 오늘 점수 / 시세 (종목당 1회)
+        final Map<Integer, Score> todayScoreByStockId = new HashMap<>();
+        for (List<Integer> chunk : chunk(new ArrayList<>(stockById.keySet()))) {
+            for (Score score : scoreRepository.findTodayScoresByStockIds(chunk, today)) {
+                todayScoreByStockId.put(score.getStockId(), score);
+            }
+        }
+        Map<Integer, StockInfoResponse> priceByStockId = Map.of();
+        try {
+            final Map<Integer, StockInfoResponse> prices = securityService.getRealTimeStockPrices(stockById.values())
+                .block(PRICE_FETCH_TIMEOUT);
+            if (prices != null) {
+                priceByStockId = prices;
+            }
+        } catch (Exception e) {
+            log.error("Failed to fetch prices for trade snapshot - stocks: {}", stockById.size(), e);
+        }
+
+        // 가격/점수가 있는 실험만 스냅샷 행으로 변환
+        final LocalDateTime tradeAt = LocalDateTime.now();
+        final List<SnapshotRow> rows = new ArrayList<>(targets.size());
+        for (Experiment experiment : targets) {
+            final Stock stock = experiment.getStock();
+            final StockInfoResponse stockInfo = priceByStockId.get(stock.getId());
+            final Double price = stockInfo != null ? stockInfo.getPrice() : null;
+            final Score todayScore = todayScoreByStockId.get(stock.getId());
+            if (!isPositiveFinite(price) || todayScore == null) {
+                log.warn("Skipping trade snapshot - experimentId: {}, stockId: {}, price: {}, todayScore: {}",
+                    experiment.getId(), stock.getId(), price, todayScore != null);
+                skippedCount++;
+                continue;
+            }
+
+            final int score = COUNTRY.KOREA.equals(getCountryFromExchangeNum(stock.getExchangeNum()))
+                ? todayScore.getScoreKorea() : todayScore.getScoreOversea();
+            final double roi = (price - experiment.getBuyPrice()) / experiment.getBuyPrice() * 100;
+            rows.add(new SnapshotRow(experiment.getId(), stock.getId(), price, score, roi));
+        }
+
+        // 청크 단위 저장 (실패한 청크만 건너뜀)
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int savedCount = 0;
+        for (List<SnapshotRow> chunk : chunk(rows)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveChunk(chunk, tradeAt));
+                savedCount += chunk.size();
+            } catch (Exception e) {
+                log.error("Failed to save trade snapshot chunk - rows: {}", chunk.size(), e);
+                skippedCount += chunk.size();
+            }
+        }
+
+        return new SnapshotResult(experiments.size(), alreadySaved.size(), savedCount, skippedCount,
+            stockById.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void saveChunk(List<SnapshotRow> rows, LocalDateTime tradeAt) {
+        final StringBuilder sql = new StringBuilder(
+            "INSERT INTO experiment_trade_item (experiment_id, trade_at, price, score, roi) VALUES ");
+        final List<Object> params = new ArrayList<>(rows.size() * 5);
+        for (SnapshotRow row : rows) {
+            if (!params.isEmpty()) {
+                sql.append(", ");
+            }
+            final int base = params.size();
+            sql.append("(?").append(base + 1)
+                .append(", ?").append(base + 2)
+                .append(", ?").append(base + 3)
+                .append(", ?").append(base + 4)
+                .append(", ?").append(base + 5)
+                .append(")");
+            params.add(row.experimentId());
+            params.add(tradeAt);
+            params.add(row.price());
+            params.add(row.score());
+            params.add(row.roi());
+        }
+
+        final Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < params.size(); i++) {
+            query.setParameter(i + 1, params.get(i));
+        }
+        query.executeUpdate();
+
+        // 진행 중 실험 수익률은 종목(같은 가격)별 UPDATE 1회
+        final Map<Integer, List<Integer>> experimentIdsByStockId = new LinkedHashMap<>();
+        final Map<Integer, Double> priceByStockId = new HashMap<>();
+        for (SnapshotRow row : rows) {
+            experimentIdsByStockId.computeIfAbsent(row.stockId(), id -> new ArrayList<>()).add(row.experimentId());
+            priceByStockId.put(row.stockId(), row.price());
+        }
+        for (Map.Entry<Integer, List<Integer>> entry : experimentIdsByStockId.entrySet()) {
+            experimentRepository.updateProgressRoi(entry.getValue(), priceByStockId.get(entry.getKey()));
+        }
+    }
+
+    private static <T> List<List<T>> chunk(List<T> values) {
+        final List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += CHUNK_SIZE) {
+            chunks.add(values.subList(i, Math.min(i + CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
+    private COUNTRY getCountryFromExchangeNum(EXCHANGENUM exchangenum) {
+        return List.of(EXCHANGENUM.KOSPI, EXCHANGENUM.KOSDAQ, EXCHANGENUM.KOREAN_ETF).contains(exchangenum)
+            ? COUNTRY.KOREA : COUNTRY.OVERSEA;
+    }
+
+    private boolean isPositiveFinite(Double value) {
+        return value != null && Double.isFinite(value) && value > 0;
+    }
+
+    private record SnapshotRow(Integer experimentId, Integer stockId, double price, int score, double roi) {
+    }
+
+    /**
+     * 스냅샷 실행 결과
+     *
+     * @param progressCount 수집 대상 진행 실험 수
+     * @param alreadySavedCount 오늘 이미 스냅샷이 있던 실험 수
+     * @param savedCount 저장한 스냅샷 수
+     * @param skippedCount 시세/점수 누락 또는 저장 실패로 건너뛴 실험 수
+     * @param stockCount 조회한 종목 수
+     * @param elapsedMs 소요 시간
+     */
+    public record SnapshotResult(int progressCount, int alreadySavedCount, int savedCount, int skippedCount,
+                                 int stockCount, long elapsedMs) {
+
+        public double savedPerSecond() {
+            return elapsedMs == 0 ? savedCount : savedCount * 1000.0 / elapsedMs;
+        }
+    }
+}
@@ -1,44 +1,50 @@
 package com.fund.stockProject.experiment.service;
 
+import com.fund.stockProject.experiment.entity.MarketHoliday;
+import com.fund.stockProject.experiment.repository.MarketHolidayRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
+/**
+ * 공휴일 조회 (공공데이터포털 특일 정보 API)
+ *
+ * 외부 API는 {@link TradingCalendar}의 백그라운드 갱신에서만 호출하며, 결과는 market_holiday 테이블에 보관합니다.
+ * 요청 처리 경로에서는 외부 API를 호출하지 않습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class HolidayService {
 
     private final WebClient.Builder webClientBuilder;
+    private final MarketHolidayRepository marketHolidayRepository;
+    private final PlatformTransactionManager transactionManager;
     
     @Value("${api.data.go.kr.service-key:}")
     private String serviceKey;
 
     private static final String API_BASE_URL = "http://apis.data.go.kr/B090041/openapi/service/SpcdeInfoService";
     private static final Duration HOLIDAY_API_TIMEOUT = Duration.ofSeconds(8);
-    
-    // 간단한 메모리 캐시 (연도별)
-    private final ConcurrentHashMap<Integer, Set<LocalDate>> holidayCache = new ConcurrentHashMap<>();
 
     /**
-     * 특정 연도의 공휴일 목록을 조회합니다. (메모리 캐싱 적용)
+     * 특정 연도의 공휴일 목록을 API에서 조회합니다. (실패 시 empty)
      */
-    public Mono<Set<LocalDate>> getHolidays(int year) {
-        // 캐시 확인
-        if (holidayCache.containsKey(year)) {
-            return Mono.just(holidayCache.get(year));
-        }
-        
+    public Mono<Set<LocalDate>> fetchHolidays(int year) {
         log.info("Fetching holidays for year: {}", year);
         
         WebClient webClient = webClientBuilder
@@ -54,22 +60,46 @@ public class HolidayService {
                 .retrieve()
                 .bodyToMono(String.class)
                 .timeout(HOLIDAY_API_TIMEOUT)
-                .map(xmlResponse -> {
-                    Set<LocalDate> holidays = parseHolidays(xmlResponse);
-                    // 캐시에 저장
-                    holidayCache.put(year, holidays);
-                    return holidays;
-                })
+                .map(this::parseHolidays)
                 .doOnError(error -> log.error("Failed to fetch holidays for year: {}", year, error))
-                .onErrorReturn(new HashSet<>()); // 에러 발생 시 빈 Set 반환
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    /**
+     * API에서 연도별 공휴일을 다시 받아 로컬 테이블을 교체합니다. (비동기, DB 저장은 boundedElastic 에서 수행)
+     * 결과가 비어 있으면(미발표 연도, API 오류) 기존 데이터를 유지하고 empty 를 반환합니다.
+     */
+    public Mono<Set<LocalDate>> refreshHolidays(int year) {
+        return fetchHolidays(year)
+                .filter(holidays -> !holidays.isEmpty())
+                .publishOn(Schedulers.boundedElastic())
+                .map(holidays -> {
+                    replacePersistedHolidays(year, holidays);
+                    return holidays;
+                });
     }
 
     /**
-     * 특정 날짜가 공휴일인지 확인합니다.
+     * 로컬 테이블에 보관된 연도별 공휴일
      */
-    public Mono<Boolean> isHoliday(LocalDate date) {
-        return getHolidays(date.getYear())
-                .map(holidays -> holidays.contains(date));
+    public Set<LocalDate> loadPersistedHolidays(int year) {
+        return marketHolidayRepository.findByHolidayDateBetween(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                .stream()
+                .map(MarketHoliday::getHolidayDate)
+                .collect(Collectors.toSet());
+    }
+
+    private void replacePersistedHolidays(int year, Set<LocalDate> holidays) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            marketHolidayRepository.deleteByHolidayDateBetween(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+            List<MarketHoliday> rows = holidays.stream()
+                    .filter(date -> date.getYear() == year)
+                    .sorted()
+                    .map(MarketHoliday::new)
+                    .toList();
+            marketHolidayRepository.saveAll(rows);
+        });
+        log.info("Persisted {} holidays for year: {}", holidays.size(), year);
     }
 
     /**
@@ -104,17 +134,4 @@ public class HolidayService {
         
         return holidays;
     }
-
-    /**
-     * 동기 방식으로 공휴일 체크 (블로킹)
-     */
-    public boolean isHolidaySync(LocalDate date) {
-        try {
-            Set<LocalDate> holidays = getHolidays(date.getYear()).block(HOLIDAY_API_TIMEOUT.plusSeconds(1));
-            return holidays != null && holidays.contains(date);
-        } catch (Exception e) {
-            log.error("Failed to check holiday synchronously", e);
-            return false; // 에러 시 공휴일이 아닌 것으로 처리
-        }
-    }
 }
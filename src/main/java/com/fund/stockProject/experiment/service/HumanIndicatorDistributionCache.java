@@ -0,0 +1,130 @@
+package com.fund.stockProject.experiment.service;
+
+import com.fund.stockProject.experiment.dto.HumanIndicatorDistributionResponse;
+import com.fund.stockProject.experiment.repository.UserExperimentStatsRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인간지표 분포(전체 유저 공통) 캐시
+ *
+ * 요청 처리: 메모리 -> Redis 순으로 읽고, 둘 다 비어 있을 때(기동 직후)만 직접 계산합니다.
+ * 재계산: user_experiment_stats 성공률 그룹 집계 1회. 자동 매도 완료 후와 REFRESH_INTERVAL_MS 주기로 수행하며
+ * 결과를 Redis 에도 써서 다른 인스턴스가 DB 조회 없이 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HumanIndicatorDistributionCache {
+
+    private static final String CACHE_NAME = "humanIndicatorDistribution";
+    private static final String CACHE_KEY = "global";
+    private static final long REFRESH_INTERVAL_MS = 10 * 60 * 1000L; // 10분
+
+    // 등급별 성공률 구간 (이상 ~ 이하)
+    private static final String[] GRADES = {"worst", "bad", "normal", "good", "best"};
+    private static final double[][] GRADE_RANGES = {{0, 20}, {21, 40}, {41, 60}, {61, 80}, {81, 100}};
+
+    private final UserExperimentStatsRepository userExperimentStatsRepository;
+    private final CacheManager cacheManager;
+
+    private volatile HumanIndicatorDistributionResponse snapshot;
+    private volatile long loadedAt;
+
+    public HumanIndicatorDistributionResponse get() {
+        HumanIndicatorDistributionResponse current = snapshot;
+        if (current != null && System.currentTimeMillis() - loadedAt < REFRESH_INTERVAL_MS) {
+            return current;
+        }
+
+        // 다른 인스턴스가 계산해 둔 값
+        HumanIndicatorDistributionResponse cached = readFromRedis();
+        if (cached != null) {
+            publish(cached);
+            return cached;
+        }
+
+        // 메모리/Redis 모두 비어 있을 때만 직접 계산 (만료된 메모리 값이 있으면 그대로 사용)
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * 분포를 다시 계산해 메모리와 Redis 에 반영합니다. (자동 매도 완료 후 호출)
+     */
+    public synchronized HumanIndicatorDistributionResponse refresh() {
+        final HumanIndicatorDistributionResponse computed = compute();
+        publish(computed);
+        writeToRedis(computed);
+        return computed;
+    }
+
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MS, initialDelay = REFRESH_INTERVAL_MS)
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Failed to refresh human indicator distribution", e);
+        }
+    }
+
+    private HumanIndicatorDistributionResponse compute() {
+        final long[] userCountByGrade = new long[GRADES.length];
+        long completedUserCount = 0;
+        final List<Object[]> rows = userExperimentStatsRepository.countUsersGroupBySuccessRate();
+        for (Object[] row : rows) {
+            final double ratio = ((Number) row[0]).doubleValue();
+            final long userCount = ((Number) row[1]).longValue();
+            completedUserCount += userCount;
+            for (int i = 0; i < GRADES.length; i++) {
+                if (ratio >= GRADE_RANGES[i][0] && ratio <= GRADE_RANGES[i][1]) {
+                    userCountByGrade[i] += userCount;
+                    break;
+                }
+            }
+        }
+
+        final Map<String, Integer> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < GRADES.length; i++) {
+            distribution.put(GRADES[i],
+                completedUserCount == 0 ? 0 : (int) (userCountByGrade[i] * 100L / completedUserCount));
+        }
+
+        return HumanIndicatorDistributionResponse.builder()
+            .totalUsers(completedUserCount)
+            .distribution(distribution)
+            .build();
+    }
+
+    private void publish(HumanIndicatorDistributionResponse response) {
+        snapshot = response;
+        loadedAt = System.currentTimeMillis();
+    }
+
+    private HumanIndicatorDistributionResponse readFromRedis() {
+        try {
+            final Cache cache = cacheManager.getCache(CACHE_NAME);
+            return cache == null ? null : cache.get(CACHE_KEY, HumanIndicatorDistributionResponse.class);
+        } catch (Exception e) {
+            log.warn("Failed to read human indicator distribution from cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToRedis(HumanIndicatorDistributionResponse response) {
+        try {
+            final Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.put(CACHE_KEY, response);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to write human indicator distribution to cache: {}", e.getMessage());
+        }
+    }
+}
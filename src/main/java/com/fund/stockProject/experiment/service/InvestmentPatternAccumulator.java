@@ -0,0 +1,48 @@
+package com.fund.stockProject.experiment.service;
+
+import com.fund.stockProject.experiment.domain.INVESTMENTPATTERN;
+
+/**
+ * 투자 패턴 분류 (Vector Analysis - 원점 (50, 0) 기준 거리를 사분면별로 합산해 가장 큰 사분면)
+ *
+ * 실험을 한 건씩 누적하므로 전체 이력을 메모리에 올리지 않고 분류할 수 있습니다.
+ * 수익률이 없는(null) 실험은 제외합니다. (배치 조회 ExperimentRepository.streamCompletedScoreAndRoiOrderByUser 와 같은 기준)
+ */
+class InvestmentPatternAccumulator {
+
+    private final double[] distanceSums = new double[INVESTMENTPATTERN.values().length];
+    private int experimentCount;
+
+    void add(int score, Double roi) {
+        if (roi == null) {
+            return;
+        }
+        // 화면 이력과 같은 기준으로 소수 첫째 자리 반올림한 수익률 사용
+        final double roundedRoi = Math.round(roi * 10.0) / 10.0;
+        final double dx = score - 50.0;
+        final double distance = Math.sqrt(dx * dx + roundedRoi * roundedRoi);
+        distanceSums[INVESTMENTPATTERN.quadrantOf(score, roundedRoi).ordinal()] += distance;
+        experimentCount++;
+    }
+
+    int getExperimentCount() {
+        return experimentCount;
+    }
+
+    double getDistanceSum(INVESTMENTPATTERN pattern) {
+        return distanceSums[pattern.ordinal()];
+    }
+
+    /**
+     * 거리 합이 가장 큰 사분면 (동률이면 enum 선언 순서, 데이터가 없으면 가치 선점형)
+     */
+    INVESTMENTPATTERN result() {
+        INVESTMENTPATTERN best = INVESTMENTPATTERN.VALUE_PREEMPTIVE;
+        for (INVESTMENTPATTERN pattern : INVESTMENTPATTERN.values()) {
+            if (distanceSums[pattern.ordinal()] > distanceSums[best.ordinal()]) {
+                best = pattern;
+            }
+        }
+        return best;
+    }
+}
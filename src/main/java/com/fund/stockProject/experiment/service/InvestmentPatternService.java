@@ -0,0 +1,205 @@
+package com.fund.stockProject.experiment.service;
+
+import com.fund.stockProject.experiment.domain.INVESTMENTPATTERN;
+import com.fund.stockProject.experiment.repository.ExperimentRepository;
+import com.fund.stockProject.experiment.repository.UserInvestmentPatternRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 유저별 투자 패턴 배치 및 패턴 분포
+ *
+ * 완료된 실험 전체를 유저 순으로 스트리밍하며 유저가 바뀔 때마다 패턴을 확정하므로 메모리는 유저 1명 분량만 사용합니다.
+ * 결과는 WRITE_CHUNK_SIZE 명씩 별도 트랜잭션(별도 커넥션)으로 user_investment_pattern 에 upsert 하고,
+ * 패턴별 유저 수는 메모리에 보관해 같은 패턴 유저 비율을 O(1)로 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InvestmentPatternService {
+
+    private static final int WRITE_CHUNK_SIZE = 500;
+
+    private final ExperimentRepository experimentRepository;
+    private final UserInvestmentPatternRepository userInvestmentPatternRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 패턴별 유저 수 (ordinal 인덱스). null 이면 아직 로드 전
+    private volatile int[] userCountByPattern;
+
+    /**
+     * 전체 유저의 투자 패턴을 다시 계산합니다. (스트리밍 조회는 이 트랜잭션, 저장은 청크별 새 트랜잭션)
+     *
+     * @return 패턴을 저장한 유저 수
+     */
+    @Transactional(readOnly = true)
+    public int rebuildAll() {
+        final long startedAt = System.currentTimeMillis();
+        final TransactionTemplate writeTemplate = new TransactionTemplate(transactionManager);
+        writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        final int[] counts = new int[INVESTMENTPATTERN.values().length];
+        final List<PatternRow> buffer = new ArrayList<>(WRITE_CHUNK_SIZE);
+        int userCount = 0;
+        long experimentCount = 0;
+
+        try (Stream<Object[]> stream = experimentRepository.streamCompletedScoreAndRoiOrderByUser()) {
+            final Iterator<Object[]> iterator = stream.iterator();
+            Integer currentUserId = null;
+            InvestmentPatternAccumulator accumulator = null;
+            while (iterator.hasNext()) {
+                final Object[] row = iterator.next();
+                final Integer userId = ((Number) row[0]).intValue();
+                if (!userId.equals(currentUserId)) {
+                    if (accumulator != null) {
+                        userCount++;
+                        collect(currentUserId, accumulator, counts, buffer, writeTemplate);
+                    }
+                    currentUserId = userId;
+                    accumulator = new InvestmentPatternAccumulator();
+                }
+                accumulator.add(((Number) row[1]).intValue(), ((Number) row[2]).doubleValue());
+                experimentCount++;
+            }
+            if (accumulator != null) {
+                userCount++;
+                collect(currentUserId, accumulator, counts, buffer, writeTemplate);
+            }
+        }
+        if (!buffer.isEmpty()) {
+            flush(buffer, writeTemplate);
+        }
+
+        userCountByPattern = counts;
+        log.info("Investment patterns rebuilt - users: {}, experiments: {}, elapsedMs: {}",
+            userCount, experimentCount, System.currentTimeMillis() - startedAt);
+        return userCount;
+    }
+
+    /**
+     * 패턴이 한 건도 저장되지 않았는지 (기동 시 재계산 여부 판단)
+     */
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return userInvestmentPatternRepository.count() == 0;
+    }
+
+    /**
+     * 같은 패턴 유저 비율 (%, 패턴이 계산된 유저 기준)
+     */
+    @Transactional(readOnly = true)
+    public int getPercentile(INVESTMENTPATTERN pattern) {
+        int[] counts = userCountByPattern;
+        if (counts == null) {
+            counts = loadUserCountByPattern();
+            userCountByPattern = counts;
+        }
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total == 0 ? 0 : (int) (counts[pattern.ordinal()] * 100L / total);
+    }
+
+    /**
+     * 유저의 실험 데이터가 삭제될 때 패턴도 함께 삭제합니다. (분포는 다음 로드 때 반영)
+     */
+    @Transactional
+    public void deleteByUserId(Integer userId) {
+        if (userInvestmentPatternRepository.deleteByUserId(userId) > 0) {
+            userCountByPattern = null;
+        }
+    }
+
+    private int[] loadUserCountByPattern() {
+        final int[] counts = new int[INVESTMENTPATTERN.values().length];
+        for (Object[] row : userInvestmentPatternRepository.countUsersGroupByPatternType()) {
+            counts[((INVESTMENTPATTERN) row[0]).ordinal()] = ((Number) row[1]).intValue();
+        }
+        return counts;
+    }
+
+    private void collect(Integer userId, InvestmentPatternAccumulator accumulator, int[] counts,
+                         List<PatternRow> buffer, TransactionTemplate writeTemplate) {
+        final INVESTMENTPATTERN pattern = accumulator.result();
+        counts[pattern.ordinal()]++;
+        buffer.add(new PatternRow(userId, pattern, accumulator.getExperimentCount(),
+            accumulator.getDistanceSum(INVESTMENTPATTERN.VALUE_PREEMPTIVE),
+            accumulator.getDistanceSum(INVESTMENTPATTERN.TREND_PREEMPTIVE),
+            accumulator.getDistanceSum(INVESTMENTPATTERN.REVERSE_INVESTOR),
+            accumulator.getDistanceSum(INVESTMENTPATTERN.LAGGING_FOLLOWER)));
+        if (buffer.size() >= WRITE_CHUNK_SIZE) {
+            flush(buffer, writeTemplate);
+        }
+    }
+
+    private void flush(List<PatternRow> buffer, TransactionTemplate writeTemplate) {
+        final List<PatternRow> rows = new ArrayList<>(buffer);
+        buffer.clear();
+        writeTemplate.executeWithoutResult(status -> upsert(rows));
+    }
+
+    private void upsert(List<PatternRow> rows) {
+        final StringBuilder sql = new StringBuilder(
+            "INSERT INTO user_investment_pattern (user_id, pattern_type, experiment_count, value_preemptive_sum, "
+                + "trend_preemptive_sum, reverse_investor_sum, lagging_follower_sum, created_at, modified_at) VALUES ");
+        final List<Object> params = new ArrayList<>(rows.size() * 8);
+        final LocalDateTime now = LocalDateTime.now();
+        for (PatternRow row : rows) {
+            if (!params.isEmpty()) {
+                sql.append(", ");
+            }
+            final int base = params.size();
+            sql.append("(?").append(base + 1)
+                .append(", ?").append(base + 2)
+                .append(", ?").append(base + 3)
+                .append(", ?").append(base + 4)
+                .append(", ?").append(base + 5)
+                .append(", ?").append(base + 6)
+                .append(", ?").append(base + 7)
+                .append(", ?").append(base + 8)
+                .append(", ?").append(base + 8)
+                .append(")");
+            params.add(row.userId());
+            params.add(row.pattern().name());
+            params.add(row.experimentCount());
+            params.add(row.valuePreemptiveSum());
+            params.add(row.trendPreemptiveSum());
+            params.add(row.reverseInvestorSum());
+            params.add(row.laggingFollowerSum());
+            params.add(now);
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE pattern_type = VALUES(pattern_type), "
+            + "experiment_count = VALUES(experiment_count), value_preemptive_sum = VALUES(value_preemptive_sum), "
+            + "trend_preemptive_sum = VALUES(trend_preemptive_sum), reverse_investor_sum = VALUES(reverse_investor_sum), "
+            + "lagging_follower_sum = VALUES(lagging_follower_sum), modified_at = VALUES(modified_at)");
+
+        final Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < params.size(); i++) {
+            query.setParameter(i + 1, params.get(i));
+        }
+        query.executeUpdate();
+    }
+
+    private record PatternRow(Integer userId, INVESTMENTPATTERN pattern, int experimentCount,
+                              double valuePreemptiveSum, double trendPreemptiveSum,
+                              double reverseInvestorSum, double laggingFollowerSum) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.fund.stockProject.experiment.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 국내 영업일 달력
+ *
+ * 연도별로 휴장일(주말 + 공휴일)을 1월 1일 기준 비트셋으로 보관하고, 영업일 계산은 비트 탐색으로 처리합니다.
+ * 공휴일은 로컬 테이블(market_holiday)에서 읽고, 외부 API 조회는 백그라운드 갱신에서만 수행합니다.
+ * 공휴일 데이터가 없는 연도는 주말만 휴장일로 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TradingCalendar {
+
+    private static final ZoneId ASIA_SEOUL = ZoneId.of("Asia/Seoul");
+    private static final int WINDOW_PAST_YEARS = 1; // 미리 적재할 과거 연도 수
+    private static final int WINDOW_FUTURE_YEARS = 1; // 미리 적재할 미래 연도 수
+
+    private final HolidayService holidayService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 연도 -> 휴장일 비트셋 (bit i = 1월 1일부터 i일 뒤가 휴장일). 게시 후에는 수정하지 않음
+    private final ConcurrentHashMap<Integer, BitSet> closedDaysByYear = new ConcurrentHashMap<>();
+
+    /**
+     * 기동 시 로컬 테이블로 달력을 채우고, 보관된 공휴일이 없는 연도만 API 갱신을 요청합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        final int currentYear = LocalDate.now(ASIA_SEOUL).getYear();
+        for (int year = currentYear - WINDOW_PAST_YEARS; year <= currentYear + WINDOW_FUTURE_YEARS; year++) {
+            try {
+                closedDays(year);
+            } catch (Exception e) {
+                log.error("Failed to preload trading calendar - year: {}", year, e);
+            }
+        }
+    }
+
+    /**
+     * 매일 새벽 달력 범위 전체의 공휴일을 다시 받습니다. (임시공휴일 지정, 다음 연도 발표 반영)
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void refresh() {
+        final int currentYear = LocalDate.now(ASIA_SEOUL).getYear();
+        for (int year = currentYear - WINDOW_PAST_YEARS; year <= currentYear + WINDOW_FUTURE_YEARS; year++) {
+            refreshAsync(year);
+        }
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        return !closedDays(date.getYear()).get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 시작일을 포함해 n번째 영업일 (주말/공휴일 제외)
+     */
+    public LocalDate nthBusinessDay(LocalDate fromDate, int nthBusinessDay) {
+        if (nthBusinessDay < 1) {
+            throw new IllegalArgumentException("nthBusinessDay must be positive: " + nthBusinessDay);
+        }
+
+        int year = fromDate.getYear();
+        int dayIndex = fromDate.getDayOfYear() - 1;
+        int remaining = nthBusinessDay;
+        while (true) {
+            final BitSet closedDays = closedDays(year);
+            final int length = Year.of(year).length();
+            for (int day = closedDays.nextClearBit(dayIndex); day < length; day = closedDays.nextClearBit(day + 1)) {
+                if (--remaining == 0) {
+                    return LocalDate.ofYearDay(year, day + 1);
+                }
+            }
+            year++;
+            dayIndex = 0;
+        }
+    }
+
+    private BitSet closedDays(int year) {
+        BitSet closedDays = closedDaysByYear.get(year);
+        if (closedDays != null) {
+            return closedDays;
+        }
+
+        final Set<LocalDate> holidays = holidayService.loadPersistedHolidays(year);
+        closedDays = closedDaysByYear.computeIfAbsent(year, y -> toClosedDays(y, holidays));
+        if (holidays.isEmpty()) {
+            log.info("No persisted holidays - counting weekends only until refreshed, year: {}", year);
+            refreshAsync(year);
+        }
+        return closedDays;
+    }
+
+    private void refreshAsync(int year) {
+        holidayService.refreshHolidays(year).subscribe(
+            holidays -> {
+                final BitSet closedDays = toClosedDays(year, holidays);
+                final BitSet previous = closedDaysByYear.put(year, closedDays);
+                log.info("Trading calendar refreshed - year: {}, holidays: {}", year, holidays.size());
+                if (!closedDays.equals(previous)) {
+                    eventPublisher.publishEvent(new CalendarChangedEvent(year));
+                }
+            },
+            error -> log.error("Failed to refresh trading calendar - year: {}", year, error)
+        );
+    }
+
+    private static BitSet toClosedDays(int year, Set<LocalDate> holidays) {
+        final int length = Year.of(year).length();
+        final BitSet closedDays = new BitSet(length);
+        final DayOfWeek firstDay = LocalDate.of(year, 1, 1).getDayOfWeek();
+        for (int day = 0; day < length; day++) {
+            final DayOfWeek dayOfWeek = firstDay.plus(day);
+            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                closedDays.set(day);
+            }
+        }
+        for (LocalDate holiday : holidays) {
+            if (holiday.getYear() == year) {
+                closedDays.set(holiday.getDayOfYear() - 1);
+            }
+        }
+        return closedDays;
+    }
+
+    /**
+     * 특정 연도의 휴장일이 바뀌었을 때 발행 (해당 연도를 기준으로 계산된 영업일 보정용)
+     */
+    public record CalendarChangedEvent(int year) {
+    }
+}
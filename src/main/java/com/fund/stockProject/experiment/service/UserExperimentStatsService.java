@@ -0,0 +1,133 @@
+package com.fund.stockProject.experiment.service;
+
+import com.fund.stockProject.experiment.entity.UserExperimentStats;
+import com.fund.stockProject.experiment.repository.ExperimentRepository;
+import com.fund.stockProject.experiment.repository.UserExperimentStatsRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserExperimentStatsService {
+
+    private final UserExperimentStatsRepository userExperimentStatsRepository;
+    private final ExperimentRepository experimentRepository;
+    private final ExperimentGlobalStatsCache experimentGlobalStatsCache;
+    private final HumanIndicatorDistributionCache humanIndicatorDistributionCache;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        try {
+            seedMissingStats();
+        } catch (Exception e) {
+            log.error("Failed to seed user experiment stats", e);
+        }
+    }
+
+    /**
+     * 완료 실험이 있는 유저보다 통계 행이 적으면(도입 직후, 중간에 실패한 시드 등) experiment 테이블로 전체를 다시 계산합니다.
+     * rebuildAll 은 upsert 이므로 이미 있는 행은 같은 값으로 덮어씁니다.
+     *
+     * @return 반영된 행 수 (시드가 필요 없으면 0)
+     */
+    public int seedMissingStats() {
+        final long expected = experimentRepository.countUsersWithCompletedExperiments();
+        final long existing = userExperimentStatsRepository.count();
+        if (existing >= expected) {
+            return 0;
+        }
+
+        final int rows = userExperimentStatsRepository.rebuildAll();
+        log.info("User experiment stats seeded from experiments - existing: {}, expected: {}, rows: {}",
+            existing, expected, rows);
+        experimentGlobalStatsCache.invalidate();
+        humanIndicatorDistributionCache.refresh();
+        return rows;
+    }
+
+    /**
+     * 실험 완료(자동 매도) 직후 호출합니다. 완료된 experiment 행이 flush 된 뒤여야 합니다.
+     * 전체 통계 캐시는 커밋 후에 반영하므로, 호출한 트랜잭션이 롤백되면 캐시도 그대로입니다.
+     */
+    @Transactional
+    public void onExperimentCompleted(Integer userId, int score, double roi) {
+        final Optional<UserExperimentStats> existing = userExperimentStatsRepository.findByUserId(userId);
+
+        final ExperimentGlobalStatsCache.RateState previous;
+        final UserExperimentStats updated;
+        if (existing.isPresent()) {
+            updated = existing.get();
+            previous = new ExperimentGlobalStatsCache.RateState(updated.getCompletedCount(), updated.getSuccessRate());
+            updated.applyCompleted(score, roi);
+        } else {
+            // 행이 없음: 방금 완료된 실험까지 포함해 experiment 테이블로 생성
+            previous = null;
+            userExperimentStatsRepository.rebuildByUserId(userId);
+            updated = userExperimentStatsRepository.findByUserId(userId).orElse(null);
+            if (updated == null) {
+                log.warn("User experiment stats not created - userId: {}", userId);
+                return;
+            }
+            if (updated.getCompletedCount() > 1) {
+                // 시드 전 완료 실험까지 함께 채워졌으므로 변경분 대신 전체를 다시 읽음
+                afterCommit(experimentGlobalStatsCache::invalidate);
+                return;
+            }
+        }
+
+        final ExperimentGlobalStatsCache.RateState current =
+            new ExperimentGlobalStatsCache.RateState(updated.getCompletedCount(), updated.getSuccessRate());
+        afterCommit(() -> experimentGlobalStatsCache.onExperimentCompleted(previous, current, score, roi));
+    }
+
+    /**
+     * 유저 통계 (완료 실험이 없으면 0으로 채운 빈 통계)
+     * 완료 실험이 있는데 행이 없으면 이 유저의 통계를 experiment 테이블로 다시 계산합니다.
+     */
+    @Transactional
+    public UserExperimentStats getStats(Integer userId) {
+        final Optional<UserExperimentStats> existing = userExperimentStatsRepository.findByUserId(userId);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        if (!experimentRepository.existsCompletedByUserId(userId)) {
+            return new UserExperimentStats(userId);
+        }
+
+        userExperimentStatsRepository.rebuildByUserId(userId);
+        afterCommit(experimentGlobalStatsCache::invalidate);
+        log.info("User experiment stats rebuilt on read - userId: {}", userId);
+        return userExperimentStatsRepository.findByUserId(userId)
+            .orElseGet(() -> new UserExperimentStats(userId));
+    }
+
+    /**
+     * 유저의 실험 데이터가 삭제될 때 통계도 함께 삭제합니다.
+     */
+    @Transactional
+    public void deleteByUserId(Integer userId) {
+        userExperimentStatsRepository.deleteByUserId(userId);
+        afterCommit(experimentGlobalStatsCache::invalidate);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
@@ -16,6 +17,7 @@ import java.util.List;
 
 @Configuration
 @Slf4j
+@ConditionalOnProperty(name = "fcm.fake.enabled", havingValue = "false", matchIfMissing = true) // 가짜 전송기 사용 시 Firebase 초기화 생략
 public class FirebaseConfig {
 
     @Value("${fcm.credentials.path}")
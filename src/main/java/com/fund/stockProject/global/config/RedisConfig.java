@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -85,12 +86,24 @@ public class RedisConfig {
         cacheConfigurations.put("validStocks",
             defaultCacheConfiguration.entryTtl(Duration.ofHours(1)));
 
+        // 인간지표 분포(전체 유저 공통): 30분 캐시, 자동 매도/주기 갱신 시 덮어씀
+        cacheConfigurations.put("humanIndicatorDistribution",
+            defaultCacheConfiguration.entryTtl(Duration.ofMinutes(30)));
+
         return RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(defaultCacheConfiguration)
             .withInitialCacheConfigurations(cacheConfigurations)
             .build();
     }
 
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        // SSE 노드 간 전달용 (채널 구독은 SsePushService 가 연결 상황에 따라 추가/제거)
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     @SuppressWarnings("unchecked")
     private RedisSerializationContext.SerializationPair<Object> castToObjectPair(
         RedisSerializationContext.SerializationPair<?> pair) {
@@ -0,0 +1,32 @@
+package com.fund.stockProject.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테이블별 데이터 보관 정책 (retention.*)
+ * 보관 기간(일)이 0 이하이면 해당 정리를 하지 않습니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "retention")
+public class RetentionProperties {
+    private int chunkSize = 1000;       // DELETE/UPDATE ... LIMIT 한 번에 처리할 행 수
+    private long pauseMs = 200;         // 청크 사이 대기 (다른 트랜잭션에 락/IO 양보)
+    private int maxChunksPerRun = 2000; // 한 번 실행에서 처리할 최대 청크 수 (남은 행은 다음 실행)
+    private Outbox outbox = new Outbox();
+    private NotificationPolicy notification = new NotificationPolicy();
+
+    @Data
+    public static class Outbox {
+        private int processedDays = 7;      // 발송 완료(PROCESSED) 이벤트 보관
+        private int retryFailAfterDays = 30; // 이 기간이 지나도록 재시도 중이면 FAILED 로 전환
+        private int failedDays = 90;        // 실패(FAILED) 이벤트 보관
+    }
+
+    @Data
+    public static class NotificationPolicy {
+        private int days = 90; // 알림 보관
+    }
+}
@@ -82,6 +82,7 @@ public class SecurityConfig {
             "/stock/sector/average/{country}",
             "/stock/{id}/sector/percentile",
             "/stock/{id}/average/month",
+            "/stock/{id}/score/history",
             "/stock/sector/average/{country}/{sector}",
     };
 
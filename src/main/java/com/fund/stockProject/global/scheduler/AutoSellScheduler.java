@@ -1,9 +1,8 @@
 package com.fund.stockProject.global.scheduler;
 
-import com.fund.stockProject.experiment.entity.Experiment;
-import com.fund.stockProject.experiment.service.ExperimentService;
-import java.time.LocalDate;
-import java.util.List;
+import com.fund.stockProject.experiment.service.ExperimentAutoSellService;
+import com.fund.stockProject.experiment.service.ExperimentTradeSnapshotService;
+import com.fund.stockProject.experiment.service.HumanIndicatorDistributionCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,65 +13,47 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AutoSellScheduler {
 
-    private final ExperimentService experimentService;
+    private final ExperimentAutoSellService experimentAutoSellService;
+    private final ExperimentTradeSnapshotService experimentTradeSnapshotService;
+    private final HumanIndicatorDistributionCache humanIndicatorDistributionCache;
 
     /**
-     * 모의투자 자동매매 스케줄러
+     * 모의투자 자동매매 스케줄러 (5영업일차 실험 일괄 매도)
      */
     @Scheduled(cron = "0 30 23 ? * MON-FRI", zone = "Asia/Seoul")
     public void processAutoSell() {
         log.info("Starting auto-sell scheduler");
-        LocalDate today = LocalDate.now();
+        final long startedAt = System.currentTimeMillis();
 
-        // 모의 매수 5일차 종목 조회
-        final List<Experiment> experimentsAfter5BusinessDays = experimentService.findExperimentsAfter5BusinessDays();
-        log.info("Found {} experiments for auto-sell", experimentsAfter5BusinessDays.size());
+        final ExperimentAutoSellService.AutoSellResult result = experimentAutoSellService.sellDueExperiments();
 
-        int successCount = 0;
-        int failureCount = 0;
-        
-        for (Experiment experiment : experimentsAfter5BusinessDays) {
+        log.info("Auto-sell scheduler completed - Total: {}, Stocks: {}, Success: {}, Failed: {}, elapsedMs: {}",
+                result.dueCount(), result.stockCount(), result.successCount(), result.failureCount(),
+                System.currentTimeMillis() - startedAt);
+
+        // 완료된 실험이 생겼으므로 인간지표 분포 재계산
+        if (result.successCount() > 0) {
             try {
-                boolean success = experimentService.updateExperiment(experiment);
-                if (success) {
-                    successCount++;
-                } else {
-                    failureCount++;
-                }
+                humanIndicatorDistributionCache.refresh();
             } catch (Exception e) {
-                failureCount++;
-                log.error("Error processing auto-sell for experiment - experimentId: {}", experiment.getId(), e);
+                log.error("Failed to refresh human indicator distribution after auto-sell", e);
             }
         }
-
-        log.info("Auto-sell scheduler completed - Total: {}, Success: {}, Failed: {}", 
-                experimentsAfter5BusinessDays.size(), successCount, failureCount);
     }
 
+    /**
+     * 진행 중 실험 일별 스냅샷 (가격/점수/수익률)
+     */
     @Scheduled(cron = "0 0 18 * * ?", zone = "Asia/Seoul")
     public void processProgressExperiment() {
         log.info("Starting progress experiment scheduler");
-        LocalDate today = LocalDate.now();
-
-        // 모의 매수 5일차 미만의 실험 진행중인 종목 조회
-        final List<Experiment> experimentsPrevious5BusinessDays = experimentService.findExperimentsPrevious5BusinessDays();
-        log.info("Found {} experiments in progress", experimentsPrevious5BusinessDays.size());
 
-        int successCount = 0;
-        int failureCount = 0;
-
-        // 영업일 기준 데이터 저장
-        for (Experiment experiment : experimentsPrevious5BusinessDays) {
-            try {
-                experimentService.saveExperimentTradeItem(experiment);
-                successCount++;
-            } catch (Exception e) {
-                failureCount++;
-                log.error("Error processing progress experiment - experimentId: {}", experiment.getId(), e);
-            }
-        }
+        final ExperimentTradeSnapshotService.SnapshotResult result =
+                experimentTradeSnapshotService.snapshotProgressExperiments();
 
-        log.info("Progress experiment scheduler completed - Total: {}, Success: {}, Failed: {}", 
-                experimentsPrevious5BusinessDays.size(), successCount, failureCount);
+        log.info("Progress experiment scheduler completed - Total: {}, AlreadySaved: {}, Saved: {}, Skipped: {}, "
+                        + "Stocks: {}, elapsedMs: {}, savedPerSec: {}",
+                result.progressCount(), result.alreadySavedCount(), result.savedCount(), result.skippedCount(),
+                result.stockCount(), result.elapsedMs(), String.format("%.1f", result.savedPerSecond()));
     }
 }
@@ -0,0 +1,43 @@
+package com.fund.stockProject.global.scheduler;
+
+import com.fund.stockProject.experiment.service.InvestmentPatternService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvestmentPatternScheduler {
+
+    private final InvestmentPatternService investmentPatternService;
+
+    // 패턴 테이블이 비어 있으면(도입 직후) 다음 배치까지 비율이 0 으로 보이지 않도록 기동 시 한 번 계산
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmptyOnStartup() {
+        try {
+            if (!investmentPatternService.isEmpty()) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to check investment patterns on startup", e);
+            return;
+        }
+        rebuildInvestmentPatterns();
+    }
+
+    // 자동 매도(23:30) 이후 매일 전체 유저 투자 패턴 재계산
+    @Scheduled(cron = "0 30 1 * * *", zone = "Asia/Seoul")
+    public void rebuildInvestmentPatterns() {
+        log.info("Starting investment pattern scheduler");
+        try {
+            final int userCount = investmentPatternService.rebuildAll();
+            log.info("Investment pattern scheduler completed - users: {}", userCount);
+        } catch (Exception e) {
+            log.error("Investment pattern scheduler failed", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.fund.stockProject.global.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fund.stockProject.notification.service.NotificationRetentionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetentionScheduler {
+
+    private final NotificationRetentionService notificationRetentionService;
+
+    // 매일 새벽 3시 보관 기간이 지난 Outbox 이벤트/알림 정리 (테이블별 실패는 서로 영향 없음)
+    @Scheduled(cron = "0 0 3 * * ?", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        try {
+            notificationRetentionService.purgeOutboxEvents();
+        } catch (Exception e) {
+            log.error("Error during outbox retention", e);
+        }
+
+        try {
+            notificationRetentionService.purgeNotifications();
+        } catch (Exception e) {
+            log.error("Error during notification retention", e);
+        }
+    }
+}
@@ -34,16 +34,15 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
     List<Keyword> findKeywordsByStockId(@Param("stockId") Integer stockId, Pageable pageable);
 
     /**
-     * 여러 stockId에 대한 Keyword를 한 번에 조회 (배치 조회로 N+1 문제 해결)
+     * 여러 stockId에 대한 키워드 이름만 조회 (엔티티 로딩 없이 [stockId, keywordName] 반환)
      * @param stockIds 조회할 stockId 목록
-     * @return StockKeyword 리스트 (stockId와 keyword 정보 포함)
+     * @return [stockId, keywordName] 리스트 (stockId, 빈도 내림차순)
      */
-    @Query("SELECT sk FROM StockKeyword sk " +
-        "JOIN FETCH sk.keyword k " +
-        "JOIN FETCH sk.stock s " +
+    @Query("SELECT sk.stock.id, k.name FROM StockKeyword sk " +
+        "JOIN sk.keyword k " +
         "WHERE sk.stock.id IN :stockIds " +
         "ORDER BY sk.stock.id, k.frequency DESC")
-    List<com.fund.stockProject.keyword.entity.StockKeyword> findKeywordsByStockIds(@Param("stockIds") List<Integer> stockIds);
+    List<Object[]> findKeywordNamesByStockIds(@Param("stockIds") List<Integer> stockIds);
 
     @Query("SELECT k " +
            "FROM Keyword k " +
@@ -5,6 +5,7 @@ import com.fund.stockProject.keyword.entity.Keyword;
 import com.fund.stockProject.keyword.entity.StockKeyword;
 import com.fund.stockProject.keyword.repository.KeywordRepository;
 import com.fund.stockProject.keyword.repository.StockKeywordRepository;
+import com.fund.stockProject.keyword.service.StockKeywordCache.KeywordFilter;
 import com.fund.stockProject.stock.domain.COUNTRY;
 import com.fund.stockProject.stock.domain.EXCHANGENUM;
 import com.fund.stockProject.stock.dto.response.StockInfoResponse;
@@ -27,11 +28,18 @@ public class KeywordService {
     private final KeywordRepository keywordRepository;
     private final StockKeywordRepository stockKeywordRepository;
     private final SecurityService securityService;
+    private final StockKeywordCache stockKeywordCache;
 
     public List<KeywordStockResponse> findStocksByKeyword(String keywordName) {
         final List<StockKeyword> byKeywordName = stockKeywordRepository.findByKeywordName(keywordName);
         final List<KeywordStockResponse> stocks = new ArrayList<>();
 
+        // 결과 후보 종목의 키워드를 한 번에 캐시에 적재
+        stockKeywordCache.preload(byKeywordName.stream()
+            .limit(15)
+            .map(stockKeyword -> stockKeyword.getStock().getId())
+            .toList());
+
         for (final StockKeyword stockKeyword : byKeywordName) {
             if(stocks.size() >= 15){
                 break;
@@ -40,8 +48,7 @@ public class KeywordService {
             final Stock stock = stockKeyword.getStock();
             final StockInfoResponse stockInfoResponse = securityService.getSecurityStockInfoKorea(stock.getId(), stock.getSymbolName(), stock.getSecurityName(), stock.getSymbol(), stock.getExchangeNum(),
                 List.of(EXCHANGENUM.KOSPI, EXCHANGENUM.KOSDAQ, EXCHANGENUM.KOREAN_ETF).contains(stock.getExchangeNum()) ? COUNTRY.KOREA : COUNTRY.OVERSEA).block();
-            final List<String> keywordNames = keywordRepository.findKeywordsByStockId(stock.getId(), PageRequest.of(0, 2))
-                .stream().map(Keyword::getName).toList();
+            final List<String> keywordNames = stockKeywordCache.getTopKeywords(stock.getId(), null, 2, KeywordFilter.NONE);
 
             stocks.add(KeywordStockResponse.builder()
                     .stockId(stockInfoResponse.getStockId())
@@ -76,23 +83,12 @@ public class KeywordService {
 
         return popularKeywords.stream()
             .map(Keyword::getName)
-            .filter(this::isValidKeyword)
+            .filter(StockKeywordCache::isValidKeyword)
             .distinct()
             .limit(10)
             .collect(Collectors.toList());
     }
 
-    private boolean isValidKeyword(String name) {
-        if (name == null || name.isBlank()) {
-            return false;
-        }
-
-        String specialCharsPattern = "^[a-zA-Z0-9가-힣\\s]+$";
-        String postfixPattern = "^(이|가|을|를|의|에|로|으로|에서|와|과|은|는|도|만|까지|부터|마저|조차|나마|처럼|같이|크|등|또|전|있다|있다.|이다|이다.|있는).*|.*(이|가|을|를|의|에|로|으로|에서|와|과|은|는|도|만|까지|부터|마저|조차|나마|처럼|같이|하|등|또|전)$";
-
-        return name.matches(specialCharsPattern) && !name.matches(postfixPattern);
-    }
-
     public List<String> findKeywordRanking() {
         // 현재 날짜와 어제 날짜를 선언
         LocalDate today = LocalDate.now();
@@ -104,7 +100,7 @@ public class KeywordService {
         // 유효한 키워드를 필터링하고 상위 10개만 반환
         return topKeywords.stream()
                           .map(Keyword::getName)
-                          .filter(this::isValidKeyword)
+                          .filter(StockKeywordCache::isValidKeyword)
                           .distinct()
                           .limit(10)
                           .toList();
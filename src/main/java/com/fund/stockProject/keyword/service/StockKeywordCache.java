@@ -0,0 +1,215 @@
+package com.fund.stockProject.keyword.service;
+
+import com.fund.stockProject.keyword.repository.KeywordRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 종목별 상위 유효 키워드 캐시
+ *
+ * 키워드는 하루 한 번 점수 배치에서만 바뀌므로, 배치가 키워드를 저장할 때 캐시를 채우고
+ * 각 API(숏뷰, 떡상/떡락, 관련 종목, 키워드 검색)는 종목별 빈도순 List<String>을 바로 읽습니다.
+ * 캐시에는 공백/중복만 제외한 목록을 두고, 유효성 검사는 API마다 쓰던 기준({@link KeywordFilter})으로 조회 시 적용합니다.
+ * 캐시에 없는 종목은 한 번의 배치 조회로 채웁니다. (다른 인스턴스에서 배치가 돈 경우를 대비해 TTL 적용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockKeywordCache {
+
+    private static final Pattern SPECIAL_CHARS_PATTERN = Pattern.compile("^[a-zA-Z0-9가-힣\\s]+$");
+    // 종목 API(떡상/떡락, 관련 종목, 종목 상세) 기준: 조사로 시작/끝나는 단어 제외
+    private static final Pattern STOCK_POSTFIX_PATTERN = Pattern.compile(
+        "^(이|가|을|를|의|에|로|으로|에서|와|과|은|는|도|만|까지|부터|마저|조차|나마|처럼|같이|크|등|또|전).*"
+            + "|.*(이|가|을|를|의|에|로|으로|에서|와|과|은|는|도|만|까지|부터|마저|조차|나마|처럼|같이|하|등|또|전)$");
+    // 키워드 API(인기 키워드, 키워드 랭킹) 기준: 서술어(있다/이다/있는)로 시작하는 단어도 제외
+    private static final Pattern KEYWORD_POSTFIX_PATTERN = Pattern.compile(
+        "^(이|가|을|를|의|에|로|으로|에서|와|과|은|는|도|만|까지|부터|마저|조차|나마|처럼|같이|크|등|또|전|있다|있다.|이다|이다.|있는).*"
+            + "|.*(이|가|을|를|의|에|로|으로|에서|와|과|은|는|도|만|까지|부터|마저|조차|나마|처럼|같이|하|등|또|전)$");
+
+    private static final int MAX_KEYWORDS_PER_STOCK = 20; // 종목당 보관할 최대 키워드 수 (조회 시 필터링 여유분 포함)
+    private static final long ENTRY_TTL_MS = 60 * 60 * 1000L; // 1시간
+    private static final int LOAD_CHUNK_SIZE = 1000; // IN 절 크기 제한
+
+    private final KeywordRepository keywordRepository;
+
+    // stockId -> 빈도 내림차순 유효 키워드
+    private final Map<Integer, CachedKeywords> keywordsByStockId = new ConcurrentHashMap<>();
+
+    /**
+     * 조회 시 적용할 키워드 유효성 기준 (API마다 기존에 쓰던 기준 유지)
+     */
+    public enum KeywordFilter {
+        /** 필터링 없음 (숏뷰, 키워드 검색 결과 종목) */
+        NONE(null),
+        /** 특수문자, 조사로 시작/끝나는 단어 제외 (떡상/떡락, 관련 종목, 종목 상세) */
+        STOCK(STOCK_POSTFIX_PATTERN),
+        /** STOCK 기준 + 서술어로 시작하는 단어 제외 (인기 키워드, 키워드 랭킹) */
+        KEYWORD(KEYWORD_POSTFIX_PATTERN);
+
+        private final Pattern postfixPattern;
+
+        KeywordFilter(Pattern postfixPattern) {
+            this.postfixPattern = postfixPattern;
+        }
+
+        public boolean accepts(String name) {
+            if (postfixPattern == null) {
+                return true;
+            }
+            return SPECIAL_CHARS_PATTERN.matcher(name).matches() && !postfixPattern.matcher(name).matches();
+        }
+    }
+
+    /**
+     * 키워드 API 기준 유효성 검사 (특수문자, 조사/서술어로 시작하거나 조사로 끝나는 단어 제외)
+     */
+    public static boolean isValidKeyword(String name) {
+        if (name == null || name.isBlank()) {
+            return false;
+        }
+        return KeywordFilter.KEYWORD.accepts(name);
+    }
+
+    /**
+     * 배치에서 종목의 키워드를 저장한 직후 호출합니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에만 반영합니다. (롤백되면 캐시는 그대로)
+     *
+     * @param stockId 종목 ID
+     * @param keywordNames 빈도 내림차순 키워드 이름 목록
+     */
+    public void put(Integer stockId, List<String> keywordNames) {
+        List<String> keywords = distinctNonBlank(keywordNames);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    keywordsByStockId.put(stockId, new CachedKeywords(keywords, System.currentTimeMillis()));
+                }
+            });
+        } else {
+            keywordsByStockId.put(stockId, new CachedKeywords(keywords, System.currentTimeMillis()));
+        }
+    }
+
+    public void evict(Integer stockId) {
+        keywordsByStockId.remove(stockId);
+    }
+
+    public void evictAll() {
+        keywordsByStockId.clear();
+    }
+
+    /**
+     * 단일 종목의 상위 키워드를 반환합니다. 여러 종목을 조회할 때는 먼저 {@link #preload(Collection)}를 호출하세요.
+     *
+     * @param stockId 종목 ID
+     * @param excludeName 제외할 이름 (보통 종목명, null 허용)
+     * @param limit 최대 개수
+     * @param filter 유효성 기준
+     */
+    public List<String> getTopKeywords(Integer stockId, String excludeName, int limit, KeywordFilter filter) {
+        if (stockId == null || limit <= 0) {
+            return List.of();
+        }
+        preload(List.of(stockId));
+        return limitExcluding(keywordsByStockId.get(stockId), excludeName, limit, filter);
+    }
+
+    /**
+     * 여러 종목의 상위 키워드를 반환합니다.
+     *
+     * @param stockIds 종목 ID 목록
+     * @param limit 종목당 최대 개수
+     * @param filter 유효성 기준
+     * @return stockId -> 키워드 목록
+     */
+    public Map<Integer, List<String>> getTopKeywords(Collection<Integer> stockIds, int limit, KeywordFilter filter) {
+        if (stockIds == null || stockIds.isEmpty() || limit <= 0) {
+            return Map.of();
+        }
+        preload(stockIds);
+
+        Map<Integer, List<String>> result = new HashMap<>();
+        for (Integer stockId : stockIds) {
+            result.put(stockId, limitExcluding(keywordsByStockId.get(stockId), null, limit, filter));
+        }
+        return result;
+    }
+
+    /**
+     * 캐시에 없거나 만료된 종목의 키워드를 한 번의 쿼리로 채웁니다.
+     */
+    public void preload(Collection<Integer> stockIds) {
+        long now = System.currentTimeMillis();
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer stockId : stockIds) {
+            CachedKeywords cached = keywordsByStockId.get(stockId);
+            if (cached == null || now - cached.loadedAt > ENTRY_TTL_MS) {
+                missingIds.add(stockId);
+            }
+        }
+
+        for (int from = 0; from < missingIds.size(); from += LOAD_CHUNK_SIZE) {
+            load(missingIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, missingIds.size())), now);
+        }
+    }
+
+    private void load(List<Integer> stockIds, long now) {
+        List<Object[]> rows = keywordRepository.findKeywordNamesByStockIds(stockIds);
+
+        Map<Integer, List<String>> namesByStockId = new HashMap<>();
+        for (Object[] row : rows) {
+            namesByStockId.computeIfAbsent((Integer) row[0], key -> new ArrayList<>())
+                .add((String) row[1]);
+        }
+
+        for (Integer stockId : stockIds) {
+            List<String> names = namesByStockId.getOrDefault(stockId, List.of());
+            keywordsByStockId.put(stockId, new CachedKeywords(distinctNonBlank(names), now));
+        }
+
+        log.debug("Stock keyword cache loaded - stocks: {}, rows: {}", stockIds.size(), rows.size());
+    }
+
+    private List<String> distinctNonBlank(List<String> keywordNames) {
+        Set<String> unique = new LinkedHashSet<>();
+        for (String name : keywordNames) {
+            if (unique.size() >= MAX_KEYWORDS_PER_STOCK) {
+                break;
+            }
+            if (name != null && !name.isBlank()) {
+                unique.add(name);
+            }
+        }
+        return List.copyOf(unique);
+    }
+
+    private List<String> limitExcluding(CachedKeywords cached, String excludeName, int limit, KeywordFilter filter) {
+        if (cached == null) {
+            return List.of();
+        }
+        if (excludeName == null && filter == KeywordFilter.NONE && cached.keywords.size() <= limit) {
+            return cached.keywords;
+        }
+        return cached.keywords.stream()
+            .filter(keyword -> !keyword.equals(excludeName) && filter.accepts(keyword))
+            .limit(limit)
+            .toList();
+    }
+
+    private record CachedKeywords(List<String> keywords, long loadedAt) {
+    }
+}
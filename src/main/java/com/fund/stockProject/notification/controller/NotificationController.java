@@ -1,10 +1,13 @@
 package com.fund.stockProject.notification.controller;
 
 import com.fund.stockProject.notification.domain.NotificationType;
+import com.fund.stockProject.notification.dto.NotificationCursorResponse;
 import com.fund.stockProject.notification.dto.NotificationResponse;
 import com.fund.stockProject.notification.entity.Notification;
 import com.fund.stockProject.notification.repository.NotificationRepository;
 import com.fund.stockProject.notification.service.FcmPushService;
+import com.fund.stockProject.notification.service.NotificationService;
+import com.fund.stockProject.notification.service.NotificationUnreadCounter;
 import com.fund.stockProject.security.principle.CustomUserDetails;
 import com.fund.stockProject.user.entity.User;
 import com.fund.stockProject.user.repository.UserRepository;
@@ -36,6 +39,8 @@ public class NotificationController {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final FcmPushService fcmPushService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationService notificationService;
 
     /**
      * 사용자별 알림 목록 조회
@@ -57,6 +62,25 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 사용자별 알림 목록 커서 조회
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "알림 목록 커서 조회", description = "인증된 사용자의 알림 목록을 생성일 내림차순으로 커서 기반 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = NotificationCursorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    public ResponseEntity<NotificationCursorResponse> getNotificationsByCursor(
+            @AuthenticationPrincipal @Parameter(hidden = true) CustomUserDetails userDetails,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "알림 타입 (생략 시 전체)", example = "SCORE_SPIKE") @RequestParam(required = false) NotificationType notificationType,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size) {
+
+        Integer userId = userDetails.getUser().getId();
+        return ResponseEntity.ok(notificationService.getNotificationsByCursor(userId, notificationType, cursor, size));
+    }
+
     /**
      * 알림 읽음 처리
      */
@@ -80,10 +104,14 @@ public class NotificationController {
             return ResponseEntity.status(403).build();
         }
 
-        if (!Boolean.TRUE.equals(notification.getIsRead())) {
-            notification.setIsRead(true);
-            notificationRepository.save(notification);
+        // 실제로 읽음으로 바뀐 경우에만 카운터 감소 (동시 요청 중복 감소 방지)
+        if (!Boolean.TRUE.equals(notification.getIsRead())
+                && notificationRepository.markAsReadById(notificationId) > 0
+                && NotificationUnreadCounter.isCounted(notification.getNotificationType(), notification.getChangeAbs(),
+                        notification.getTitle(), notification.getBody())) {
+            unreadCounter.decrement(userId);
         }
+        notification.setIsRead(true);
 
         return ResponseEntity.ok(NotificationResponse.fromEntity(notification));
     }
@@ -101,10 +129,10 @@ public class NotificationController {
 
         Integer userId = userDetails.getUser().getId();
         notificationRepository.markAllAsReadByUserId(userId);
-        long unreadAfter = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        unreadCounter.reset(userId);
         return ResponseEntity.ok(Map.of(
                 "message", "All notifications marked as read",
-                "unreadCount", unreadAfter
+                "unreadCount", 0L
         ));
     }
 
@@ -120,8 +148,7 @@ public class NotificationController {
             @AuthenticationPrincipal @Parameter(hidden = true) CustomUserDetails userDetails) {
 
         Integer userId = userDetails.getUser().getId();
-        long count = notificationRepository.countValidByUserIdAndIsReadFalse(
-                userId, NotificationType.SCORE_SPIKE);
+        long count = unreadCounter.get(userId);
         return ResponseEntity.ok(Map.of("unreadCount", (int) count));
     }
 
@@ -171,6 +198,7 @@ public class NotificationController {
                 .build();
 
         Notification savedNotification = notificationRepository.save(testNotification);
+        unreadCounter.increment(userId);
         return ResponseEntity.ok(NotificationResponse.fromEntity(savedNotification));
     }
 
@@ -0,0 +1,19 @@
+package com.fund.stockProject.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "알림 커서 페이지 응답 DTO")
+public class NotificationCursorResponse {
+    @Schema(description = "알림 목록 (생성일 내림차순)")
+    private List<NotificationResponse> content;
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNS0wOC0yNFQxMjozNDo1Ni4xMjM0NTZafDEwMQ")
+    private String nextCursor;
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -6,6 +6,8 @@ import com.fund.stockProject.notification.entity.Notification;
 import com.fund.stockProject.stock.domain.COUNTRY;
 import com.fund.stockProject.stock.domain.EXCHANGENUM;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -14,6 +16,7 @@ import java.util.List;
 
 @Getter
 @Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Schema(description = "알림 응답 DTO: 점수 변동 등 사용자에게 전달되는 알림 정보")
 public class NotificationResponse {
     @Schema(description = "알림 ID", example = "101")
@@ -43,6 +46,16 @@ public class NotificationResponse {
     @Schema(description = "종목 국가 정보 (KOREA 또는 OVERSEA)", example = "KOREA")
     private COUNTRY country;
 
+    /**
+     * JPQL 생성자 프로젝션용 (목록 조회 시 엔티티를 만들지 않음)
+     */
+    public NotificationResponse(Integer id, Integer stockId, String stockName, EXCHANGENUM exchangeNum,
+                                NotificationType notificationType, Integer oldScore, Integer newScore,
+                                Integer changeAbs, String title, String body, Boolean isRead, Instant createdAt) {
+        this(id, stockId, stockName, notificationType, oldScore, newScore, changeAbs, title, body, isRead, createdAt,
+                exchangeNum != null ? getCountryFromExchangeNum(exchangeNum) : null);
+    }
+
     public static NotificationResponse fromEntity(Notification notification) {
         COUNTRY country = null;
         if (notification.getStock() != null && notification.getStock().getExchangeNum() != null) {
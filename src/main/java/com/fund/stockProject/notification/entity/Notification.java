@@ -10,7 +10,10 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity
-@Table(name="notifications")
+@Table(name="notifications", indexes = {
+        @Index(name = "idx_notifications_created_at", columnList = "created_at"),
+        @Index(name = "idx_notifications_user_created_id", columnList = "user_id, created_at, id")
+})
 @Getter
 @Setter
 @Builder
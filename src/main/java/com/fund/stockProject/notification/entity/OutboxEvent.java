@@ -16,7 +16,11 @@ import java.time.Instant;
  * 참고: https://microservices.io/patterns/data/transactional-outbox.html
  */
 @Entity
-@Table(name="outbox_events")
+@Table(name="outbox_events", indexes = {
+        @Index(name = "idx_outbox_status_scheduled_at", columnList = "status, scheduled_at"),
+        @Index(name = "idx_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_status_created_at", columnList = "status, created_at")
+})
 @Getter
 @Setter
 @Builder
@@ -42,8 +46,10 @@ public class OutboxEvent {
      * 발송 상태
      * - PENDING: 대기 중
      * - READY_TO_SEND: 발송 준비 완료
+     * - PROCESSING: 발송 중 (lockedBy 노드가 lockedUntil 까지 점유)
      * - COMPLETED: 발송 완료
      * - RETRY: 재시도 대기
+     * - PROCESSED: 발송 완료 (또는 발송하지 않고 종료)
      * - FAILED: 발송 실패
      */
     @Builder.Default
@@ -66,6 +72,17 @@ public class OutboxEvent {
      */
     private Instant scheduledAt;
 
+    /**
+     * 발송 중인 노드 식별자 (PROCESSING 상태에서만 값이 있음)
+     */
+    @Column(length = 64)
+    private String lockedBy;
+
+    /**
+     * 점유 만료 시간 (노드가 중단되면 이 시간 이후 다른 노드가 다시 가져감)
+     */
+    private Instant lockedUntil;
+
     @Builder.Default
     private Instant createdAt = Instant.now();
 }
@@ -1,6 +1,7 @@
 package com.fund.stockProject.notification.repository;
 
 import com.fund.stockProject.notification.domain.NotificationType;
+import com.fund.stockProject.notification.dto.NotificationResponse;
 import com.fund.stockProject.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,9 +12,18 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Integer> {
     
+    // 발송용 단건 조회 (SSE 응답 변환에 필요한 종목 함께 조회)
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.stock WHERE n.id = :id")
+    Optional<Notification> findWithStockById(@Param("id") Integer id);
+
     // 사용자별 알림 목록 조회 (최신순)
     Page<Notification> findByUserIdOrderByCreatedAtDesc(Integer userId, Pageable pageable);
 
@@ -36,6 +46,61 @@ public interface NotificationRepository extends JpaRepository<Notification, Inte
             @Param("scoreSpike") NotificationType scoreSpike,
             Pageable pageable);
     
+    // 유효한 알림 목록 커서 조회 (최신순, (createdAt, id) 보다 이전 것만)
+    // idx_notifications_user_created_id 를 역순으로 읽어 깊은 페이지도 조회 비용이 일정
+    @Query("""
+        SELECT new com.fund.stockProject.notification.dto.NotificationResponse(
+            n.id, s.id, s.symbolName, s.exchangeNum, n.notificationType, n.oldScore, n.newScore,
+            n.changeAbs, n.title, n.body, n.isRead, n.createdAt)
+        FROM Notification n LEFT JOIN n.stock s
+        WHERE n.user.id = :userId
+        AND n.createdAt <= :cursorCreatedAt
+        AND (n.createdAt < :cursorCreatedAt OR n.id < :cursorId)
+        AND (
+            n.notificationType <> :scoreSpike
+            OR (
+                COALESCE(n.changeAbs, 1) <> 0
+                AND n.title IS NOT NULL
+                AND n.body IS NOT NULL
+            )
+        )
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<NotificationResponse> findValidResponsesByUserIdBefore(
+            @Param("userId") Integer userId,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") Integer cursorId,
+            @Param("scoreSpike") NotificationType scoreSpike,
+            Pageable pageable);
+
+    // 유효한 특정 타입의 알림 목록 커서 조회
+    @Query("""
+        SELECT new com.fund.stockProject.notification.dto.NotificationResponse(
+            n.id, s.id, s.symbolName, s.exchangeNum, n.notificationType, n.oldScore, n.newScore,
+            n.changeAbs, n.title, n.body, n.isRead, n.createdAt)
+        FROM Notification n LEFT JOIN n.stock s
+        WHERE n.user.id = :userId
+        AND n.notificationType = :notificationType
+        AND n.createdAt <= :cursorCreatedAt
+        AND (n.createdAt < :cursorCreatedAt OR n.id < :cursorId)
+        AND (
+            :notificationType <> :scoreSpike
+            OR (
+                COALESCE(n.changeAbs, 1) <> 0
+                AND n.title IS NOT NULL
+                AND n.body IS NOT NULL
+            )
+        )
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<NotificationResponse> findValidResponsesByUserIdAndNotificationTypeBefore(
+            @Param("userId") Integer userId,
+            @Param("notificationType") NotificationType notificationType,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") Integer cursorId,
+            @Param("scoreSpike") NotificationType scoreSpike,
+            Pageable pageable);
+
     // 특정 타입의 알림 조회
     Page<Notification> findByUserIdAndNotificationTypeOrderByCreatedAtDesc(
             Integer userId, NotificationType notificationType, Pageable pageable);
@@ -82,12 +147,43 @@ public interface NotificationRepository extends JpaRepository<Notification, Inte
             @Param("userId") Integer userId,
             @Param("scoreSpike") NotificationType scoreSpike);
     
+    // 유저별 유효한 읽지 않은 알림 개수 (읽지 않은 알림 카운터 대사용) [userId, count]
+    @Query("""
+        SELECT n.user.id, COUNT(n) FROM Notification n
+        WHERE n.user.id IN :userIds
+        AND n.isRead = false
+        AND (
+            n.notificationType <> :scoreSpike
+            OR (
+                COALESCE(n.changeAbs, 1) <> 0
+                AND n.title IS NOT NULL
+                AND n.body IS NOT NULL
+            )
+        )
+        GROUP BY n.user.id
+    """)
+    List<Object[]> countValidUnreadGroupByUserIds(
+            @Param("userIds") Collection<Integer> userIds,
+            @Param("scoreSpike") NotificationType scoreSpike);
+
+    // 단일 알림 읽음 처리 (이미 읽었으면 0)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markAsReadById(@Param("id") Integer id);
+
     // 모든 알림 읽음 처리
     @Modifying
     @Transactional
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
     void markAllAsReadByUserId(@Param("userId") Integer userId);
 
+    // 보관 기간 정리: 청크 단위 삭제 (idx_notifications_created_at 사용)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM notifications WHERE created_at < :createdBefore LIMIT :limit", nativeQuery = true)
+    int deleteChunkCreatedBefore(@Param("createdBefore") Instant createdBefore, @Param("limit") int limit);
+
     // 사용자의 모든 알림 삭제
     @Modifying
     @Transactional
@@ -4,9 +4,11 @@ import com.fund.stockProject.notification.entity.OutboxEvent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
@@ -23,24 +25,82 @@ public interface OutboxRepository extends JpaRepository<OutboxEvent, Integer> {
     @Query("SELECT e FROM OutboxEvent e WHERE e.status IN :statuses AND (e.scheduledAt IS NULL OR e.scheduledAt <= :now)")
     Page<OutboxEvent> findReadyToProcessInStatuses(@Param("statuses") List<String> statuses, @Param("now") Instant now, Pageable pageable);
 
-    @Query("""
-        SELECT e FROM OutboxEvent e
-        WHERE e.status = 'PENDING'
-        AND e.scheduledAt IS NULL
-    """)
-    Page<OutboxEvent> findReadyImmediateEvents(Pageable pageable);
-
-    @Query("""
-        SELECT e FROM OutboxEvent e
-        WHERE e.status = 'READY_TO_SEND'
-        AND e.scheduledAt <= :now
-    """)
-    Page<OutboxEvent> findReadyScheduledEvents(@Param("now") Instant now, Pageable pageable);
-
-    @Query("SELECT e FROM OutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now")
-    List<OutboxEvent> findRetryableEvents(@Param("status") String status, @Param("now") Instant now);
-
-    // 메모리 누수 방지를 위한 정리 메소드들 추가
-    @Query("SELECT e FROM OutboxEvent e WHERE e.status = :status AND e.createdAt < :createdBefore")
-    List<OutboxEvent> findByStatusAndCreatedAtBefore(@Param("status") String status, @Param("createdBefore") Instant createdBefore);
+    // 발송 대상 점유: 다른 노드가 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED, 트랜잭션 안에서 호출)
+    @Query(value = """
+        SELECT id FROM outbox_events
+        WHERE type = 'ALERT_CREATED' AND status = 'PENDING' AND scheduled_at IS NULL
+        ORDER BY id LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Integer> lockImmediateEventIds(@Param("limit") int limit);
+
+    @Query(value = """
+        SELECT id FROM outbox_events
+        WHERE type = 'ALERT_CREATED' AND status = 'READY_TO_SEND' AND scheduled_at <= :now
+        ORDER BY id LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Integer> lockScheduledEventIds(@Param("now") Instant now, @Param("limit") int limit);
+
+    // 재시도 대상 + 점유가 만료된(노드 중단) 발송 중 이벤트
+    @Query(value = """
+        SELECT id FROM outbox_events
+        WHERE type = 'ALERT_CREATED'
+        AND ((status = 'RETRY' AND next_attempt_at <= :now) OR (status = 'PROCESSING' AND locked_until <= :now))
+        ORDER BY id LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Integer> lockRetryEventIds(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+        UPDATE outbox_events
+        SET status = 'PROCESSING', locked_by = :owner, locked_until = :lockedUntil
+        WHERE id IN (:ids)
+    """, nativeQuery = true)
+    int markProcessing(@Param("ids") List<Integer> ids, @Param("owner") String owner,
+                       @Param("lockedUntil") Instant lockedUntil);
+
+    // 발송 결과 일괄 반영 (점유가 만료돼 다른 노드가 가져간 행은 건드리지 않음)
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE outbox_events
+        SET status = 'PROCESSED', locked_by = NULL, locked_until = NULL
+        WHERE id IN (:ids) AND status = 'PROCESSING' AND locked_by = :owner
+    """, nativeQuery = true)
+    int markProcessed(@Param("ids") List<Integer> ids, @Param("owner") String owner);
+
+    // 지수 백오프(분 단위): 1분, 2분, 4분 ... 최대 300분 (next_attempt_at 을 retry_count 증가 전 값으로 계산)
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE outbox_events
+        SET next_attempt_at = DATE_ADD(:now, INTERVAL LEAST(300, POW(2, LEAST(10, retry_count))) MINUTE),
+            retry_count = retry_count + 1,
+            status = 'RETRY', locked_by = NULL, locked_until = NULL
+        WHERE id IN (:ids) AND status = 'PROCESSING' AND locked_by = :owner
+    """, nativeQuery = true)
+    int markRetry(@Param("ids") List<Integer> ids, @Param("owner") String owner, @Param("now") Instant now);
+
+    // 보관 기간 정리: 청크 단위 삭제/전환 (idx_outbox_status_created_at 사용)
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM outbox_events
+        WHERE status = :status AND created_at < :createdBefore
+        LIMIT :limit
+    """, nativeQuery = true)
+    int deleteChunkByStatusCreatedBefore(@Param("status") String status, @Param("createdBefore") Instant createdBefore,
+                                         @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE outbox_events
+        SET status = 'FAILED'
+        WHERE status = 'RETRY' AND created_at < :createdBefore
+        LIMIT :limit
+    """, nativeQuery = true)
+    int markFailedChunkRetryCreatedBefore(@Param("createdBefore") Instant createdBefore, @Param("limit") int limit);
 }
@@ -9,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +19,37 @@ public interface UserDeviceTokenRepository extends JpaRepository<UserDeviceToken
     @Query("select t.token from UserDeviceToken t where t.user.id = :userId and t.isActive = true")
     List<String> findActiveTokens(@Param("userId") Integer userId);
 
+    // 여러 유저의 활성 토큰 [userId, token]
+    @Query("select t.user.id, t.token from UserDeviceToken t where t.user.id in :userIds and t.isActive = true")
+    List<Object[]> findActiveTokensByUserIds(@Param("userIds") Collection<Integer> userIds);
+
+    // 토큰을 가진 유저 (등록 시 이전 소유자 캐시 삭제용)
+    @Query("select distinct t.user.id from UserDeviceToken t where t.token = :token")
+    List<Integer> findUserIdsByToken(@Param("token") String token);
+
+    // 토큰 등록 (uk_device_token 기준 upsert: 조회 없이 소유자/플랫폼 갱신 후 활성화)
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO user_device_tokens (user_id, token, platform, is_active, created_at, updated_at)
+        VALUES (:userId, :token, :platform, true, :now, :now)
+        ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), platform = VALUES(platform),
+                                is_active = true, updated_at = VALUES(updated_at)
+    """, nativeQuery = true)
+    int upsertActiveToken(@Param("userId") Integer userId, @Param("token") String token,
+                          @Param("platform") String platform, @Param("now") Instant now);
+
+    // Defensive dedup: unique 제약이 없는 환경에서 같은 토큰 행이 여러 개면 최신 행만 활성 유지
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE user_device_tokens t
+        JOIN (SELECT MAX(id) AS keep_id FROM user_device_tokens WHERE token = :token) k
+        SET t.is_active = false
+        WHERE t.token = :token AND t.id <> k.keep_id AND t.is_active = true
+    """, nativeQuery = true)
+    int deactivateDuplicateTokens(@Param("token") String token);
+
     Optional<UserDeviceToken> findByToken(String token);
     List<UserDeviceToken> findAllByToken(String token);
 
@@ -58,6 +91,17 @@ public interface UserDeviceTokenRepository extends JpaRepository<UserDeviceToken
         @Param("currentToken") String currentToken
     );
 
+    // FCM 전송 실패(만료/폐기) 토큰 일괄 비활성화
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE UserDeviceToken t
+        SET t.isActive = false
+        WHERE t.token IN :tokens
+          AND t.isActive = true
+    """)
+    int deactivateAllByTokens(@Param("tokens") Collection<String> tokens);
+
     // 사용자의 모든 디바이스 토큰 삭제
     @Modifying
     @Transactional
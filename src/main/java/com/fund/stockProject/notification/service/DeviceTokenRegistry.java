@@ -0,0 +1,145 @@
+package com.fund.stockProject.notification.service;
+
+import com.fund.stockProject.notification.repository.UserDeviceTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저별 활성 디바이스 토큰 캐시 (Redis)
+ *
+ * 여러 유저의 토큰을 MGET 한 번으로 읽고, 캐시에 없는 유저만 IN 절 조회 한 번으로 채운 뒤 파이프라인으로 저장합니다.
+ * 토큰이 없는 유저도 빈 값으로 저장해 다시 조회하지 않습니다.
+ * 등록/해제/비활성화 시에는 커밋 후 해당 유저의 캐시를 지우고, Redis 장애 시에는 DB 조회 결과를 그대로 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeviceTokenRegistry {
+
+    private static final String KEY_PREFIX = "device:tokens:";
+    private static final String SEPARATOR = "\n";
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private final UserDeviceTokenRepository tokenRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 유저의 활성 토큰
+     */
+    public List<String> resolve(Integer userId) {
+        return resolve(List.of(userId)).getOrDefault(userId, List.of());
+    }
+
+    /**
+     * 여러 유저의 활성 토큰 (토큰이 없는 유저는 결과에 없음)
+     */
+    public Map<Integer, List<String>> resolve(Collection<Integer> userIds) {
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Map<Integer, List<String>> tokensByUserId = new HashMap<>();
+        if (ids.isEmpty()) {
+            return tokensByUserId;
+        }
+
+        List<Integer> missing = new ArrayList<>();
+        List<String> cached = readCache(ids);
+        for (int i = 0; i < ids.size(); i++) {
+            String value = cached != null ? cached.get(i) : null;
+            if (value == null) {
+                missing.add(ids.get(i));
+            } else if (!value.isEmpty()) {
+                tokensByUserId.put(ids.get(i), Arrays.asList(value.split(SEPARATOR)));
+            }
+        }
+        if (missing.isEmpty()) {
+            return tokensByUserId;
+        }
+
+        Map<Integer, List<String>> loaded = new HashMap<>();
+        for (int i = 0; i < missing.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            List<Integer> chunk = missing.subList(i, Math.min(i + IN_CLAUSE_CHUNK_SIZE, missing.size()));
+            for (Object[] row : tokenRepository.findActiveTokensByUserIds(chunk)) {
+                loaded.computeIfAbsent((Integer) row[0], k -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        tokensByUserId.putAll(loaded);
+        writeCache(missing, loaded);
+        return tokensByUserId;
+    }
+
+    /**
+     * 유저 캐시 삭제 (트랜잭션 안이면 커밋 후)
+     */
+    public void invalidate(Integer userId) {
+        invalidateAll(List.of(userId));
+    }
+
+    public void invalidateAll(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = userIds.stream().distinct().map(this::key).toList();
+        Runnable delete = () -> {
+            try {
+                stringRedisTemplate.delete(keys);
+            } catch (Exception e) {
+                log.warn("Failed to invalidate device token cache - users: {}, error: {}", keys.size(), e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete.run();
+                }
+            });
+        } else {
+            delete.run();
+        }
+    }
+
+    private List<String> readCache(List<Integer> userIds) {
+        try {
+            return stringRedisTemplate.opsForValue().multiGet(userIds.stream().map(this::key).toList());
+        } catch (Exception e) {
+            log.warn("Failed to read device token cache, falling back to DB - users: {}, error: {}",
+                    userIds.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(List<Integer> userIds, Map<Integer, List<String>> tokensByUserId) {
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Integer userId : userIds) {
+                    List<String> tokens = tokensByUserId.getOrDefault(userId, List.of());
+                    stringConnection.setEx(key(userId), TTL.toSeconds(), String.join(SEPARATOR, tokens));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to write device token cache - users: {}, error: {}", userIds.size(), e.getMessage());
+        }
+    }
+
+    private String key(Integer userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -3,14 +3,14 @@ package com.fund.stockProject.notification.service;
 import com.fund.stockProject.notification.domain.DevicePlatform;
 import com.fund.stockProject.notification.dto.RegisterDeviceTokenRequest;
 import com.fund.stockProject.notification.dto.UnregisterDeviceTokenRequest;
-import com.fund.stockProject.notification.entity.UserDeviceToken;
 import com.fund.stockProject.notification.repository.UserDeviceTokenRepository;
-import com.fund.stockProject.user.entity.User;
 import com.fund.stockProject.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -19,6 +19,7 @@ public class DeviceTokenService {
 
     private final UserDeviceTokenRepository tokenRepository;
     private final UserRepository userRepository;
+    private final DeviceTokenRegistry tokenRegistry;
 
     @Transactional
     public void registerToken(Integer userId, RegisterDeviceTokenRequest request) {
@@ -32,30 +33,23 @@ public class DeviceTokenService {
             throw new IllegalArgumentException("Platform is required");
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
+
+        // 토큰을 넘겨받기 전 소유자 (다른 계정으로 로그인한 같은 기기)
+        List<Integer> previousOwners = tokenRepository.findUserIdsByToken(token);
 
-        // Defensive dedup: DB unique 제약이 누락/깨진 환경에서도 한 토큰은 한 사용자만 소유하도록 보정
-        List<UserDeviceToken> duplicates = tokenRepository.findAllByToken(token);
-        UserDeviceToken entity = duplicates.isEmpty()
-                ? UserDeviceToken.builder().token(token).build()
-                : duplicates.get(0);
+        // 조회 후 저장 대신 upsert: 동시 로그인에서도 uk_device_token 충돌 없이 한 행으로 수렴
+        tokenRepository.upsertActiveToken(userId, token, platform.name(), Instant.now());
+        tokenRepository.deactivateDuplicateTokens(token);
 
         // 동일 사용자/플랫폼에서 기존 토큰은 비활성화하고 최신 토큰 1개만 유지
         tokenRepository.deactivateByUserIdAndPlatformExceptToken(userId, platform, token);
 
-        entity.setUser(user);
-        entity.setPlatform(platform);
-        entity.setIsActive(true);
-        tokenRepository.save(entity);
-
-        if (duplicates.size() > 1) {
-            for (int i = 1; i < duplicates.size(); i++) {
-                UserDeviceToken duplicate = duplicates.get(i);
-                duplicate.setIsActive(false);
-                tokenRepository.save(duplicate);
-            }
-        }
+        List<Integer> affectedUsers = new ArrayList<>(previousOwners);
+        affectedUsers.add(userId);
+        tokenRegistry.invalidateAll(affectedUsers);
     }
 
     @Transactional
@@ -66,6 +60,7 @@ public class DeviceTokenService {
         }
 
         tokenRepository.deactivateByTokenAndUserId(token, userId);
+        tokenRegistry.invalidate(userId);
         // idempotent: no error if not found or already inactive
     }
 
@@ -78,5 +73,6 @@ public class DeviceTokenService {
             return;
         }
         tokenRepository.deactivateByTokenAndUserId(normalized, userId);
+        tokenRegistry.invalidate(userId);
     }
 }
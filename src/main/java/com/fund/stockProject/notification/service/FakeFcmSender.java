@@ -0,0 +1,93 @@
+package com.fund.stockProject.notification.service;
+
+import com.google.firebase.messaging.Message;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오프라인 부하 테스트용 FCM 전송기 (fcm.fake.enabled=true)
+ *
+ * 실제 전송 없이 호출당 지연(latency-ms)만 흉내 내고, failure-rate 비율로 UNAVAILABLE 실패를 돌려줍니다.
+ * 토큰이 "invalid" 로 시작하면 UNREGISTERED 로 실패시켜 토큰 비활성화 경로도 확인할 수 있습니다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "fcm.fake.enabled", havingValue = "true")
+public class FakeFcmSender implements FcmSender {
+
+    private final long latencyMs;
+    private final double failureRate;
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong callCount = new AtomicLong();
+
+    public FakeFcmSender(
+            @Value("${fcm.fake.latency-ms:50}") long latencyMs,
+            @Value("${fcm.fake.failure-rate:0.0}") double failureRate) {
+        this.latencyMs = latencyMs;
+        this.failureRate = failureRate;
+        log.warn("[FCM] Fake sender enabled - latencyMs={}, failureRate={}", latencyMs, failureRate);
+    }
+
+    @Override
+    public List<FcmSendResult> sendEach(List<Message> messages) {
+        sleep();
+        callCount.incrementAndGet();
+
+        List<FcmSendResult> results = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            String token = tokenOf(message);
+            if (token != null && token.startsWith("invalid")) {
+                results.add(new FcmSendResult(false, "UNREGISTERED", null));
+            } else if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                results.add(new FcmSendResult(false, "UNAVAILABLE", null));
+            } else {
+                results.add(FcmSendResult.ok());
+                sentCount.incrementAndGet();
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void sendDryRun(Message message) {
+        // 검증 없이 통과
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    private void sleep() {
+        if (latencyMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Message 는 토큰 getter 를 공개하지 않으므로 테스트 용도로만 리플렉션 사용
+    private String tokenOf(Message message) {
+        try {
+            Field field = Message.class.getDeclaredField("token");
+            field.setAccessible(true);
+            return (String) field.get(message);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
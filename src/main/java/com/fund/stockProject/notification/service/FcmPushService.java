@@ -3,6 +3,7 @@ package com.fund.stockProject.notification.service;
 import com.fund.stockProject.notification.repository.UserDeviceTokenRepository;
 import com.google.api.client.http.HttpResponseException;
 import com.google.firebase.messaging.*;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -10,14 +11,59 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FcmPushService {
 
-    private final FirebaseMessaging firebaseMessaging;
+    private static final int FCM_BATCH_SIZE = 500; // sendEach 1회 최대 메시지 수
+    private static final int FCM_BATCH_CONCURRENCY = 4; // 동시에 진행할 sendEach 호출 수
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000; // 토큰 조회/비활성화 IN 절 크기
+    private static final Set<String> INVALID_TOKEN_CODES = Set.of(
+            "UNREGISTERED", "INVALID_ARGUMENT", "SENDER_ID_MISMATCH", "INVALID_REGISTRATION");
+
+    private final FcmSender fcmSender;
     private final UserDeviceTokenRepository tokenRepo;
+    private final DeviceTokenRegistry tokenRegistry;
+
+    private final ExecutorService batchExecutor = Executors.newFixedThreadPool(FCM_BATCH_CONCURRENCY, runnable -> {
+        Thread thread = new Thread(runnable, "fcm-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 토큰 1개로 보낼 메시지
+     */
+    public record FcmDelivery(Integer userId, String token, Message message) {
+    }
+
+    /**
+     * 유저 1명에게 보낼 알림 (토큰은 전송 시점에 찾음)
+     */
+    public record PushRequest(Integer userId, boolean silent, String title, String body, Map<String, String> data) {
+
+        public static PushRequest alert(Integer userId, String title, String body, Map<String, String> data) {
+            return new PushRequest(userId, false, title, body, data);
+        }
+
+        public static PushRequest silent(Integer userId, Map<String, String> data) {
+            return new PushRequest(userId, true, null, null, data);
+        }
+    }
+
+    /**
+     * 일괄 전송 결과
+     */
+    public record BatchSendResult(int total, int successCount, int failureCount, int deactivatedCount) {
+    }
 
     /**
      * 일반 알림(표시형) – 알림센터에 뜸
@@ -33,126 +79,196 @@ public class FcmPushService {
         sendInternal(userId, /*silent*/ true, null, null, data);
     }
 
-    private void sendInternal(Integer userId, boolean silent, String title, String body, Map<String, String> data) {
-        List<String> tokens = tokenRepo.findActiveTokens(userId);
-        if (tokens.isEmpty()) return;
+    /**
+     * 여러 유저의 알림 일괄 전송 – 활성 토큰을 토큰 캐시에서 한 번에 찾아 (토큰, 메시지)로 펼친 뒤 sendBatch 로 전송
+     */
+    public BatchSendResult sendAll(List<PushRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return new BatchSendResult(0, 0, 0, 0);
+        }
 
-        List<Message> messages = new ArrayList<>();
-        for (String token : tokens) {
-            try {
-                Message.Builder b = Message.builder().setToken(token);
-
-                // 공통 data
-                if (data != null && !data.isEmpty()) b.putAllData(data);
-
-                // Android 설정
-                AndroidConfig.Builder android = AndroidConfig.builder()
-                        .setPriority(AndroidConfig.Priority.HIGH);
-                if (!silent && title != null) {
-                    android.setNotification(AndroidNotification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build());
-                }
-                b.setAndroidConfig(android.build());
-
-                // iOS(APNs) 설정 개선
-                ApnsConfig.Builder apns = ApnsConfig.builder();
-                var apsBuilder = Aps.builder();
-
-                if (silent) {
-                    // 사일런트 푸시를 위한 설정
-                    apsBuilder.setContentAvailable(true);
-                    // 사일런트 푸시에서는 badge, sound, alert 제거
-                } else if (title != null) {
-                    // 일반 알림을 위한 설정
-                    apsBuilder.setAlert(ApsAlert.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build())
-                            .setSound("default")
-                            .setBadge(1); // 배지 설정 추가
+        Map<Integer, List<String>> tokensByUserId = tokenRegistry.resolve(
+                requests.stream().map(PushRequest::userId).toList());
+        List<FcmDelivery> deliveries = new ArrayList<>();
+        for (PushRequest request : requests) {
+            for (String token : tokensByUserId.getOrDefault(request.userId(), List.of())) {
+                Message message = buildMessage(token, request.silent(), request.title(), request.body(), request.data());
+                if (message != null) {
+                    deliveries.add(new FcmDelivery(request.userId(), token, message));
                 }
+            }
+        }
+        return sendBatch(deliveries);
+    }
 
-                // APNs Headers 추가 (iOS 앱 번들 ID와 일치해야 함)
-                apns.setAps(apsBuilder.build());
-
-                // APNs topic 설정 (필수: 앱의 Bundle Identifier)
-                apns.putHeader("apns-topic", "com.durumi99.humanzipyoapp");
+    /**
+     * (토큰, 메시지) 일괄 전송
+     * FCM_BATCH_SIZE 개씩 나눠 최대 FCM_BATCH_CONCURRENCY 개 sendEach 를 동시에 호출하고,
+     * 만료/폐기된 토큰은 모아서 UPDATE 로 한 번에 비활성화합니다.
+     */
+    public BatchSendResult sendBatch(List<FcmDelivery> deliveries) {
+        if (deliveries == null || deliveries.isEmpty()) {
+            return new BatchSendResult(0, 0, 0, 0);
+        }
 
-                // APNs 우선순위 설정
-                if (!silent) {
-                    apns.putHeader("apns-priority", "10"); // 높은 우선순위
-                } else {
-                    apns.putHeader("apns-priority", "5"); // 낮은 우선순위 (사일런트)
-                }
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failureCount = new AtomicInteger();
+        Map<String, Integer> invalidTokens = new ConcurrentHashMap<>(); // 토큰 -> 유저
 
-                // APNs 만료 시간 설정 (1시간)
-                apns.putHeader("apns-expiration", String.valueOf(System.currentTimeMillis() / 1000 + 3600));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < deliveries.size(); i += FCM_BATCH_SIZE) {
+            List<FcmDelivery> chunk = deliveries.subList(i, Math.min(i + FCM_BATCH_SIZE, deliveries.size()));
+            futures.add(CompletableFuture.runAsync(
+                    () -> sendChunk(chunk, successCount, failureCount, invalidTokens), batchExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
 
-                b.setApnsConfig(apns.build());
-                messages.add(b.build());
+        int deactivated = deactivateTokens(invalidTokens);
+        log.info("FCM batch send completed messages={}, chunks={}, success={}, failure={}, deactivated={}",
+                deliveries.size(), futures.size(), successCount.get(), failureCount.get(), deactivated);
+        return new BatchSendResult(deliveries.size(), successCount.get(), failureCount.get(), deactivated);
+    }
 
-            } catch (Exception e) {
-                log.warn("Failed to build message for token={}, error={}", token, e.getMessage());
-                // 메시지 빌드 실패한 토큰은 건너뛰기
-                continue;
-            }
-        }
+    private void sendInternal(Integer userId, boolean silent, String title, String body, Map<String, String> data) {
+        sendAll(List.of(new PushRequest(userId, silent, title, body, data)));
+    }
 
-        if (messages.isEmpty()) {
-            log.warn("No valid messages to send for userId={}", userId);
-            return;
+    private void sendChunk(List<FcmDelivery> chunk, AtomicInteger successCount, AtomicInteger failureCount,
+                           Map<String, Integer> invalidTokens) {
+        List<Message> messages = new ArrayList<>(chunk.size());
+        for (FcmDelivery delivery : chunk) {
+            messages.add(delivery.message());
         }
 
-        // 대량 전송(batch)
         try {
-            BatchResponse resp = firebaseMessaging.sendEach(messages);
-            log.info("FCM batch send completed userId={}, success={}, failure={}",
-                    userId, resp.getSuccessCount(), resp.getFailureCount());
-
-            // 결과 분석: 실패 토큰 정리
-            for (int i = 0; i < resp.getResponses().size(); i++) {
-                SendResponse r = resp.getResponses().get(i);
-                if (!r.isSuccessful()) {
-                    var ex = r.getException();
-                    handleSendFailure(tokens.get(i), ex);
+            List<FcmSender.FcmSendResult> results = fcmSender.sendEach(messages);
+            for (int i = 0; i < results.size(); i++) {
+                FcmSender.FcmSendResult r = results.get(i);
+                if (r.success()) {
+                    successCount.incrementAndGet();
+                } else {
+                    failureCount.incrementAndGet();
+                    if (isInvalidToken(chunk.get(i).token(), r)) {
+                        invalidTokens.put(chunk.get(i).token(), chunk.get(i).userId());
+                    }
                 }
             }
         } catch (FirebaseMessagingException e) {
-            log.error("FCM batch send failed userId={}, err={}, detail={}", userId, e.getMessage(), buildDetail(e));
+            failureCount.addAndGet(chunk.size());
+            log.error("FCM batch send failed messages={}, err={}, detail={}", chunk.size(), e.getMessage(), buildDetail(e));
+        } catch (Exception e) {
+            failureCount.addAndGet(chunk.size());
+            log.error("FCM batch send failed messages={}", chunk.size(), e);
+        }
+    }
+
+    private Message buildMessage(String token, boolean silent, String title, String body, Map<String, String> data) {
+        try {
+            Message.Builder b = Message.builder().setToken(token);
+
+            // 공통 data
+            if (data != null && !data.isEmpty()) b.putAllData(data);
+
+            // Android 설정
+            AndroidConfig.Builder android = AndroidConfig.builder()
+                    .setPriority(AndroidConfig.Priority.HIGH);
+            if (!silent && title != null) {
+                android.setNotification(AndroidNotification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build());
+            }
+            b.setAndroidConfig(android.build());
+
+            // iOS(APNs) 설정 개선
+            ApnsConfig.Builder apns = ApnsConfig.builder();
+            var apsBuilder = Aps.builder();
+
+            if (silent) {
+                // 사일런트 푸시를 위한 설정
+                apsBuilder.setContentAvailable(true);
+                // 사일런트 푸시에서는 badge, sound, alert 제거
+            } else if (title != null) {
+                // 일반 알림을 위한 설정
+                apsBuilder.setAlert(ApsAlert.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                        .setSound("default")
+                        .setBadge(1); // 배지 설정 추가
+            }
+
+            // APNs Headers 추가 (iOS 앱 번들 ID와 일치해야 함)
+            apns.setAps(apsBuilder.build());
+
+            // APNs topic 설정 (필수: 앱의 Bundle Identifier)
+            apns.putHeader("apns-topic", "com.durumi99.humanzipyoapp");
+
+            // APNs 우선순위 설정
+            if (!silent) {
+                apns.putHeader("apns-priority", "10"); // 높은 우선순위
+            } else {
+                apns.putHeader("apns-priority", "5"); // 낮은 우선순위 (사일런트)
+            }
+
+            // APNs 만료 시간 설정 (1시간)
+            apns.putHeader("apns-expiration", String.valueOf(System.currentTimeMillis() / 1000 + 3600));
+
+            b.setApnsConfig(apns.build());
+            return b.build();
+
+        } catch (Exception e) {
+            log.warn("Failed to build message for token={}, error={}", token, e.getMessage());
+            // 메시지 빌드 실패한 토큰은 건너뛰기
+            return null;
         }
     }
 
-    private void handleSendFailure(String token, FirebaseMessagingException ex) {
-        String code = String.valueOf(ex.getErrorCode());
+    private boolean isInvalidToken(String token, FcmSender.FcmSendResult result) {
+        String code = result.errorCode();
+        String detail = result.exception() != null ? buildDetail(result.exception()) : "";
 
         // APNs 관련 오류 처리 강화
         if ("THIRD_PARTY_AUTH_ERROR".equalsIgnoreCase(code) ||
             "UNAUTHENTICATED".equalsIgnoreCase(code)) {
 
             // APNs 인증 오류 - 토큰 비활성화하지 않고 로그만 남김
-            log.error("APNs authentication error for token={}, code={}, detail={}",
-                     token, code, buildDetail(ex));
+            log.error("APNs authentication error for token={}, code={}, detail={}", token, code, detail);
 
             // APNs 설정 문제일 가능성이 높으므로 토큰은 유지
-            return;
+            return false;
         }
 
         // 대표적인 만료/폐기 케이스
-        if ("UNREGISTERED".equalsIgnoreCase(code)
-                || "INVALID_ARGUMENT".equalsIgnoreCase(code)
-                || "SENDER_ID_MISMATCH".equalsIgnoreCase(code)
-                || "INVALID_REGISTRATION".equalsIgnoreCase(code)) {
-            tokenRepo.findByToken(token).ifPresent(t -> {
-                t.setIsActive(false);
-                tokenRepo.save(t);
-            });
-            log.info("Deactivated invalid token={}, code={}, detail={}", token, code, buildDetail(ex));
-        } else {
-            log.warn("Send failed token={}, code={}, msg={}, detail={}",
-                    token, code, ex.getMessage(), buildDetail(ex));
+        if (code != null && INVALID_TOKEN_CODES.contains(code.toUpperCase())) {
+            log.info("Deactivating invalid token={}, code={}, detail={}", token, code, detail);
+            return true;
+        }
+
+        log.warn("Send failed token={}, code={}, detail={}", token, code, detail);
+        return false;
+    }
+
+    private int deactivateTokens(Map<String, Integer> invalidTokens) {
+        if (invalidTokens.isEmpty()) {
+            return 0;
+        }
+        List<String> tokens = new ArrayList<>(invalidTokens.keySet());
+        int deactivated = 0;
+        try {
+            for (int i = 0; i < tokens.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+                deactivated += tokenRepo.deactivateAllByTokens(tokens.subList(i, Math.min(i + IN_CLAUSE_CHUNK_SIZE, tokens.size())));
+            }
+        } catch (Exception e) {
+            log.error("Failed to deactivate invalid tokens count={}", tokens.size(), e);
         }
+        tokenRegistry.invalidateAll(invalidTokens.values());
+        return deactivated;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdown();
     }
 
     /**
@@ -232,7 +348,7 @@ public class FcmPushService {
                     .build();
 
             // dry-run으로 실제 전송 없이 검증만 수행
-            firebaseMessaging.send(testMessage, true);
+            fcmSender.sendDryRun(testMessage);
             return true;
         } catch (FirebaseMessagingException e) {
             String errorCode = e.getErrorCode() != null ? e.getErrorCode().name() : "UNKNOWN";
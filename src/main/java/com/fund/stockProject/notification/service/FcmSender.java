@@ -0,0 +1,37 @@
+package com.fund.stockProject.notification.service;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+
+import java.util.List;
+
+/**
+ * FCM 전송 추상화 (운영: FirebaseFcmSender, 오프라인 부하 테스트: FakeFcmSender)
+ */
+public interface FcmSender {
+
+    /**
+     * 최대 500개 메시지를 한 번의 sendEach 호출로 보냅니다.
+     *
+     * @return 메시지 순서와 같은 순서의 전송 결과
+     */
+    List<FcmSendResult> sendEach(List<Message> messages) throws FirebaseMessagingException;
+
+    /**
+     * 실제 전송 없이 메시지(토큰) 유효성만 검증합니다.
+     */
+    void sendDryRun(Message message) throws FirebaseMessagingException;
+
+    /**
+     * 메시지별 전송 결과
+     *
+     * @param errorCode 실패 코드 (MessagingErrorCode 우선, 없으면 ErrorCode)
+     * @param exception 실패 원인 (진단 로그용, 없을 수 있음)
+     */
+    record FcmSendResult(boolean success, String errorCode, FirebaseMessagingException exception) {
+
+        public static FcmSendResult ok() {
+            return new FcmSendResult(true, null, null);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.fund.stockProject.notification.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fcm.fake.enabled", havingValue = "false", matchIfMissing = true)
+public class FirebaseFcmSender implements FcmSender {
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public List<FcmSendResult> sendEach(List<Message> messages) throws FirebaseMessagingException {
+        BatchResponse response = firebaseMessaging.sendEach(messages);
+        List<FcmSendResult> results = new ArrayList<>(response.getResponses().size());
+        for (SendResponse r : response.getResponses()) {
+            if (r.isSuccessful()) {
+                results.add(FcmSendResult.ok());
+                continue;
+            }
+            FirebaseMessagingException ex = r.getException();
+            String code = ex.getMessagingErrorCode() != null
+                    ? ex.getMessagingErrorCode().name()
+                    : String.valueOf(ex.getErrorCode());
+            results.add(new FcmSendResult(false, code, ex));
+        }
+        return results;
+    }
+
+    @Override
+    public void sendDryRun(Message message) throws FirebaseMessagingException {
+        firebaseMessaging.send(message, true);
+    }
+}
@@ -0,0 +1,131 @@
+package com.fund.stockProject.notification.service;
+
+import com.fund.stockProject.global.config.RetentionProperties;
+import com.fund.stockProject.notification.repository.NotificationRepository;
+import com.fund.stockProject.notification.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 알림/Outbox 보관 기간 정리
+ *
+ * 엔티티를 읽지 않고 (status, created_at) / created_at 인덱스를 타는 DELETE/UPDATE ... LIMIT 를 반복합니다.
+ * 청크마다 커밋하고 pauseMs 만큼 쉬어 락 유지 시간과 복제 지연을 짧게 유지하며,
+ * 한 번 실행에서 maxChunksPerRun 을 넘긴 나머지는 다음 실행에서 이어서 정리합니다.
+ *
+ * 메트릭: retention.rows{table, action} (정리한 행 수), retention.run{table, action} (소요 시간)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionService {
+
+    private static final String OUTBOX_TABLE = "outbox_events";
+    private static final String NOTIFICATION_TABLE = "notifications";
+
+    private final OutboxRepository outboxRepo;
+    private final NotificationRepository notificationRepo;
+    private final RetentionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final NotificationUnreadCounter unreadCounter;
+
+    /**
+     * Outbox 정리: 오래된 RETRY -> FAILED 전환, PROCESSED / FAILED 삭제
+     */
+    public void purgeOutboxEvents() {
+        final RetentionProperties.Outbox policy = properties.getOutbox();
+
+        final Instant retryCutoff = cutoff(policy.getRetryFailAfterDays());
+        if (retryCutoff != null) {
+            final int failed = runInChunks(OUTBOX_TABLE, "fail_retry",
+                limit -> outboxRepo.markFailedChunkRetryCreatedBefore(retryCutoff, limit));
+            if (failed > 0) {
+                log.warn("Marked {} old retry events as FAILED", failed);
+            }
+        }
+
+        final Instant processedCutoff = cutoff(policy.getProcessedDays());
+        if (processedCutoff != null) {
+            runInChunks(OUTBOX_TABLE, "delete_processed",
+                limit -> outboxRepo.deleteChunkByStatusCreatedBefore("PROCESSED", processedCutoff, limit));
+        }
+
+        final Instant failedCutoff = cutoff(policy.getFailedDays());
+        if (failedCutoff != null) {
+            runInChunks(OUTBOX_TABLE, "delete_failed",
+                limit -> outboxRepo.deleteChunkByStatusCreatedBefore("FAILED", failedCutoff, limit));
+        }
+    }
+
+    /**
+     * 알림 정리: 보관 기간이 지난 알림 삭제 (읽음 여부 무관)
+     * 읽지 않은 알림도 지워지므로, 삭제한 행이 있으면 읽지 않은 알림 카운터를 DB 값으로 바로 맞춥니다.
+     */
+    public void purgeNotifications() {
+        final Instant cutoff = cutoff(properties.getNotification().getDays());
+        if (cutoff == null) {
+            return;
+        }
+        final int deleted = runInChunks(NOTIFICATION_TABLE, "delete",
+            limit -> notificationRepo.deleteChunkCreatedBefore(cutoff, limit));
+        if (deleted > 0) {
+            unreadCounter.reconcile();
+        }
+    }
+
+    /**
+     * 청크 작업을 반영 행 수가 청크 크기보다 작아질 때까지 반복합니다. (청크마다 별도 트랜잭션)
+     *
+     * @param chunk 청크 크기를 받아 반영한 행 수를 돌려주는 작업
+     * @return 전체 반영 행 수
+     */
+    private int runInChunks(String table, String action, IntUnaryOperator chunk) {
+        final int chunkSize = Math.max(1, properties.getChunkSize());
+        final Counter rows = meterRegistry.counter("retention.rows", "table", table, "action", action);
+        final Timer.Sample sample = Timer.start(meterRegistry);
+
+        int total = 0;
+        int chunks = 0;
+        try {
+            while (chunks < properties.getMaxChunksPerRun()) {
+                final int affected = chunk.applyAsInt(chunkSize);
+                chunks++;
+                total += affected;
+                rows.increment(affected);
+                if (affected < chunkSize) {
+                    break;
+                }
+                pause();
+            }
+        } finally {
+            final long elapsedNanos = sample.stop(meterRegistry.timer("retention.run", "table", table, "action", action));
+            log.info("Retention {} {} completed - rows: {}, chunks: {}, elapsedMs: {}",
+                table, action, total, chunks, Duration.ofNanos(elapsedNanos).toMillis());
+        }
+        return total;
+    }
+
+    private void pause() {
+        if (properties.getPauseMs() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.getPauseMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Retention interrupted", e);
+        }
+    }
+
+    private Instant cutoff(int days) {
+        return days > 0 ? Instant.now().minus(Duration.ofDays(days)) : null;
+    }
+}
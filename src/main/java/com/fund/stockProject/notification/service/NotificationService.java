@@ -2,6 +2,8 @@ package com.fund.stockProject.notification.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fund.stockProject.notification.domain.NotificationType;
+import com.fund.stockProject.notification.dto.NotificationCursorResponse;
+import com.fund.stockProject.notification.dto.NotificationResponse;
 import com.fund.stockProject.notification.entity.Notification;
 import com.fund.stockProject.notification.entity.OutboxEvent;
 import com.fund.stockProject.notification.repository.NotificationRepository;
@@ -9,10 +11,16 @@ import com.fund.stockProject.notification.repository.OutboxRepository;
 import com.fund.stockProject.stock.entity.Stock;
 import com.fund.stockProject.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,10 +28,16 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // 첫 페이지 커서 (이보다 이전 = 전체)
+    private static final Instant FIRST_CURSOR_CREATED_AT = Instant.parse("3000-01-01T00:00:00Z");
     
     private final NotificationRepository notificationRepository;
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationUnreadCounter unreadCounter;
 
     /**
      * 즉시 발송되는 알림 생성
@@ -76,8 +90,70 @@ public class NotificationService {
     @Transactional
     public void createBulkNotification(List<User> users, NotificationType type, String title, 
                                      String body, Instant scheduledAt) {
+        Map<Integer, Integer> createdByUserId = new HashMap<>();
         for (User user : users) {
-            createNotification(user, null, type, title, body, null, null, null, scheduledAt);
+            saveNotification(user, null, type, title, body, null, null, null, scheduledAt);
+            createdByUserId.merge(user.getId(), 1, Integer::sum);
+        }
+
+        // 읽지 않은 알림 카운터는 커밋 후 한 번에 증가
+        if (NotificationUnreadCounter.isCounted(type, null, title, body)) {
+            unreadCounter.add(createdByUserId);
+        }
+    }
+
+    /**
+     * 유효한 알림 목록 커서 조회 (생성일, id 내림차순)
+     * offset 대신 마지막 알림의 (createdAt, id) 이후부터 읽으므로 페이지 깊이와 관계없이 size + 1 건만 조회합니다.
+     *
+     * @param type   null 이면 전체 타입
+     * @param cursor 이전 응답의 nextCursor (null 이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public NotificationCursorResponse getNotificationsByCursor(Integer userId, NotificationType type,
+                                                               String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Instant cursorCreatedAt = FIRST_CURSOR_CREATED_AT;
+        Integer cursorId = Integer.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorCreatedAt = Instant.parse(parts[0]);
+            cursorId = Integer.valueOf(parts[1]);
+        }
+
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<NotificationResponse> rows = type == null
+                ? notificationRepository.findValidResponsesByUserIdBefore(
+                        userId, cursorCreatedAt, cursorId, NotificationType.SCORE_SPIKE, limit)
+                : notificationRepository.findValidResponsesByUserIdAndNotificationTypeBefore(
+                        userId, type, cursorCreatedAt, cursorId, NotificationType.SCORE_SPIKE, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            NotificationResponse last = content.get(content.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        return new NotificationCursorResponse(content, nextCursor, hasNext);
+    }
+
+    private String encodeCursor(Instant createdAt, Integer id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Instant.parse(parts[0]);
+            Integer.parseInt(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
         }
     }
 
@@ -87,6 +163,18 @@ public class NotificationService {
     private void createNotification(User user, Stock stock, NotificationType type, String title, 
                                   String body, Integer oldScore, Integer newScore, Integer changeAbs, 
                                   Instant scheduledAt) {
+        saveNotification(user, stock, type, title, body, oldScore, newScore, changeAbs, scheduledAt);
+        if (NotificationUnreadCounter.isCounted(type, changeAbs, title, body)) {
+            unreadCounter.increment(user.getId());
+        }
+    }
+
+    /**
+     * 알림과 OutboxEvent 저장
+     */
+    private void saveNotification(User user, Stock stock, NotificationType type, String title,
+                                  String body, Integer oldScore, Integer newScore, Integer changeAbs,
+                                  Instant scheduledAt) {
         
         Notification notification = Notification.builder()
                 .user(user)
@@ -118,6 +206,11 @@ public class NotificationService {
         }
 
         outboxRepository.save(outboxBuilder.build());
+
+        // 즉시 발송은 커밋 직후 발송을 깨움 (OutboxWakeUpSignal)
+        if (scheduledAt == null) {
+            eventPublisher.publishEvent(new OutboxWakeUpSignal.ImmediateOutboxEventSaved(notification.getId()));
+        }
     }
 
     private String writeJson(Object o) {
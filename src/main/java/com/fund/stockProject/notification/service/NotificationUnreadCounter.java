@@ -0,0 +1,269 @@
+package com.fund.stockProject.notification.service;
+
+import com.fund.stockProject.notification.domain.NotificationType;
+import com.fund.stockProject.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저별 읽지 않은 알림 수 (Redis 카운터)
+ *
+ * 배지 조회는 키 하나만 읽고, 키가 없을 때만 DB COUNT 로 채웁니다. (TTL 동안 유지)
+ * 알림 생성/읽음 처리는 커밋 후 키가 있을 때만 증감하므로 키가 없는 유저는 다음 조회 때 DB 값으로 시작합니다.
+ * 삭제나 경합으로 생긴 오차는 주기적인 대사(reconcile)에서 DB 값으로 맞춥니다.
+ * Redis 장애 시에는 DB COUNT 를 그대로 돌려줍니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final int BATCH_SIZE = 500; // 스크립트/대사 한 번에 처리할 유저 수
+
+    // 키가 있는 유저만 증감 (0 미만 방지). ARGV: 유저별 증감값..., TTL(초)
+    private static final RedisScript<Long> ADD_IF_PRESENT = new DefaultRedisScript<>("""
+        local ttl = ARGV[#KEYS + 1]
+        local updated = 0
+        for i, key in ipairs(KEYS) do
+            if redis.call('EXISTS', key) == 1 then
+                if redis.call('INCRBY', key, ARGV[i]) < 0 then
+                    redis.call('SET', key, 0, 'EX', ttl)
+                end
+                updated = updated + 1
+            end
+        end
+        return updated
+        """, Long.class);
+
+    // 대사 중 값이 바뀌지 않은 키만 DB 값으로 교체. ARGV: (읽은 값, DB 값)..., TTL(초)
+    private static final RedisScript<Long> SET_IF_UNCHANGED = new DefaultRedisScript<>("""
+        local ttl = ARGV[#KEYS * 2 + 1]
+        local updated = 0
+        for i, key in ipairs(KEYS) do
+            if redis.call('GET', key) == ARGV[i * 2 - 1] then
+                redis.call('SET', key, ARGV[i * 2], 'EX', ttl)
+                updated = updated + 1
+            end
+        end
+        return updated
+        """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * 배지에 표시되는 알림인지 (NotificationRepository.countValidByUserIdAndIsReadFalse 조건과 동일)
+     */
+    public static boolean isCounted(NotificationType type, Integer changeAbs, String title, String body) {
+        return type != NotificationType.SCORE_SPIKE
+            || ((changeAbs == null || changeAbs != 0) && title != null && body != null);
+    }
+
+    /**
+     * 읽지 않은 알림 수
+     */
+    public long get(Integer userId) {
+        final String key = key(userId);
+        try {
+            final String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read unread counter, falling back to DB - userId: {}, error: {}", userId, e.getMessage());
+            return countFromDb(userId);
+        }
+
+        final long count = countFromDb(userId);
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), TTL);
+        } catch (Exception e) {
+            log.warn("Failed to seed unread counter - userId: {}, error: {}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    public void increment(Integer userId) {
+        add(Map.of(userId, 1));
+    }
+
+    public void decrement(Integer userId) {
+        add(Map.of(userId, -1));
+    }
+
+    /**
+     * 유저별 증감 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void add(Map<Integer, Integer> deltaByUserId) {
+        if (deltaByUserId.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> applyDeltas(deltaByUserId));
+    }
+
+    /**
+     * 모두 읽음 처리 후 0 으로 설정
+     */
+    public void reset(Integer userId) {
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.opsForValue().set(key(userId), "0", TTL);
+            } catch (Exception e) {
+                log.warn("Failed to reset unread counter - userId: {}, error: {}", userId, e.getMessage());
+                deleteKey(userId);
+            }
+        });
+    }
+
+    /**
+     * 카운터 삭제 (알림 삭제처럼 증감을 알 수 없을 때, 다음 조회 때 DB 값으로 다시 채움)
+     */
+    public void evict(Integer userId) {
+        afterCommit(() -> deleteKey(userId));
+    }
+
+    /**
+     * 캐시된 카운터를 DB 값으로 맞춤 (10분마다)
+     * 키를 SCAN 으로 모아 BATCH_SIZE 명씩 GROUP BY COUNT 한 번으로 조회합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.unread.reconcile-interval-ms:600000}", initialDelay = 60_000)
+    public void reconcile() {
+        final long startedAt = System.currentTimeMillis();
+        int checked = 0;
+        int corrected = 0;
+        try {
+            final List<String> keys = new ArrayList<>(BATCH_SIZE);
+            final List<String> allKeys = stringRedisTemplate.execute((RedisCallback<List<String>>) this::scanKeys);
+            for (String key : allKeys == null ? List.<String>of() : allKeys) {
+                keys.add(key);
+                if (keys.size() >= BATCH_SIZE) {
+                    corrected += reconcileBatch(keys);
+                    checked += keys.size();
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty()) {
+                corrected += reconcileBatch(keys);
+                checked += keys.size();
+            }
+        } catch (Exception e) {
+            log.error("Error during unread counter reconcile", e);
+        }
+        log.info("Unread counters reconciled - checked: {}, corrected: {}, elapsedMs: {}",
+            checked, corrected, System.currentTimeMillis() - startedAt);
+    }
+
+    private List<String> scanKeys(RedisConnection connection) {
+        final List<String> keys = new ArrayList<>();
+        final ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+            }
+        }
+        return keys;
+    }
+
+    private int reconcileBatch(List<String> keys) {
+        final List<String> cached = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (cached == null) {
+            return 0;
+        }
+
+        final List<Integer> userIds = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            userIds.add(Integer.valueOf(key.substring(KEY_PREFIX.length())));
+        }
+        final Map<Integer, Long> countByUserId = new HashMap<>();
+        for (Object[] row : notificationRepository.countValidUnreadGroupByUserIds(userIds, NotificationType.SCORE_SPIKE)) {
+            countByUserId.put((Integer) row[0], ((Number) row[1]).longValue());
+        }
+
+        final List<String> targetKeys = new ArrayList<>();
+        final List<String> args = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            final String current = cached.get(i);
+            final String actual = String.valueOf(countByUserId.getOrDefault(userIds.get(i), 0L));
+            if (current != null && !current.equals(actual)) {
+                targetKeys.add(keys.get(i));
+                args.add(current);
+                args.add(actual);
+            }
+        }
+        if (targetKeys.isEmpty()) {
+            return 0;
+        }
+        args.add(String.valueOf(TTL.toSeconds()));
+        final Long updated = stringRedisTemplate.execute(SET_IF_UNCHANGED, targetKeys, args.toArray());
+        return updated == null ? 0 : updated.intValue();
+    }
+
+    private void applyDeltas(Map<Integer, Integer> deltaByUserId) {
+        final List<Map.Entry<Integer, Integer>> entries = new ArrayList<>(deltaByUserId.entrySet());
+        for (int i = 0; i < entries.size(); i += BATCH_SIZE) {
+            final List<Map.Entry<Integer, Integer>> chunk = entries.subList(i, Math.min(i + BATCH_SIZE, entries.size()));
+            final List<String> keys = new ArrayList<>(chunk.size());
+            final List<String> args = new ArrayList<>(chunk.size() + 1);
+            for (Map.Entry<Integer, Integer> entry : chunk) {
+                keys.add(key(entry.getKey()));
+                args.add(String.valueOf(entry.getValue()));
+            }
+            args.add(String.valueOf(TTL.toSeconds()));
+            try {
+                stringRedisTemplate.execute(ADD_IF_PRESENT, keys, args.toArray());
+            } catch (Exception e) {
+                // 반영하지 못한 카운터는 대사 때 DB 값으로 맞춰짐
+                log.warn("Failed to update unread counters - users: {}, error: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void deleteKey(Integer userId) {
+        try {
+            stringRedisTemplate.delete(key(userId));
+        } catch (Exception e) {
+            log.warn("Failed to evict unread counter - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    private long countFromDb(Integer userId) {
+        return notificationRepository.countValidByUserIdAndIsReadFalse(userId, NotificationType.SCORE_SPIKE);
+    }
+
+    private String key(Integer userId) {
+        return KEY_PREFIX + userId;
+    }
+}
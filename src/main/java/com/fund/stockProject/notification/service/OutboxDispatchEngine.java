@@ -0,0 +1,267 @@
+package com.fund.stockProject.notification.service;
+
+import com.fund.stockProject.notification.entity.OutboxEvent;
+import com.fund.stockProject.notification.repository.OutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Outbox 발송 엔진 (멀티 노드)
+ *
+ * 1. 짧은 트랜잭션에서 FOR UPDATE SKIP LOCKED 로 이벤트 id 를 잠그고 PROCESSING + 점유 만료 시간(lease)으로 바꿔 커밋
+ *    - 다른 노드/스케줄러는 잠긴 행과 PROCESSING 행을 건너뛰므로 같은 이벤트를 두 번 발송하지 않음
+ *    - 노드가 중단되면 lease 만료 후 재시도 스케줄러가 다시 가져감
+ * 2. 점유한 이벤트를 같은 그룹 키(유저, 타입)끼리 묶고, 이벤트 시각이 coalesceWindow 안에 있으면 한 묶음(다이제스트)으로 합침
+ *    - 점유 배치 안에서만 합치므로, 일일 점수 급변처럼 한꺼번에 쌓이는 알림은
+ *      StockScoreAlertService.sendDailyScoreAlerts 가 READY_TO_SEND 전에 유저별 1건으로 합쳐 둠
+ * 3. 묶음을 제한된 워커 풀에서 동시에 처리 (SSE 발송, FCM 푸시 생성. 대기 시간 동안 DB 커넥션을 잡지 않음)
+ * 4. 배치의 모든 묶음이 만든 FCM 푸시를 모아 토큰 조회 1회 + FcmPushService.sendBatch 로 한 번에 전송
+ * 5. 결과를 PROCESSED / RETRY 로 묶어 UPDATE 2회로 반영 (묶음 안의 이벤트는 같은 결과)
+ */
+@Component
+@Slf4j
+public class OutboxDispatchEngine {
+
+    private static final int MAX_ROUNDS_PER_RUN = 20; // 한 번 실행에서 점유할 최대 배치 수
+
+    private final OutboxRepository outboxRepo;
+    private final TransactionTemplate claimTemplate;
+    private final ExecutorService workers;
+    private final int claimSize;
+    private final Duration lease;
+    private final Duration coalesceWindow;
+    private final String owner;
+
+    // FCM 서비스는 선택적으로 주입 (없으면 FCM 푸시 생략)
+    private final FcmPushService fcmPushService;
+
+    public OutboxDispatchEngine(
+            OutboxRepository outboxRepo,
+            PlatformTransactionManager transactionManager,
+            @Value("${notification.outbox.workers:4}") int workerCount,
+            @Value("${notification.outbox.claim-size:100}") int claimSize,
+            @Value("${notification.outbox.lease:PT5M}") Duration lease,
+            @Value("${notification.outbox.coalesce-window:PT5M}") Duration coalesceWindow,
+            @Autowired(required = false) FcmPushService fcmPushService) {
+        this.outboxRepo = outboxRepo;
+        this.claimTemplate = new TransactionTemplate(transactionManager);
+        this.claimSize = claimSize;
+        this.lease = lease;
+        this.coalesceWindow = coalesceWindow;
+        this.owner = UUID.randomUUID().toString();
+        this.fcmPushService = fcmPushService;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 발송 대상 종류 (종류마다 점유 조건이 다름)
+     */
+    public enum ClaimType {
+        IMMEDIATE, SCHEDULED, RETRY
+    }
+
+    /**
+     * 묶음 처리 결과
+     *
+     * @param processed true: PROCESSED, false: 묶음 전체 RETRY
+     * @param pushes    배치 단위로 모아 보낼 FCM 푸시
+     */
+    public record GroupResult(boolean processed, List<FcmPushService.PushRequest> pushes) {
+
+        public static GroupResult processed(List<FcmPushService.PushRequest> pushes) {
+            return new GroupResult(true, pushes);
+        }
+
+        public static GroupResult retry() {
+            return new GroupResult(false, List.of());
+        }
+    }
+
+    /**
+     * 대상 이벤트가 없거나 MAX_ROUNDS_PER_RUN 에 닿을 때까지 점유 -> 묶기 -> 처리 -> FCM 일괄 전송 -> 결과 반영을 반복합니다.
+     *
+     * @param groupKey 합칠 수 있는 이벤트끼리 같은 키 (null 이면 합치지 않음)
+     * @param handler  묶음 처리 (예외는 RETRY)
+     * @return 처리한 이벤트 수
+     */
+    public int dispatch(ClaimType type, Function<OutboxEvent, String> groupKey,
+                        Function<List<OutboxEvent>, GroupResult> handler) {
+        int total = 0;
+        for (int round = 0; round < MAX_ROUNDS_PER_RUN; round++) {
+            List<OutboxEvent> claimed = claim(type);
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            List<List<OutboxEvent>> groups = coalesce(claimed, groupKey);
+            List<CompletableFuture<GroupResult>> futures = new ArrayList<>(groups.size());
+            for (List<OutboxEvent> group : groups) {
+                futures.add(CompletableFuture.supplyAsync(() -> handle(group, handler), workers));
+            }
+
+            List<Integer> processedIds = new ArrayList<>();
+            List<Integer> retryIds = new ArrayList<>();
+            List<Integer> pushedIds = new ArrayList<>();
+            List<FcmPushService.PushRequest> pushes = new ArrayList<>();
+            for (int i = 0; i < groups.size(); i++) {
+                GroupResult result = futures.get(i).join();
+                List<Integer> target = result.processed() ? processedIds : retryIds;
+                for (OutboxEvent event : groups.get(i)) {
+                    target.add(event.getId());
+                }
+                if (result.processed() && !result.pushes().isEmpty()) {
+                    pushes.addAll(result.pushes());
+                    groups.get(i).forEach(event -> pushedIds.add(event.getId()));
+                }
+            }
+
+            if (!sendPushes(pushes)) {
+                // 토큰 조회 등 전송 전 단계 실패: 푸시가 있던 묶음만 재시도
+                processedIds.removeAll(pushedIds);
+                retryIds.addAll(pushedIds);
+            }
+            complete(processedIds, retryIds);
+
+            total += claimed.size();
+            log.debug("Outbox batch dispatched: type={}, events={}, groups={}, pushes={}, processed={}, retry={}",
+                    type, claimed.size(), groups.size(), pushes.size(), processedIds.size(), retryIds.size());
+            if (claimed.size() < claimSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private List<OutboxEvent> claim(ClaimType type) {
+        List<OutboxEvent> claimed = claimTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<Integer> ids = switch (type) {
+                case IMMEDIATE -> outboxRepo.lockImmediateEventIds(claimSize);
+                case SCHEDULED -> outboxRepo.lockScheduledEventIds(now, claimSize);
+                case RETRY -> outboxRepo.lockRetryEventIds(now, claimSize);
+            };
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxRepo.markProcessing(ids, owner, now.plus(lease));
+            return outboxRepo.findAllById(ids);
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    /**
+     * 같은 키의 이벤트를 이벤트 시각(예약 시각, 없으면 생성 시각) 순으로 정렬해
+     * 첫 이벤트로부터 coalesceWindow 안에 있는 것끼리 묶습니다.
+     */
+    List<List<OutboxEvent>> coalesce(List<OutboxEvent> claimed, Function<OutboxEvent, String> groupKey) {
+        Map<String, List<OutboxEvent>> byKey = new LinkedHashMap<>();
+        List<List<OutboxEvent>> groups = new ArrayList<>();
+        for (OutboxEvent event : claimed) {
+            String key = groupKey.apply(event);
+            if (key == null) {
+                groups.add(List.of(event));
+            } else {
+                byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(event);
+            }
+        }
+
+        for (List<OutboxEvent> events : byKey.values()) {
+            events.sort(Comparator.comparing(this::eventTime));
+            List<OutboxEvent> current = new ArrayList<>();
+            Instant windowEnd = null;
+            for (OutboxEvent event : events) {
+                Instant time = eventTime(event);
+                if (windowEnd != null && time.isAfter(windowEnd)) {
+                    groups.add(current);
+                    current = new ArrayList<>();
+                }
+                if (current.isEmpty()) {
+                    windowEnd = time.plus(coalesceWindow);
+                }
+                current.add(event);
+            }
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private Instant eventTime(OutboxEvent event) {
+        if (event.getScheduledAt() != null) {
+            return event.getScheduledAt();
+        }
+        return event.getCreatedAt() != null ? event.getCreatedAt() : Instant.EPOCH;
+    }
+
+    private GroupResult handle(List<OutboxEvent> group, Function<List<OutboxEvent>, GroupResult> handler) {
+        try {
+            GroupResult result = handler.apply(group);
+            return result != null ? result : GroupResult.retry();
+        } catch (Exception e) {
+            log.warn("Outbox event handler failed: eventIds={}, error={}", group.stream().map(OutboxEvent::getId).toList(), e.getMessage());
+            return GroupResult.retry();
+        }
+    }
+
+    /**
+     * 배치의 FCM 푸시를 한 번에 전송 (토큰별 전송 실패는 FcmPushService 가 기록하고 성공으로 취급)
+     *
+     * @return false: 전송 전 단계(토큰 조회 등) 실패
+     */
+    private boolean sendPushes(List<FcmPushService.PushRequest> pushes) {
+        if (pushes.isEmpty() || fcmPushService == null) {
+            return true;
+        }
+        try {
+            fcmPushService.sendAll(pushes);
+            return true;
+        } catch (Exception e) {
+            log.warn("Outbox FCM batch send failed: pushes={}, error={}", pushes.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void complete(List<Integer> processedIds, List<Integer> retryIds) {
+        try {
+            if (!processedIds.isEmpty()) {
+                outboxRepo.markProcessed(processedIds, owner);
+            }
+            if (!retryIds.isEmpty()) {
+                int updated = outboxRepo.markRetry(retryIds, owner, Instant.now());
+                log.warn("Outbox events scheduled for retry: count={}, updated={}", retryIds.size(), updated);
+            }
+        } catch (Exception e) {
+            // 반영하지 못한 이벤트는 lease 만료 후 재시도 스케줄러가 다시 가져감
+            log.error("Failed to record outbox results: processed={}, retry={}", processedIds.size(), retryIds.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -6,63 +6,52 @@ import com.fund.stockProject.notification.domain.NotificationType;
 import com.fund.stockProject.notification.entity.Notification;
 import com.fund.stockProject.notification.entity.OutboxEvent;
 import com.fund.stockProject.notification.repository.NotificationRepository;
-import com.fund.stockProject.notification.repository.OutboxRepository;
 import com.fund.stockProject.preference.domain.PreferenceType;
 import com.fund.stockProject.preference.repository.PreferenceRepository;
+import com.fund.stockProject.notification.service.FcmPushService.PushRequest;
+import com.fund.stockProject.notification.service.OutboxDispatchEngine.GroupResult;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 @Service
 @Slf4j
 public class OutboxDispatcher {
-    private final OutboxRepository outboxRepo;
     private final NotificationRepository notificationRepo;
     private final PreferenceRepository preferenceRepo;
     private final SsePushService ssePushService;  // 웹/웹뷰 실시간
     private final ObjectMapper om;
-    
-    // FCM 서비스는 선택적으로 주입 (없을 수 있음)
-    private final FcmPushService fcmPushService;
-    
+    private final OutboxDispatchEngine dispatchEngine;
+    private final NotificationUnreadCounter unreadCounter;
+
     public OutboxDispatcher(
-            OutboxRepository outboxRepo,
             NotificationRepository notificationRepo,
             PreferenceRepository preferenceRepo,
             SsePushService ssePushService,
             ObjectMapper om,
-            @Autowired(required = false) FcmPushService fcmPushService) {
-        this.outboxRepo = outboxRepo;
+            OutboxDispatchEngine dispatchEngine,
+            NotificationUnreadCounter unreadCounter) {
         this.notificationRepo = notificationRepo;
         this.preferenceRepo = preferenceRepo;
         this.ssePushService = ssePushService;
         this.om = om;
-        this.fcmPushService = fcmPushService;
+        this.dispatchEngine = dispatchEngine;
+        this.unreadCounter = unreadCounter;
     }
 
     /**
      * 즉시 알림 발송 처리
+     * 평소에는 알림 저장 커밋 직후 OutboxWakeUpSignal 이 실행하고, 주기 실행은 놓친 이벤트를 위한 안전망입니다.
      */
-    @Scheduled(fixedDelay = 60000) // 1분
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:300000}") // 기본 5분
     public void dispatchImmediate() {
         try {
-            var batch = outboxRepo.findReadyImmediateEvents(PageRequest.of(0, 100));
-
-            log.debug("Found {} immediate events to process", batch.getContent().size());
-
-            for (OutboxEvent e : batch.getContent()) {
-                if (!"ALERT_CREATED".equals(e.getType())) continue;
-
-                processEvent(e);
-            }
+            int dispatched = dispatchEngine.dispatch(OutboxDispatchEngine.ClaimType.IMMEDIATE, this::groupKey, this::processGroup);
+            log.debug("Dispatched {} immediate events", dispatched);
         } catch (Exception e) {
             log.error("Error in dispatchImmediate scheduler", e);
         }
@@ -74,97 +63,176 @@ public class OutboxDispatcher {
     @Scheduled(cron = "0 * 9 * * *", zone = "Asia/Seoul")
     public void dispatchScheduled() {
         try {
-            var batch = outboxRepo.findReadyScheduledEvents(Instant.now(), PageRequest.of(0, 200));
-
-            log.debug("Found {} scheduled events to process", batch.getContent().size());
-
-            for (OutboxEvent e : batch.getContent()) {
-                if (!"ALERT_CREATED".equals(e.getType())) continue;
-
-                processEvent(e);
-            }
+            int dispatched = dispatchEngine.dispatch(OutboxDispatchEngine.ClaimType.SCHEDULED, this::groupKey, this::processGroup);
+            log.debug("Dispatched {} scheduled events", dispatched);
         } catch (Exception e) {
             log.error("Error in dispatchScheduled scheduler", e);
         }
     }
 
     /**
-     * 재시도 이벤트 처리 (5분마다)
+     * 재시도 이벤트 처리 (5분마다, 점유가 만료된 발송 중 이벤트 포함)
      */
     @Scheduled(fixedDelay = 300000) // 5분
     public void dispatchRetry() {
         try {
-            List<OutboxEvent> retryEvents = outboxRepo.findRetryableEvents("RETRY", Instant.now());
-
-            log.debug("Found {} events to retry", retryEvents.size());
-
-            for (OutboxEvent e : retryEvents) {
-                if (!"ALERT_CREATED".equals(e.getType())) continue;
-
-                processEvent(e);
-            }
+            int dispatched = dispatchEngine.dispatch(OutboxDispatchEngine.ClaimType.RETRY, this::groupKey, this::processGroup);
+            log.debug("Dispatched {} retry events", dispatched);
         } catch (Exception e) {
             log.error("Error in dispatchRetry scheduler", e);
         }
     }
 
     /**
-     * 이벤트 처리 공통 로직
+     * 다이제스트로 합칠 수 있는 이벤트 키 (같은 유저, 같은 타입, 같은 푸시 방식)
+     */
+    private String groupKey(OutboxEvent e) {
+        Map<String, Object> payload = parsePayload(e);
+        if (payload == null || toInteger(payload.get("userId")) == null || payload.get("type") == null) {
+            return null;
+        }
+        return payload.get("userId") + ":" + payload.get("type") + ":" + Boolean.TRUE.equals(payload.get("quietPush"));
+    }
+
+    /**
+     * 묶음 처리 (워커 스레드에서 실행, FCM 전송과 상태 반영은 엔진이 배치 단위로 일괄 처리)
+     * 묶음 안의 알림(이벤트별 notificationId, 일일 점수 급변 대표 이벤트는 digestNotificationIds)이 여러 개면
+     * SSE 는 알림마다 보내고 FCM 은 다이제스트 1건만 만듭니다.
+     *
+     * @return 발송 완료 또는 발송하지 않고 종료면 processed(FCM 푸시), 실패면 retry
      */
-    private void processEvent(OutboxEvent e) {
+    private GroupResult processGroup(List<OutboxEvent> events) {
         try {
-            Map<String, Object> payload = om.readValue(e.getPayload(), new TypeReference<>(){});
-            Integer nId = toInteger(payload.get("notificationId"));
-            Integer userId = toInteger(payload.get("userId"));
-            if (nId == null || userId == null) {
-                markProcessedWithoutSend(e, "invalid_payload");
-                return;
-            }
+            Integer userId = null;
+            boolean quiet = false;
+            List<Notification> notifications = new ArrayList<>();
+            for (OutboxEvent e : events) {
+                Map<String, Object> payload = parsePayload(e);
+                Integer eventUserId = payload != null ? toInteger(payload.get("userId")) : null;
+                List<Integer> notificationIds = payload != null ? notificationIds(payload) : List.of();
+                if (eventUserId == null || notificationIds.isEmpty()) {
+                    logSkipped(e, "invalid_payload");
+                    continue;
+                }
+                userId = eventUserId;
+                quiet = Boolean.TRUE.equals(payload.get("quietPush"));
 
-            Notification n = notificationRepo.findById(nId).orElse(null);
-            if (n == null) {
-                markProcessedWithoutSend(e, "notification_not_found");
-                return;
+                for (Integer nId : notificationIds) {
+                    Notification n = notificationRepo.findWithStockById(nId).orElse(null);
+                    if (n == null) {
+                        logSkipped(e, "notification_not_found");
+                    } else if (!isStillEnabled(userId, n, payload)) {
+                        logSkipped(e, "notification_disabled_or_unbookmarked");
+                    } else {
+                        notifications.add(n);
+                    }
+                }
             }
 
-            if (n.getNotificationType() == NotificationType.SCORE_SPIKE) {
-                Integer stockId = n.getStock() != null ? n.getStock().getId() : toInteger(payload.get("stockId"));
-                boolean enabled = stockId != null && preferenceRepo
-                        .existsByUserIdAndStockIdAndPreferenceTypeAndNotificationEnabled(
-                                userId, stockId, PreferenceType.BOOKMARK, true);
+            if (notifications.isEmpty()) {
+                return GroupResult.processed(List.of());
+            }
+            if (notifications.size() == 1) {
+                PushRequest push = send(userId, notifications.get(0), quiet);
+                log.info("Notification dispatched: userId={}, notificationId={}", userId, notifications.get(0).getId());
+                return GroupResult.processed(List.of(push));
+            }
 
-                if (!enabled) {
-                    notificationRepo.delete(n);
-                    markProcessedWithoutSend(e, "notification_disabled_or_unbookmarked");
-                    return;
-                }
+            // SSE 는 알림 목록 갱신용이라 알림마다 전달
+            for (Notification n : notifications) {
+                ssePushService.pushToUser(userId, n);
             }
 
-            // SSE 푸시 (웹/웹뷰)
-            ssePushService.pushToUser(userId, n);
-            
-            // FCM 푸시 (모바일) - FCM이 활성화된 경우에만
-            if (fcmPushService != null) {
-                boolean quiet = Boolean.TRUE.equals(payload.get("quietPush"));
-                Map<String, String> data = Map.of(
-                        "notificationId", n.getId().toString(),
-                        "stockId", n.getStock() != null ? n.getStock().getId().toString() : "",
-                        "type", n.getNotificationType().name()
-                );
-
-                if (quiet) {
-                    fcmPushService.sendSilent(userId, data);
-                } else {
-                    fcmPushService.sendAlert(userId, n.getTitle(), n.getBody(), data);
+            Notification latest = notifications.get(notifications.size() - 1);
+            Map<String, String> data = Map.of(
+                    "notificationId", latest.getId().toString(),
+                    "stockId", "",
+                    "type", latest.getNotificationType().name(),
+                    "count", String.valueOf(notifications.size())
+            );
+            PushRequest push = quiet
+                    ? PushRequest.silent(userId, data)
+                    : PushRequest.alert(userId, digestTitle(latest.getNotificationType()),
+                            digestBody(latest.getNotificationType(), notifications.size()), data);
+
+            log.info("Notification digest dispatched: userId={}, notifications={}, events={}",
+                    userId, notifications.size(), events.size());
+            return GroupResult.processed(List.of(push));
+
+        } catch (Exception ex) {
+            log.warn("Notification dispatch failed, will retry: eventIds={}, error={}",
+                    events.stream().map(OutboxEvent::getId).toList(), ex.getMessage());
+            return GroupResult.retry();
+        }
+    }
+
+    /**
+     * 이벤트가 발송할 알림 id 목록 (다이제스트 대표 이벤트면 합쳐진 알림 전체)
+     */
+    private List<Integer> notificationIds(Map<String, Object> payload) {
+        if (payload.get("digestNotificationIds") instanceof List<?> digestIds) {
+            List<Integer> ids = new ArrayList<>(digestIds.size());
+            for (Object id : digestIds) {
+                Integer nId = toInteger(id);
+                if (nId != null) {
+                    ids.add(nId);
                 }
             }
+            return ids;
+        }
+        Integer nId = toInteger(payload.get("notificationId"));
+        return nId == null ? List.of() : List.of(nId);
+    }
 
-            e.setStatus("PROCESSED");
-            outboxRepo.save(e);
-            log.info("Notification sent successfully: userId={}, notificationId={}", userId, nId);
-            
+    /**
+     * 점수 급변 알림은 발송 시점에도 북마크/알림 설정이 유지돼야 함 (아니면 알림 삭제)
+     */
+    private boolean isStillEnabled(Integer userId, Notification n, Map<String, Object> payload) {
+        if (n.getNotificationType() != NotificationType.SCORE_SPIKE) {
+            return true;
+        }
+
+        Integer stockId = n.getStock() != null ? n.getStock().getId() : toInteger(payload.get("stockId"));
+        boolean enabled = stockId != null && preferenceRepo
+                .existsByUserIdAndStockIdAndPreferenceTypeAndNotificationEnabled(
+                        userId, stockId, PreferenceType.BOOKMARK, true);
+
+        if (!enabled) {
+            notificationRepo.delete(n);
+            unreadCounter.evict(userId);
+        }
+        return enabled;
+    }
+
+    /**
+     * SSE 푸시(웹/웹뷰) 후 FCM 푸시(모바일) 생성 - FCM 은 엔진이 배치 단위로 전송
+     */
+    private PushRequest send(Integer userId, Notification n, boolean quiet) {
+        ssePushService.pushToUser(userId, n);
+
+        Map<String, String> data = Map.of(
+                "notificationId", n.getId().toString(),
+                "stockId", n.getStock() != null ? n.getStock().getId().toString() : "",
+                "type", n.getNotificationType().name()
+        );
+        return quiet ? PushRequest.silent(userId, data) : PushRequest.alert(userId, n.getTitle(), n.getBody(), data);
+    }
+
+    private String digestTitle(NotificationType type) {
+        return type == NotificationType.SCORE_SPIKE ? "북마크 종목 점수 급변 알림" : type.getDescription();
+    }
+
+    private String digestBody(NotificationType type, int count) {
+        return type == NotificationType.SCORE_SPIKE
+                ? "북마크한 종목 " + count + "개의 점수가 크게 변했습니다."
+                : "새 알림 " + count + "건이 있습니다.";
+    }
+
+    private Map<String, Object> parsePayload(OutboxEvent e) {
+        try {
+            return om.readValue(e.getPayload(), new TypeReference<>(){});
         } catch (Exception ex) {
-            handleError(e, ex);
+            return null;
         }
     }
 
@@ -182,59 +250,7 @@ public class OutboxDispatcher {
         }
     }
 
-    private void markProcessedWithoutSend(OutboxEvent event, String reason) {
-        event.setStatus("PROCESSED");
-        outboxRepo.save(event);
+    private void logSkipped(OutboxEvent event, String reason) {
         log.info("Skipped notification dispatch: eventId={}, reason={}", event.getId(), reason);
     }
-
-    /**
-     * 에러 처리 및 재시도 로직
-     */
-    private void handleError(OutboxEvent e, Exception ex) {
-        int retryCount = e.getRetryCount() + 1;
-        e.setRetryCount(retryCount);
-        
-        // 지수 백오프(분 단위): 1분, 2분, 4분 ... 최대 300분
-        final long backoffMinutes = Math.min(300L, 1L << Math.min(10, Math.max(0, retryCount - 1)));
-        long backoffSec = backoffMinutes * 60L;
-        e.setNextAttemptAt(Instant.now().plusSeconds(backoffSec));
-        e.setStatus("RETRY");
-        outboxRepo.save(e);
-        
-        log.warn("Notification dispatch failed, will retry: eventId={}, retryCount={}, nextAttempt={}, error={}", 
-                e.getId(), retryCount, e.getNextAttemptAt(), ex.getMessage());
-    }
-
-    /**
-     * 오래된 ���리 완료 이벤트 정리 (매일 새벽 3시)
-     */
-    @Scheduled(cron = "0 0 3 * * ?", zone = "Asia/Seoul")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void cleanupOldEvents() {
-        try {
-            // 7일 이상 된 PROCESSED 이벤트 삭제
-            Instant cutoffDate = Instant.now().minus(7, java.time.temporal.ChronoUnit.DAYS);
-            List<OutboxEvent> oldEvents = outboxRepo.findByStatusAndCreatedAtBefore("PROCESSED", cutoffDate);
-
-            if (!oldEvents.isEmpty()) {
-                outboxRepo.deleteAll(oldEvents);
-                log.info("Cleaned up {} old outbox events", oldEvents.size());
-            }
-
-            // 30일 이상 재시도에 실패한 이벤트들을 FAILED로 변경
-            Instant veryOldCutoff = Instant.now().minus(30, java.time.temporal.ChronoUnit.DAYS);
-            List<OutboxEvent> failedEvents = outboxRepo.findByStatusAndCreatedAtBefore("RETRY", veryOldCutoff);
-
-            if (!failedEvents.isEmpty()) {
-                failedEvents.forEach(event -> event.setStatus("FAILED"));
-                outboxRepo.saveAll(failedEvents);
-                log.warn("Marked {} old retry events as FAILED", failedEvents.size());
-            }
-
-        } catch (Exception e) {
-            log.error("Error during outbox cleanup", e);
-            // 정리 작업 실패는 시스템에 치명적이지 않으므로 예외를 삼킴
-        }
-    }
 }
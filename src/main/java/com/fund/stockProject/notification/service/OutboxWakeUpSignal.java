@@ -0,0 +1,72 @@
+package com.fund.stockProject.notification.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 즉시 알림 발송 깨우기 신호
+ *
+ * 즉시 발송 Outbox 이벤트를 저장한 트랜잭션이 커밋되면 바로 즉시 발송을 실행합니다. (주기 폴링은 안전망)
+ * 신호가 몰려도 실행 스레드는 1개이고, 실행 중에 들어온 신호는 합쳐서 한 번 더 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxWakeUpSignal {
+
+    private final OutboxDispatcher outboxDispatcher;
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-wakeup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 즉시 발송 이벤트 저장 알림 (NotificationService 에서 발행)
+     */
+    public record ImmediateOutboxEventSaved(Integer notificationId) {
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImmediateOutboxEventSaved(ImmediateOutboxEventSaved event) {
+        signal();
+    }
+
+    public void signal() {
+        requested.set(true);
+        if (running.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (requested.getAndSet(false)) {
+                outboxDispatcher.dispatchImmediate();
+            }
+        } catch (Exception e) {
+            log.error("Error in outbox wake-up dispatch", e);
+        } finally {
+            running.set(false);
+            // 종료 직전에 들어온 신호 처리
+            if (requested.get() && running.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
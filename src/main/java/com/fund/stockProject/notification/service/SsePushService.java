@@ -1,25 +1,99 @@
 package com.fund.stockProject.notification.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fund.stockProject.notification.dto.NotificationResponse;
 import com.fund.stockProject.notification.entity.Notification;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * SSE 실시간 푸시 (멀티 노드)
+ *
+ * 발송: 유저 id 로 정한 Redis 채널(샤드)에 발행하고, 그 샤드에 연결된 유저가 있는 노드만 구독해서 받습니다.
+ * 전달: 받은 메시지는 로컬 큐에 넣고 SSE 전용 스레드를 깨워 유저/연결 단위로 묶어 보냅니다.
+ *       (공용 스케줄러 풀을 배치 작업이 점유해도 전달이 밀리지 않도록 전용 스레드 1개를 사용)
+ * 유지: 하트비트는 같은 전용 스레드에서 미리 만든 comment 이벤트 하나를 모든 연결에 보내며 끊긴 연결을 함께 정리합니다.
+ * Redis 발행에 실패하면 이 노드에 연결된 유저에게만 전달합니다.
+ */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class SsePushService {
+    private static final String CHANNEL_PREFIX = "sse:user-shard:";
+    private static final int SHARD_COUNT = 64;
+    private static final long HEARTBEAT_INTERVAL_MS = 25_000;
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
     private final Map<Integer, CopyOnWriteArrayList<SseEmitter>> sessions = new ConcurrentHashMap<>();
+    private final Queue<SseMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-push");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 구독 중인 샤드 -> 리스너, 샤드별 로컬 연결 수
+    private final Map<Integer, MessageListener> shardListeners = new ConcurrentHashMap<>();
+    private final int[] shardConnections = new int[SHARD_COUNT];
+
+    /**
+     * 노드 간 전달 메시지
+     */
+    record SseMessage(Integer userId, String event, String data) {
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                sendHeartbeats();
+            } catch (Exception e) {
+                // 예외가 나가면 이후 하트비트가 모두 취소되므로 여기서 막음
+                log.warn("Failed to send SSE heartbeats: {}", e.getMessage());
+            }
+        }, HEARTBEAT_INTERVAL_MS, HEARTBEAT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
 
     public SseEmitter register(Integer userId) {
         // 30분 타임아웃 설정 (무제한 연결 방지)
         SseEmitter emitter = new SseEmitter(30 * 60 * 1000L); // 30분
 
         sessions.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+        onConnectionAdded(userId);
 
         // 연결 정리 로직 강화
         emitter.onCompletion(() -> {
@@ -48,44 +122,153 @@ public class SsePushService {
         return emitter;
     }
 
+    /**
+     * 알림을 유저의 모든 연결(어느 노드든)로 보냅니다.
+     */
     public void pushToUser(Integer userId, Notification n) {
-        CopyOnWriteArrayList<SseEmitter> userEmitters = sessions.get(userId);
-        if (userEmitters == null || userEmitters.isEmpty()) {
+        final SseMessage message;
+        try {
+            message = new SseMessage(userId, "alert", objectMapper.writeValueAsString(NotificationResponse.fromEntity(n)));
+        } catch (Exception e) {
+            log.warn("Failed to serialize SSE notification for user: {}, error: {}", userId, e.getMessage());
             return;
         }
 
-        // 실패한 emitter들을 추적해서 제거
-        userEmitters.removeIf(emitter -> {
+        final int shard = shardOf(userId);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + shard, objectMapper.writeValueAsString(message));
+            // 구독에 실패한 샤드의 로컬 연결은 직접 전달
+            if (!shardListeners.containsKey(shard) && sessions.containsKey(userId)) {
+                enqueue(message);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to publish SSE message, delivering locally only. userId: {}, error: {}", userId, e.getMessage());
+            if (sessions.containsKey(userId)) {
+                enqueue(message);
+            }
+        }
+    }
+
+    /**
+     * 로컬 큐에 넣고 전송 스레드를 깨웁니다. 이미 깨운 뒤면 그 실행이 함께 보냅니다.
+     */
+    private void enqueue(SseMessage message) {
+        pendingMessages.add(message);
+        if (flushRequested.compareAndSet(false, true)) {
             try {
-                emitter.send(SseEmitter.event().name("alert").data(n));
-                return false; // 성공하면 제거하지 않음
-            } catch (IOException e) {
-                log.debug("Failed to send SSE message to user: {}, removing emitter", userId);
-                return true; // 실패하면 제거
+                executor.execute(this::flushPendingMessages);
+            } catch (Exception e) {
+                flushRequested.set(false);
+                log.warn("Failed to schedule SSE flush: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void flushPendingMessages() {
+        // 비우기 전에 내려야 비우는 중에 들어온 메시지가 다음 실행을 예약함
+        flushRequested.set(false);
+        if (pendingMessages.isEmpty()) {
+            return;
+        }
+
+        // 유저 단위로 묶어 연결마다 순서대로 전송
+        Map<Integer, List<SseMessage>> messagesByUser = new LinkedHashMap<>();
+        SseMessage message;
+        while ((message = pendingMessages.poll()) != null) {
+            messagesByUser.computeIfAbsent(message.userId(), k -> new ArrayList<>()).add(message);
+        }
+
+        messagesByUser.forEach((userId, messages) -> {
+            CopyOnWriteArrayList<SseEmitter> userEmitters = sessions.get(userId);
+            if (userEmitters == null) {
+                return;
+            }
+            for (SseEmitter emitter : userEmitters) {
+                try {
+                    for (SseMessage m : messages) {
+                        emitter.send(SseEmitter.event().name(m.event()).data(m.data(), MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Failed to send SSE message to user: {}, removing emitter", userId);
+                    removeEmitter(userId, emitter);
+                }
+            }
+        });
+    }
+
+    private void sendHeartbeats() {
+        sessions.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                try {
+                    emitter.send(HEARTBEAT);
+                } catch (IOException | IllegalStateException e) {
+                    removeEmitter(userId, emitter);
+                }
             }
         });
+    }
 
-        // 빈 리스트는 Map에서 제거
-        if (userEmitters.isEmpty()) {
-            sessions.remove(userId);
+    private void onMessage(byte[] body) {
+        try {
+            SseMessage message = objectMapper.readValue(body, SseMessage.class);
+            if (message.userId() != null && sessions.containsKey(message.userId())) {
+                enqueue(message);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read SSE message from Redis: {}", e.getMessage());
         }
     }
 
     private void removeEmitter(Integer userId, SseEmitter emitter) {
         CopyOnWriteArrayList<SseEmitter> userEmitters = sessions.get(userId);
-        if (userEmitters != null) {
-            userEmitters.remove(emitter);
+        if (userEmitters != null && userEmitters.remove(emitter)) {
             if (userEmitters.isEmpty()) {
-                sessions.remove(userId);
+                sessions.remove(userId, userEmitters);
             }
+            onConnectionRemoved(userId);
         }
     }
 
+    private synchronized void onConnectionAdded(Integer userId) {
+        int shard = shardOf(userId);
+        shardConnections[shard]++;
+        if (!shardListeners.containsKey(shard)) {
+            try {
+                MessageListener listener = (message, pattern) -> onMessage(message.getBody());
+                listenerContainer.addMessageListener(listener, new ChannelTopic(CHANNEL_PREFIX + shard));
+                shardListeners.put(shard, listener);
+            } catch (Exception e) {
+                log.warn("Failed to subscribe SSE shard: {}, error: {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void onConnectionRemoved(Integer userId) {
+        int shard = shardOf(userId);
+        if (--shardConnections[shard] > 0) {
+            return;
+        }
+        shardConnections[shard] = 0;
+        MessageListener listener = shardListeners.remove(shard);
+        if (listener != null) {
+            try {
+                listenerContainer.removeMessageListener(listener, new ChannelTopic(CHANNEL_PREFIX + shard));
+            } catch (Exception e) {
+                log.warn("Failed to unsubscribe SSE shard: {}, error: {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    private int shardOf(Integer userId) {
+        return Math.floorMod(userId, SHARD_COUNT);
+    }
+
     // 정리 작업을 위한 메소드 추가
     public void disconnectUser(Integer userId) {
-        CopyOnWriteArrayList<SseEmitter> userEmitters = sessions.remove(userId);
+        CopyOnWriteArrayList<SseEmitter> userEmitters = sessions.get(userId);
         if (userEmitters != null) {
             userEmitters.forEach(emitter -> {
+                removeEmitter(userId, emitter);
                 try {
                     emitter.complete();
                 } catch (Exception e) {
@@ -8,21 +8,35 @@ import com.fund.stockProject.notification.entity.OutboxEvent;
 import com.fund.stockProject.notification.repository.NotificationRepository;
 import com.fund.stockProject.notification.repository.OutboxRepository;
 import com.fund.stockProject.preference.domain.PreferenceType;
-import com.fund.stockProject.preference.entity.Preference;
 import com.fund.stockProject.preference.repository.PreferenceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Service
 @RequiredArgsConstructor
@@ -30,46 +44,191 @@ import java.util.Map;
 public class StockScoreAlertService {
     private final NotificationRepository notificationRepo;
     private final OutboxRepository outboxRepo;
-    private final NotificationService notificationService;
     private final PreferenceRepository preferenceRepo;
     private final ObjectMapper objectMapper;
+    private final NotificationUnreadCounter unreadCounter;
+
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
 
     private static final int THRESHOLD_ABS = 15;
+    private static final int STOCK_CHUNK_SIZE = 1000; // 북마크 유저 조회 IN 절 크기
+    private static final int INSERT_CHUNK_SIZE = 500; // 트랜잭션/JDBC 배치 한 번에 저장할 알림 수
+
+    private static final String INSERT_NOTIFICATION_SQL = """
+        INSERT INTO notifications (user_id, stock_id, notification_type, old_score, new_score, change_abs,
+                                   title, body, is_read, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, false, ?)
+    """;
+    private static final String INSERT_OUTBOX_SQL = """
+        INSERT INTO outbox_events (type, payload, status, retry_count, next_attempt_at, scheduled_at, created_at)
+        VALUES ('ALERT_CREATED', ?, 'PENDING', 0, ?, ?, ?)
+    """;
+
+    // 점수 배치 동안 쌓인 점수 급변 (점수 저장 트랜잭션이 커밋된 것만)
+    private final Queue<ScoreChange> pendingChanges = new ConcurrentLinkedQueue<>();
+
+    private record ScoreChange(Integer stockId, int oldScore, int newScore) {
+    }
+
+    private record AlertRow(Integer userId, Integer stockId, int oldScore, int newScore, int delta,
+                            String title, String body) {
+    }
+
+    private record PendingScoreSpike(OutboxEvent event, Map<String, Object> payload) {
+    }
 
     /**
-     * 점수 변경 시 예약 알림 생성 (오전 9시 발송)
+     * 점수 변경 기록 (알림 생성은 배치 종료 시 flushScoreAlerts 에서 한 번에)
      */
-    @Transactional
     public void onScoreChanged(Integer stockId, int oldScore, int newScore) {
         int delta = Math.abs(newScore - oldScore);
         if (delta < THRESHOLD_ABS) return;
 
-        // 이 종목을 북마크하고 알림이 활성화된 사용자들 조회
-        List<Preference> preferences = preferenceRepo.findByStockIdAndPreferenceType(stockId, PreferenceType.BOOKMARK);
-        List<Preference> activePreferences = preferences.stream()
-                .filter(p -> p.getNotificationEnabled())
-                .toList();
-        
-        if (activePreferences.isEmpty()) return;
+        ScoreChange change = new ScoreChange(stockId, oldScore, newScore);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 점수 저장이 롤백되면 알림도 만들지 않음
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingChanges.add(change);
+                }
+            });
+        } else {
+            pendingChanges.add(change);
+        }
+    }
+
+    /**
+     * 쌓인 점수 급변에 대해 예약 알림 생성 (오전 9시 발송)
+     * 북마크 유저는 종목 목록으로 한 번에 조회하고, 알림과 Outbox 이벤트는 JDBC 배치 INSERT 로 저장합니다.
+     * 저장 형식은 NotificationService.createScheduledStockNotification 과 같습니다.
+     *
+     * @return 생성한 알림 수
+     */
+    public int flushScoreAlerts() {
+        Map<Integer, ScoreChange> changeByStockId = new LinkedHashMap<>();
+        ScoreChange polled;
+        while ((polled = pendingChanges.poll()) != null) {
+            changeByStockId.put(polled.stockId(), polled); // 같은 종목은 마지막 변경 기준
+        }
+        if (changeByStockId.isEmpty()) {
+            return 0;
+        }
+
+        // 이 종목들을 북마크하고 알림이 활성화된 사용자들 조회
+        List<AlertRow> rows = new ArrayList<>();
+        List<Integer> stockIds = new ArrayList<>(changeByStockId.keySet());
+        for (int i = 0; i < stockIds.size(); i += STOCK_CHUNK_SIZE) {
+            List<Integer> chunk = stockIds.subList(i, Math.min(i + STOCK_CHUNK_SIZE, stockIds.size()));
+            for (Object[] r : preferenceRepo.findNotificationEnabledUsersByStockIds(chunk, PreferenceType.BOOKMARK)) {
+                Integer userId = (Integer) r[0];
+                Integer stockId = (Integer) r[1];
+                String symbolName = (String) r[2];
+                ScoreChange change = changeByStockId.get(stockId);
+                int delta = Math.abs(change.newScore() - change.oldScore());
+                rows.add(new AlertRow(userId, stockId, change.oldScore(), change.newScore(), delta,
+                    symbolName + " 점수 급변: " + change.oldScore() + " → " + change.newScore(),
+                    "북마크한 종목의 점수가 " + delta + "p 변했습니다."));
+            }
+        }
 
         // 오전 9시 발송 시간 계산
         Instant scheduledAt = calculateNextNineAM();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int savedCount = 0;
+        for (int i = 0; i < rows.size(); i += INSERT_CHUNK_SIZE) {
+            List<AlertRow> chunk = rows.subList(i, Math.min(i + INSERT_CHUNK_SIZE, rows.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertAlerts(chunk, scheduledAt));
+                savedCount += chunk.size();
+                unreadCounter.add(countByUser(chunk));
+            } catch (Exception e) {
+                log.error("Failed to save score alert chunk - rows: {}", chunk.size(), e);
+            }
+        }
 
-        for (Preference preference : activePreferences) {
-            String title = preference.getStock().getSymbolName() + " 점수 급변: " + oldScore + " → " + newScore;
-            String body = "북마크한 종목의 점수가 " + delta + "p 변했습니다.";
-
-            notificationService.createScheduledStockNotification(
-                preference.getUser(), 
-                preference.getStock(), 
-                NotificationType.SCORE_SPIKE,
-                title, 
-                body,
-                oldScore,
-                newScore,
-                delta,
-                scheduledAt
-            );
+        log.info("Score alerts created: changedStocks={}, notifications={}, failed={}",
+            changeByStockId.size(), savedCount, rows.size() - savedCount);
+        return savedCount;
+    }
+
+    private Map<Integer, Integer> countByUser(List<AlertRow> rows) {
+        Map<Integer, Integer> countByUserId = new HashMap<>();
+        for (AlertRow row : rows) {
+            countByUserId.merge(row.userId(), 1, Integer::sum);
+        }
+        return countByUserId;
+    }
+
+    private void insertAlerts(List<AlertRow> rows, Instant scheduledAt) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Timestamp scheduled = Timestamp.from(scheduledAt);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            con -> con.prepareStatement(INSERT_NOTIFICATION_SQL, Statement.RETURN_GENERATED_KEYS),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    AlertRow row = rows.get(i);
+                    ps.setInt(1, row.userId());
+                    ps.setInt(2, row.stockId());
+                    ps.setString(3, NotificationType.SCORE_SPIKE.name());
+                    ps.setInt(4, row.oldScore());
+                    ps.setInt(5, row.newScore());
+                    ps.setInt(6, row.delta());
+                    ps.setString(7, row.title());
+                    ps.setString(8, row.body());
+                    ps.setTimestamp(9, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            },
+            keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != rows.size()) {
+            throw new IllegalStateException("Generated notification ids mismatch - expected: " + rows.size()
+                + ", actual: " + keys.size());
+        }
+
+        List<String> payloads = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            AlertRow row = rows.get(i);
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("notificationId", ((Number) keys.get(i).values().iterator().next()).intValue());
+            payload.put("userId", row.userId());
+            payload.put("stockId", row.stockId());
+            payload.put("type", NotificationType.SCORE_SPIKE.name());
+            payload.put("scheduledAt", scheduledAt.toString());
+            payloads.add(writeJson(payload));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, payloads.get(i));
+                ps.setTimestamp(2, now);
+                ps.setTimestamp(3, scheduled);
+                ps.setTimestamp(4, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return payloads.size();
+            }
+        });
+    }
+
+    private String writeJson(Object o) {
+        try {
+            return objectMapper.writeValueAsString(o);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
     }
 
@@ -90,6 +249,8 @@ public class StockScoreAlertService {
 
     /**
      * 오전 9시에 실행되는 일일 점수 급변 알림 발송
+     * 유저별 점수 급변 이벤트는 대표 이벤트 1건만 READY_TO_SEND 로 바꾸고 나머지 알림 id 를 대표 이벤트의
+     * digestNotificationIds 에 담습니다. 발송 단계의 점유 배치 크기와 관계없이 유저당 푸시 1건이 됩니다.
      */
     @Transactional
     public void sendDailyScoreAlerts() {
@@ -101,9 +262,10 @@ public class StockScoreAlertService {
             return;
         }
 
-        Map<Integer, List<OutboxEvent>> scoreSpikeEventsByUser = new HashMap<>();
+        Map<Integer, List<PendingScoreSpike>> scoreSpikesByUser = new LinkedHashMap<>();
         int readyCount = 0;
         int suppressedCount = 0;
+        int mergedCount = 0;
 
         for (OutboxEvent event : pendingEvents) {
             Map<String, Object> payload = parsePayload(event.getPayload());
@@ -130,7 +292,8 @@ public class StockScoreAlertService {
                     continue;
                 }
 
-                scoreSpikeEventsByUser.computeIfAbsent(userId, key -> new ArrayList<>()).add(event);
+                scoreSpikesByUser.computeIfAbsent(userId, key -> new ArrayList<>())
+                    .add(new PendingScoreSpike(event, payload));
                 continue;
             }
 
@@ -138,45 +301,30 @@ public class StockScoreAlertService {
             readyCount++;
         }
 
-        for (Map.Entry<Integer, List<OutboxEvent>> entry : scoreSpikeEventsByUser.entrySet()) {
-            List<OutboxEvent> userEvents = entry.getValue();
-            if (userEvents.isEmpty()) {
-                continue;
-            }
-
-            OutboxEvent representative = userEvents.get(0);
-            representative.setStatus("READY_TO_SEND");
-            readyCount++;
+        for (List<PendingScoreSpike> userSpikes : scoreSpikesByUser.values()) {
+            PendingScoreSpike representative = userSpikes.get(0);
+            if (userSpikes.size() > 1) {
+                List<Integer> notificationIds = new ArrayList<>(userSpikes.size());
+                for (PendingScoreSpike spike : userSpikes) {
+                    Integer notificationId = toInteger(spike.payload().get("notificationId"));
+                    if (notificationId != null) {
+                        notificationIds.add(notificationId);
+                    }
+                }
+                representative.payload().put("digestNotificationIds", notificationIds);
+                representative.event().setPayload(writeJson(representative.payload()));
 
-            if (userEvents.size() > 1) {
-                updateRepresentativeMessage(representative, userEvents.size());
-                for (int i = 1; i < userEvents.size(); i++) {
-                    userEvents.get(i).setStatus("PROCESSED");
-                    suppressedCount++;
+                for (int i = 1; i < userSpikes.size(); i++) {
+                    userSpikes.get(i).event().setStatus("PROCESSED");
+                    mergedCount++;
                 }
             }
+            representative.event().setStatus("READY_TO_SEND");
+            readyCount++;
         }
 
-        log.info("Daily score alerts prepared: totalPending={}, readyToSend={}, suppressed={}",
-            pendingEvents.size(), readyCount, suppressedCount);
-    }
-
-    private void updateRepresentativeMessage(OutboxEvent representative, int totalCount) {
-        Map<String, Object> payload = parsePayload(representative.getPayload());
-        if (payload == null) {
-            return;
-        }
-
-        Integer notificationId = toInteger(payload.get("notificationId"));
-        if (notificationId == null) {
-            return;
-        }
-
-        notificationRepo.findById(notificationId).ifPresent(notification -> {
-            notification.setTitle("북마크 종목 점수 급변 알림");
-            notification.setBody("북마크한 종목 " + totalCount + "개의 점수가 크게 변했습니다.");
-            notificationRepo.save(notification);
-        });
+        log.info("Daily score alerts prepared: totalPending={}, readyToSend={}, mergedIntoDigest={}, suppressed={}",
+            pendingEvents.size(), readyCount, mergedCount, suppressedCount);
     }
 
     private boolean isNotificationStillEnabled(Integer userId, Integer stockId) {
@@ -190,7 +338,10 @@ public class StockScoreAlertService {
 
         Integer notificationId = payload != null ? toInteger(payload.get("notificationId")) : null;
         if (notificationId != null) {
-            notificationRepo.findById(notificationId).ifPresent(notificationRepo::delete);
+            notificationRepo.findById(notificationId).ifPresent(notification -> {
+                notificationRepo.delete(notification);
+                unreadCounter.evict(notification.getUser().getId());
+            });
         }
 
         log.info("Suppressed pending score alert event: eventId={}, reason={}", event.getId(), reason);
@@ -27,6 +27,14 @@ public interface PreferenceRepository extends JpaRepository<Preference, Preferen
     boolean existsByUserIdAndStockIdAndPreferenceTypeAndNotificationEnabled(
         Integer userId, Integer stockId, PreferenceType preferenceType, Boolean notificationEnabled);
 
+    /**
+     * 여러 종목을 북마크하고 알림을 켠 사용자 [userId, stockId, symbolName] (점수 급변 알림 일괄 생성용)
+     */
+    @Query("SELECT p.user.id, p.stock.id, p.stock.symbolName FROM Preference p "
+        + "WHERE p.stock.id IN :stockIds AND p.preferenceType = :preferenceType AND p.notificationEnabled = true")
+    List<Object[]> findNotificationEnabledUsersByStockIds(@Param("stockIds") List<Integer> stockIds,
+                                                          @Param("preferenceType") PreferenceType preferenceType);
+
     // 사용자의 모든 Preference 조회
     List<Preference> findByUserId(Integer userId);
 
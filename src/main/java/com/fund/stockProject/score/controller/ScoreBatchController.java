@@ -1,12 +1,17 @@
 package com.fund.stockProject.score.controller;
 
+import java.time.YearMonth;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fund.stockProject.score.service.ScoreBatchService;
+import com.fund.stockProject.score.service.ScoreHistoryService;
+import com.fund.stockProject.score.service.StockBatchQueryService;
 import com.fund.stockProject.stock.domain.COUNTRY;
 
 import lombok.RequiredArgsConstructor;
@@ -17,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 public class ScoreBatchController {
 
     private final ScoreBatchService scoreBatchService;
+    private final ScoreHistoryService scoreHistoryService;
+    private final StockBatchQueryService stockBatchQueryService;
 
     @PostMapping("/country/{country}")
     public ResponseEntity<String> triggerCountryBatch(@PathVariable COUNTRY country) {
@@ -24,6 +31,15 @@ public class ScoreBatchController {
         return ResponseEntity.ok("Batch for " + country + " started.");
     }
 
+    @PostMapping("/history/{country}")
+    public ResponseEntity<String> backfillScoreHistory(@PathVariable COUNTRY country,
+                                                       @RequestParam String from,
+                                                       @RequestParam String to) {
+        int saved = scoreHistoryService.backfill(stockBatchQueryService.getStockIdsByCountry(country), country,
+            YearMonth.parse(from), YearMonth.parse(to));
+        return ResponseEntity.ok("Score history backfill for " + country + " saved " + saved + " rows.");
+    }
+
     @PostMapping("/index")
     public ResponseEntity<String> triggerIndexBatch() {
         scoreBatchService.runIndexBatch();
@@ -0,0 +1,140 @@
+package com.fund.stockProject.score.entity;
+
+import com.fund.stockProject.global.entity.Core;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.YearMonth;
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종목별 월 단위 점수 시계열 (한 달 = 한 행)
+ *
+ * 일자별 점수/변동폭을 31바이트 고정 폭 바이너리로 보관하고, 월 합계/개수/최소/최대를 함께 유지합니다.
+ * 월 평균·최소·최대는 행 하나로, 기간 조회는 몇 개의 행으로 끝나므로 Score 엔티티를 일자별로 읽지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "score_monthly",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_score_monthly",
+        columnNames = {"stock_id", "score_month"}
+    )
+)
+public class ScoreMonthly extends Core {
+
+    private static final int DAYS = 31;
+    private static final int EMPTY_SCORE = 0xFF; // 점수 없음 (unsigned byte)
+    private static final byte EMPTY_DIFF = Byte.MIN_VALUE; // 변동폭 없음
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stock_id", nullable = false)
+    private Integer stockId;
+
+    @Column(name = "score_month", nullable = false)
+    private Integer scoreMonth; // yyyyMM
+
+    @Column(name = "daily_scores", nullable = false, columnDefinition = "BINARY(31)")
+    private byte[] dailyScores;
+
+    @Column(name = "daily_diffs", nullable = false, columnDefinition = "BINARY(31)")
+    private byte[] dailyDiffs;
+
+    @Column(nullable = false)
+    private Integer dataCount;
+
+    @Column(nullable = false)
+    private Integer scoreSum;
+
+    private Integer minScore;
+
+    private Integer maxScore;
+
+    public ScoreMonthly(Integer stockId, YearMonth month) {
+        this.stockId = stockId;
+        this.scoreMonth = toScoreMonth(month);
+        this.dailyScores = new byte[DAYS];
+        this.dailyDiffs = new byte[DAYS];
+        Arrays.fill(this.dailyScores, (byte) EMPTY_SCORE);
+        Arrays.fill(this.dailyDiffs, EMPTY_DIFF);
+        this.dataCount = 0;
+        this.scoreSum = 0;
+    }
+
+    public static int toScoreMonth(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public YearMonth getYearMonth() {
+        return YearMonth.of(scoreMonth / 100, scoreMonth % 100);
+    }
+
+    /**
+     * 일자 점수를 기록합니다. 9999(점수 없음) 등 범위 밖 값은 해당 일자를 비웁니다.
+     */
+    public void record(int dayOfMonth, int score, Integer diff) {
+        int index = dayOfMonth - 1;
+        if (score < 0 || score >= EMPTY_SCORE) {
+            dailyScores[index] = (byte) EMPTY_SCORE;
+            dailyDiffs[index] = EMPTY_DIFF;
+        } else {
+            dailyScores[index] = (byte) score;
+            dailyDiffs[index] = diff == null ? EMPTY_DIFF
+                : (byte) Math.max(Byte.MIN_VALUE + 1, Math.min(Byte.MAX_VALUE, diff));
+        }
+        recalculate();
+    }
+
+    /**
+     * 해당 일자 점수 (없으면 null)
+     */
+    public Integer getScore(int dayOfMonth) {
+        int value = dailyScores[dayOfMonth - 1] & 0xFF;
+        return value == EMPTY_SCORE ? null : value;
+    }
+
+    /**
+     * 해당 일자 변동폭 (없으면 null)
+     */
+    public Integer getDiff(int dayOfMonth) {
+        byte value = dailyDiffs[dayOfMonth - 1];
+        return value == EMPTY_DIFF ? null : (int) value;
+    }
+
+    public Double getAverageScore() {
+        return dataCount == 0 ? null : scoreSum / (double) dataCount;
+    }
+
+    private void recalculate() {
+        int count = 0;
+        int sum = 0;
+        Integer min = null;
+        Integer max = null;
+        for (byte raw : dailyScores) {
+            int value = raw & 0xFF;
+            if (value == EMPTY_SCORE) {
+                continue;
+            }
+            count++;
+            sum += value;
+            min = min == null ? value : Math.min(min, value);
+            max = max == null ? value : Math.max(max, value);
+        }
+        this.dataCount = count;
+        this.scoreSum = sum;
+        this.minScore = min;
+        this.maxScore = max;
+    }
+}
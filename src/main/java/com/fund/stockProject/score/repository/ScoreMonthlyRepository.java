@@ -0,0 +1,15 @@
+package com.fund.stockProject.score.repository;
+
+import com.fund.stockProject.score.entity.ScoreMonthly;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScoreMonthlyRepository extends JpaRepository<ScoreMonthly, Long> {
+
+    Optional<ScoreMonthly> findByStockIdAndScoreMonth(Integer stockId, Integer scoreMonth);
+
+    List<ScoreMonthly> findByStockIdAndScoreMonthBetweenOrderByScoreMonthAsc(Integer stockId, Integer fromMonth, Integer toMonth);
+}
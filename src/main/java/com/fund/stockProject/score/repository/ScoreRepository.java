@@ -13,8 +13,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.fund.stockProject.score.entity.Score;
 import com.fund.stockProject.score.entity.ScoreId;
-import com.fund.stockProject.stock.domain.DomesticSector;
-import com.fund.stockProject.stock.domain.OverseasSector;
 
 @Repository
 public interface ScoreRepository extends JpaRepository<Score, ScoreId> {
@@ -148,48 +146,6 @@ public interface ScoreRepository extends JpaRepository<Score, ScoreId> {
     """)
     List<Score> findLatestValidScoresByCountryOversea();
 
-    /**
-     * 특정 국내 섹터의 최신 유효 Score 데이터를 조회
-     */
-    @Query("""
-        SELECT s
-        FROM Score s
-        JOIN FETCH s.stock st
-        WHERE st.valid = true
-        AND st.domesticSector = :sector
-        AND s.scoreOversea = 9999
-        AND s.scoreKorea <> 9999
-        AND s.date = (
-            SELECT MAX(s2.date)
-            FROM Score s2
-            WHERE s2.stockId = s.stockId
-            AND s2.scoreOversea = 9999
-            AND s2.scoreKorea <> 9999
-        )
-    """)
-    List<Score> findLatestValidScoresByDomesticSector(@Param("sector") DomesticSector sector);
-
-    /**
-     * 특정 해외 섹터의 최신 유효 Score 데이터를 조회
-     */
-    @Query("""
-        SELECT s
-        FROM Score s
-        JOIN FETCH s.stock st
-        WHERE st.valid = true
-        AND st.overseasSector = :sector
-        AND s.scoreKorea = 9999
-        AND s.scoreOversea <> 9999
-        AND s.date = (
-            SELECT MAX(s2.date)
-            FROM Score s2
-            WHERE s2.stockId = s.stockId
-            AND s2.scoreKorea = 9999
-            AND s2.scoreOversea <> 9999
-        )
-    """)
-    List<Score> findLatestValidScoresByOverseasSector(@Param("sector") OverseasSector sector);
-
     Optional<Score> findTopByStockIdAndScoreOverseaAndScoreKoreaNotOrderByDateDesc(Integer stockId, Integer scoreOversea, Integer scoreKorea);
 
     Optional<Score> findTopByStockIdAndScoreKoreaAndScoreOverseaNotOrderByDateDesc(Integer stockId, Integer scoreKorea, Integer scoreOversea);
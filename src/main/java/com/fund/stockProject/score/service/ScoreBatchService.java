@@ -5,8 +5,10 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.fund.stockProject.notification.service.StockScoreAlertService;
 import com.fund.stockProject.score.repository.ScoreRepository;
 import com.fund.stockProject.stock.domain.COUNTRY;
+import com.fund.stockProject.stock.service.StockRelevanceIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,8 @@ public class ScoreBatchService {
     private final ScoreService scoreService;
     private final ScoreRepository scoreRepository;
     private final StockBatchQueryService stockBatchQueryService;
+    private final StockScoreAlertService stockScoreAlertService;
+    private final StockRelevanceIndex stockRelevanceIndex;
 
     public void runCountryBatch(COUNTRY country) {
         LocalDate today = LocalDate.now();
@@ -34,25 +38,41 @@ public class ScoreBatchService {
         int noDataSkipCount = 0;
         int errorCount = 0;
 
-        for (Integer stockId : targetStockIds) {
-            if (scoreRepository.existsByStockIdAndDate(stockId, today)) {
-                skippedCount++;
-                existsSkipCount++;
-                continue;
+        try {
+            for (Integer stockId : targetStockIds) {
+                if (scoreRepository.existsByStockIdAndDate(stockId, today)) {
+                    skippedCount++;
+                    existsSkipCount++;
+                    continue;
+                }
+
+                processedCount++;
+                try {
+                    int yesterdayScore = resolveYesterdayScore(stockId, country, yesterday, today);
+                    scoreService.updateScoreAndKeyword(stockId, country, yesterdayScore);
+                    successCount++;
+                } catch (NoCrawlerDataException e) {
+                    skippedCount++;
+                    noDataSkipCount++;
+                    log.info("Skipping score update due to no crawler data - stockId: {}, country: {}", stockId, country);
+                } catch (Exception e) {
+                    errorCount++;
+                    log.error("Error processing score for stockId: {}", stockId, e);
+                }
+            }
+        } finally {
+            // 배치 동안 모인 점수 급변 알림을 한 번에 생성
+            try {
+                stockScoreAlertService.flushScoreAlerts();
+            } catch (Exception e) {
+                log.error("Failed to create score alerts for {}", country, e);
             }
 
-            processedCount++;
+            // 스케줄러/관리자 실행 모두 관련 종목 인덱스를 새 점수로 갱신
             try {
-                int yesterdayScore = resolveYesterdayScore(stockId, country, yesterday, today);
-                scoreService.updateScoreAndKeyword(stockId, country, yesterdayScore);
-                successCount++;
-            } catch (NoCrawlerDataException e) {
-                skippedCount++;
-                noDataSkipCount++;
-                log.info("Skipping score update due to no crawler data - stockId: {}, country: {}", stockId, country);
+                stockRelevanceIndex.rebuild(country);
             } catch (Exception e) {
-                errorCount++;
-                log.error("Error processing score for stockId: {}", stockId, e);
+                log.error("Failed to rebuild stock relevance index for {}", country, e);
             }
         }
 
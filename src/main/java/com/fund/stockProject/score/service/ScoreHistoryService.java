@@ -0,0 +1,162 @@
+package com.fund.stockProject.score.service;
+
+import com.fund.stockProject.score.entity.Score;
+import com.fund.stockProject.score.entity.ScoreMonthly;
+import com.fund.stockProject.score.repository.ScoreMonthlyRepository;
+import com.fund.stockProject.score.repository.ScoreRepository;
+import com.fund.stockProject.stock.domain.COUNTRY;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 종목 점수 시계열 조회/기록 (score_monthly)
+ *
+ * 점수 배치가 점수를 저장할 때 해당 월 행을 갱신합니다. 월 행이 처음 만들어질 때는
+ * 그 달의 기존 Score 행으로 한 번 채웁니다. 저장소 도입 이전의 월은 조회 시 Score 행으로
+ * 메모리에서 만들어 응답하며, {@link #backfill}로 미리 적재할 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoreHistoryService {
+
+    private static final int MAX_RANGE_MONTHS = 36; // 한 번에 조회 가능한 최대 개월 수
+
+    private final ScoreMonthlyRepository scoreMonthlyRepository;
+    private final ScoreRepository scoreRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 점수 저장 직후 호출합니다. (호출 측 트랜잭션에 참여)
+     */
+    @Transactional
+    public void record(Integer stockId, COUNTRY country, LocalDate date, int score, int diff) {
+        YearMonth month = YearMonth.from(date);
+        ScoreMonthly monthly = scoreMonthlyRepository
+            .findByStockIdAndScoreMonth(stockId, ScoreMonthly.toScoreMonth(month))
+            .orElseGet(() -> buildFromScores(stockId, country, month, month).get(month));
+        monthly.record(date.getDayOfMonth(), score, diff);
+        scoreMonthlyRepository.save(monthly);
+    }
+
+    /**
+     * 한 달의 시계열 (평균/최소/최대 포함)
+     */
+    @Transactional(readOnly = true)
+    public ScoreMonthly getMonth(Integer stockId, COUNTRY country, YearMonth month) {
+        return getMonths(stockId, country, month, month).get(0);
+    }
+
+    /**
+     * 기간 내 월별 시계열을 월 오름차순으로 반환합니다. (데이터가 없는 월은 빈 행)
+     */
+    @Transactional(readOnly = true)
+    public List<ScoreMonthly> getMonths(Integer stockId, COUNTRY country, YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        // 양 끝 월을 모두 포함하므로 from 부터 MAX_RANGE_MONTHS - 1 개월 뒤까지 허용
+        if (from.plusMonths(MAX_RANGE_MONTHS - 1).isBefore(to)) {
+            throw new IllegalArgumentException("range must not exceed " + MAX_RANGE_MONTHS + " months");
+        }
+
+        Map<Integer, ScoreMonthly> stored = new HashMap<>();
+        for (ScoreMonthly monthly : scoreMonthlyRepository.findByStockIdAndScoreMonthBetweenOrderByScoreMonthAsc(
+            stockId, ScoreMonthly.toScoreMonth(from), ScoreMonthly.toScoreMonth(to))) {
+            stored.put(monthly.getScoreMonth(), monthly);
+        }
+
+        YearMonth firstMissing = null;
+        YearMonth lastMissing = null;
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (!stored.containsKey(ScoreMonthly.toScoreMonth(month))) {
+                firstMissing = firstMissing == null ? month : firstMissing;
+                lastMissing = month;
+            }
+        }
+        Map<YearMonth, ScoreMonthly> built = firstMissing == null
+            ? Map.of()
+            : buildFromScores(stockId, country, firstMissing, lastMissing);
+
+        List<ScoreMonthly> result = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            ScoreMonthly monthly = stored.get(ScoreMonthly.toScoreMonth(month));
+            result.add(monthly != null ? monthly : built.get(month));
+        }
+        return result;
+    }
+
+    /**
+     * 기간 내 일자별 점수 (점수가 있는 날만, 날짜 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<DailyScore> getDailyScores(Integer stockId, COUNTRY country, LocalDate startDate, LocalDate endDate) {
+        List<DailyScore> result = new ArrayList<>();
+        for (ScoreMonthly monthly : getMonths(stockId, country, YearMonth.from(startDate), YearMonth.from(endDate))) {
+            YearMonth month = monthly.getYearMonth();
+            for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                LocalDate date = month.atDay(day);
+                Integer score = monthly.getScore(day);
+                if (score == null || date.isBefore(startDate) || date.isAfter(endDate)) {
+                    continue;
+                }
+                result.add(new DailyScore(date, score, monthly.getDiff(day)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 저장소 도입 이전 월을 Score 행으로 적재합니다. 이미 있는 월은 건너뜁니다. (종목 단위 트랜잭션)
+     */
+    public int backfill(List<Integer> stockIds, COUNTRY country, YearMonth from, YearMonth to) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int saved = 0;
+        for (Integer stockId : stockIds) {
+            Integer count = transactionTemplate.execute(status -> {
+                Map<YearMonth, ScoreMonthly> built = buildFromScores(stockId, country, from, to);
+                int savedMonths = 0;
+                for (ScoreMonthly monthly : built.values()) {
+                    if (monthly.getDataCount() == 0 || scoreMonthlyRepository
+                        .findByStockIdAndScoreMonth(stockId, monthly.getScoreMonth()).isPresent()) {
+                        continue;
+                    }
+                    scoreMonthlyRepository.save(monthly);
+                    savedMonths++;
+                }
+                return savedMonths;
+            });
+            saved += count == null ? 0 : count;
+        }
+        log.info("Score history backfill finished: country={}, stocks={}, months={}~{}, savedRows={}",
+            country, stockIds.size(), from, to, saved);
+        return saved;
+    }
+
+    private Map<YearMonth, ScoreMonthly> buildFromScores(Integer stockId, COUNTRY country, YearMonth from, YearMonth to) {
+        Map<YearMonth, ScoreMonthly> result = new HashMap<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            result.put(month, new ScoreMonthly(stockId, month));
+        }
+
+        List<Score> scores = scoreRepository.findByStockIdAndDateBetween(stockId, from.atDay(1), to.atEndOfMonth());
+        for (Score score : scores) {
+            int value = country == COUNTRY.KOREA ? score.getScoreKorea() : score.getScoreOversea();
+            result.get(YearMonth.from(score.getDate())).record(score.getDate().getDayOfMonth(), value, score.getDiff());
+        }
+        return result;
+    }
+
+    public record DailyScore(LocalDate date, int score, Integer diff) {
+    }
+}
@@ -1,14 +1,17 @@
 package com.fund.stockProject.score.service;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fund.stockProject.keyword.dto.KeywordDto;
 import com.fund.stockProject.keyword.entity.Keyword;
 import com.fund.stockProject.keyword.entity.StockKeyword;
 import com.fund.stockProject.keyword.repository.KeywordRepository;
 import com.fund.stockProject.keyword.repository.StockKeywordRepository;
+import com.fund.stockProject.keyword.service.StockKeywordCache;
 import com.fund.stockProject.notification.service.StockScoreAlertService;
 import com.fund.stockProject.score.dto.response.ScoreKeywordResponse;
 import com.fund.stockProject.score.entity.Score;
@@ -16,6 +19,7 @@ import com.fund.stockProject.score.repository.ScoreRepository;
 import com.fund.stockProject.stock.domain.COUNTRY;
 import com.fund.stockProject.stock.entity.Stock;
 import com.fund.stockProject.stock.repository.StockRepository;
+import com.fund.stockProject.stock.service.SectorScoreAggregator;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +32,9 @@ public class ScorePersistenceService {
     private final KeywordRepository keywordRepository;
     private final StockKeywordRepository stockKeywordRepository;
     private final StockScoreAlertService stockScoreAlertService;
+    private final StockKeywordCache stockKeywordCache;
+    private final SectorScoreAggregator sectorScoreAggregator;
+    private final ScoreHistoryService scoreHistoryService;
 
     @Transactional
     public void saveScoreAndKeyword(Integer stockId, COUNTRY country, int yesterdayScore,
@@ -49,8 +56,12 @@ public class ScorePersistenceService {
 
         newScore.setStock(stock);
         scoreRepository.save(newScore);
+        scoreHistoryService.record(stock.getId(), country, newScore.getDate(), finalScore, newScore.getDiff());
 
-        // 점수 급변 알림 트리거 (절대 변화량 기준은 StockScoreAlertService 에서 판단)
+        // 섹터 합계/개수 집계 갱신 (배치 종료 시 스냅샷은 이 집계를 그대로 저장)
+        sectorScoreAggregator.onScoreSaved(stock, country, finalScore);
+
+        // 점수 급변 기록 (절대 변화량 기준은 StockScoreAlertService 에서 판단, 알림은 배치 종료 시 일괄 생성)
         stockScoreAlertService.onScoreChanged(stock.getId(), yesterdayScore, finalScore);
 
         stockKeywordRepository.deleteByStock(stock);
@@ -68,5 +79,11 @@ public class ScorePersistenceService {
                 .build();
             stockKeywordRepository.save(stockKeyword);
         });
+
+        // 조회 API가 DB 조회 없이 읽을 수 있도록 종목별 상위 키워드 캐시 갱신
+        stockKeywordCache.put(stock.getId(), scoreKeywordResponse.getTopKeywords().stream()
+            .sorted(Comparator.comparingInt(KeywordDto::getFreq).reversed())
+            .map(KeywordDto::getWord)
+            .toList());
     }
 }
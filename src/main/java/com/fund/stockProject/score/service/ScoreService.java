@@ -43,6 +43,7 @@ public class ScoreService {
     private final StockRepository stockRepository;
     private final StockKeywordRepository stockKeywordRepository;
     private final ScorePersistenceService scorePersistenceService;
+    private final ScoreHistoryService scoreHistoryService;
     private final ExecutorService pythonExecutorService;
     private final Semaphore pythonProcessSemaphore;
 
@@ -290,6 +291,8 @@ public class ScoreService {
                     .build();
                 newScore.setStock(stock);
                 scoreRepository.save(newScore);
+                // 지수는 국내/해외 점수가 같으므로 국내 기준으로 시계열 기록
+                scoreHistoryService.record(stock.getId(), COUNTRY.KOREA, newScore.getDate(), finalScore, newScore.getDiff());
             }
 
         } catch (Exception e) {
@@ -4,7 +4,8 @@ import com.fund.stockProject.preference.domain.PreferenceType;
 import com.fund.stockProject.preference.repository.PreferenceRepository;
 import com.fund.stockProject.score.entity.Score;
 import com.fund.stockProject.score.repository.ScoreRepository;
-import com.fund.stockProject.keyword.repository.KeywordRepository;
+import com.fund.stockProject.keyword.service.StockKeywordCache;
+import com.fund.stockProject.keyword.service.StockKeywordCache.KeywordFilter;
 import com.fund.stockProject.stock.domain.EXCHANGENUM;
 import com.fund.stockProject.stock.domain.DomesticSector;
 import com.fund.stockProject.stock.domain.OverseasSector;
@@ -47,7 +48,7 @@ public class ShortViewService {
     private final SecurityService securityService;
     private final PreferenceRepository preferenceRepository;
     private final ScoreRepository scoreRepository;
-    private final KeywordRepository keywordRepository;
+    private final StockKeywordCache stockKeywordCache;
     
     // 사용자별 최근 본 추천 종목 ID 저장 (메모리 캐시)
     // userId -> Set<stockId> (최근 50개까지 저장)
@@ -428,31 +429,7 @@ public class ShortViewService {
             return Collections.emptyMap();
         }
 
-        List<com.fund.stockProject.keyword.entity.StockKeyword> stockKeywords =
-                keywordRepository.findKeywordsByStockIds(stockIds);
-
-        Map<Integer, List<String>> keywordsByStockId = new HashMap<>();
-        Map<Integer, Set<String>> seenByStockId = new HashMap<>();
-
-        for (com.fund.stockProject.keyword.entity.StockKeyword stockKeyword : stockKeywords) {
-            Integer stockId = stockKeyword.getStock().getId();
-            List<String> keywords = keywordsByStockId.computeIfAbsent(stockId, key -> new ArrayList<>());
-            if (keywords.size() >= limit) {
-                continue;
-            }
-
-            String keywordName = stockKeyword.getKeyword().getName();
-            if (keywordName == null || keywordName.isBlank()) {
-                continue;
-            }
-
-            Set<String> seen = seenByStockId.computeIfAbsent(stockId, key -> new HashSet<>());
-            if (seen.add(keywordName)) {
-                keywords.add(keywordName);
-            }
-        }
-
-        return keywordsByStockId;
+        return stockKeywordCache.getTopKeywords(stockIds, limit, KeywordFilter.NONE);
     }
     
     /**
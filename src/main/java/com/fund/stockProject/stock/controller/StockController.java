@@ -103,6 +103,16 @@ public class StockController {
         return ResponseEntity.ok().body(stockService.getMonthlyAverageScore(id, yearMonth));
     }
 
+    @GetMapping("/{id}/score/history")
+    @Operation(summary = "인간지표 점수 이력", description = "기간 내 일자별 인간지표 점수와 주/월 단위 평균·최소·최대를 반환합니다. 미지정 시 최근 30일.")
+    ResponseEntity<StockScoreHistoryResponse> getScoreHistory(
+        final @PathVariable("id") Integer id,
+        final @RequestParam(required = false) LocalDate startDate,
+        final @RequestParam(required = false) LocalDate endDate
+    ) {
+        return ResponseEntity.ok().body(stockService.getScoreHistory(id, startDate, endDate));
+    }
+
     @GetMapping("/category/{category}/{country}")
     @Operation(summary = "종목 차트별 인간지표 api", description = "종목 차트별 인간지표 api")
     ResponseEntity<Mono<List<StockCategoryResponse>>> getCategoryStocks(final @PathVariable("category") CATEGORY category, final @PathVariable("country") COUNTRY country) {
@@ -0,0 +1,75 @@
+package com.fund.stockProject.stock.dto.response;
+
+import com.fund.stockProject.stock.domain.COUNTRY;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class StockScoreHistoryResponse {
+
+    private final Integer stockId;
+    private final String symbolName;
+    private final COUNTRY country;
+    private final String startDate; // yyyy-MM-dd
+    private final String endDate; // yyyy-MM-dd
+    private final Integer dataCount;
+    private final Double averageScore;
+    private final Integer minScore;
+    private final Integer maxScore;
+    private final List<DailyScore> dailyScores;
+    private final List<PeriodScore> weeklyScores;
+    private final List<PeriodScore> monthlyScores;
+
+    @Builder
+    public StockScoreHistoryResponse(Integer stockId, String symbolName, COUNTRY country, String startDate,
+                                     String endDate, Integer dataCount, Double averageScore, Integer minScore,
+                                     Integer maxScore, List<DailyScore> dailyScores, List<PeriodScore> weeklyScores,
+                                     List<PeriodScore> monthlyScores) {
+        this.stockId = stockId;
+        this.symbolName = symbolName;
+        this.country = country;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.dataCount = dataCount;
+        this.averageScore = averageScore;
+        this.minScore = minScore;
+        this.maxScore = maxScore;
+        this.dailyScores = dailyScores;
+        this.weeklyScores = weeklyScores;
+        this.monthlyScores = monthlyScores;
+    }
+
+    @Getter
+    public static class DailyScore {
+        private final String date; // yyyy-MM-dd
+        private final Integer score;
+        private final Integer diff;
+
+        @Builder
+        public DailyScore(String date, Integer score, Integer diff) {
+            this.date = date;
+            this.score = score;
+            this.diff = diff;
+        }
+    }
+
+    @Getter
+    public static class PeriodScore {
+        private final String periodStart; // yyyy-MM-dd (주: 월요일, 월: 1일, 조회 기간으로 잘림)
+        private final Integer dataCount;
+        private final Double averageScore;
+        private final Integer minScore;
+        private final Integer maxScore;
+
+        @Builder
+        public PeriodScore(String periodStart, Integer dataCount, Double averageScore,
+                           Integer minScore, Integer maxScore) {
+            this.periodStart = periodStart;
+            this.dataCount = dataCount;
+            this.averageScore = averageScore;
+            this.minScore = minScore;
+            this.maxScore = maxScore;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.fund.stockProject.stock.repository;
 import com.fund.stockProject.stock.domain.COUNTRY;
 import com.fund.stockProject.stock.entity.SectorScoreSnapshot;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,6 +17,9 @@ public interface SectorScoreSnapshotRepository extends JpaRepository<SectorScore
     @Query("SELECT MAX(s.date) FROM SectorScoreSnapshot s WHERE s.country = :country")
     Optional<LocalDate> findLatestDateByCountry(@Param("country") COUNTRY country);
 
+    @Query("SELECT MAX(s.modifiedAt) FROM SectorScoreSnapshot s WHERE s.country = :country")
+    Optional<LocalDateTime> findLatestModifiedAtByCountry(@Param("country") COUNTRY country);
+
     List<SectorScoreSnapshot> findByCountryAndDate(COUNTRY country, LocalDate date);
 
     Optional<SectorScoreSnapshot> findByCountryAndDateAndSector(COUNTRY country, LocalDate date, String sector);
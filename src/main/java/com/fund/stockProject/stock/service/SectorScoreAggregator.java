@@ -0,0 +1,160 @@
+package com.fund.stockProject.stock.service;
+
+import com.fund.stockProject.score.entity.Score;
+import com.fund.stockProject.score.repository.ScoreRepository;
+import com.fund.stockProject.stock.domain.COUNTRY;
+import com.fund.stockProject.stock.domain.DomesticSector;
+import com.fund.stockProject.stock.domain.OverseasSector;
+import com.fund.stockProject.stock.entity.Stock;
+import com.fund.stockProject.stock.service.SectorScoreDistribution.Histogram;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 섹터별 점수 집계를 점수 배치가 점수를 저장할 때마다 갱신합니다.
+ *
+ * 종목별 최신 유효 점수와 섹터별 히스토그램(합계/개수 포함)을 유지하므로
+ * 배치 종료 시 스냅샷 저장에 전체 최신 점수 조회가 필요 없습니다.
+ * 인스턴스가 처음 뜬 경우나 종목 마스터가 바뀐 경우에만 DB에서 한 번 다시 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SectorScoreAggregator {
+
+    private final ScoreRepository scoreRepository;
+
+    private final Map<COUNTRY, CountryAggregate> aggregates = new ConcurrentHashMap<>();
+
+    /**
+     * 점수가 저장된 직후 호출합니다. valid=false 이거나 섹터가 없는 종목은 무시합니다.
+     * 트랜잭션 안이면 커밋 후에 반영합니다. (점수 저장이 롤백되면 집계도 바꾸지 않음)
+     */
+    public void onScoreSaved(Stock stock, COUNTRY country, int score) {
+        if (score == 9999 || !Boolean.TRUE.equals(stock.getValid())) {
+            return;
+        }
+        Enum<?> sector = resolveSector(stock, country);
+        if (sector == null) {
+            return;
+        }
+
+        Integer stockId = stock.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    getOrSeed(country).put(stockId, sector, score);
+                }
+            });
+        } else {
+            getOrSeed(country).put(stockId, sector, score);
+        }
+    }
+
+    /**
+     * 현재 집계의 복사본을 반환합니다.
+     */
+    public Snapshot snapshot(COUNTRY country) {
+        return getOrSeed(country).snapshot();
+    }
+
+    /**
+     * 종목 마스터(valid, 섹터)가 바뀌었을 때 다음 사용 시 DB에서 다시 채우도록 초기화합니다.
+     */
+    public void reset() {
+        aggregates.clear();
+    }
+
+    /**
+     * 다른 인스턴스에서 점수 배치가 실행된 경우 다음 사용 시 해당 국가만 DB에서 다시 채우도록 초기화합니다.
+     */
+    public void reset(COUNTRY country) {
+        aggregates.remove(country);
+    }
+
+    private CountryAggregate getOrSeed(COUNTRY country) {
+        return aggregates.computeIfAbsent(country, this::seed);
+    }
+
+    private CountryAggregate seed(COUNTRY country) {
+        List<Score> scores = country == COUNTRY.KOREA
+            ? scoreRepository.findLatestValidScoresByCountryKorea()
+            : scoreRepository.findLatestValidScoresByCountryOversea();
+
+        CountryAggregate aggregate = new CountryAggregate();
+        for (Score score : scores) {
+            Stock stock = score.getStock();
+            if (stock == null) {
+                continue;
+            }
+            Enum<?> sector = resolveSector(stock, country);
+            if (sector == null) {
+                continue;
+            }
+            int value = country == COUNTRY.KOREA ? score.getScoreKorea() : score.getScoreOversea();
+            aggregate.put(stock.getId(), sector, value);
+        }
+
+        log.info("Sector score aggregate seeded: country={}, stocks={}", country, scores.size());
+        return aggregate;
+    }
+
+    private Enum<?> resolveSector(Stock stock, COUNTRY country) {
+        if (country == COUNTRY.KOREA) {
+            DomesticSector sector = stock.getDomesticSector();
+            return sector == null || sector == DomesticSector.UNKNOWN ? null : sector;
+        }
+        OverseasSector sector = stock.getOverseasSector();
+        return sector == null || sector == OverseasSector.UNKNOWN ? null : sector;
+    }
+
+    /**
+     * 집계 복사본
+     *
+     * @param histogramsBySector 섹터 키 -> 히스토그램 (섹터 enum 순서)
+     * @param scoreByStockId 종목 ID -> 최신 유효 점수
+     */
+    public record Snapshot(Map<String, Histogram> histogramsBySector, Map<Integer, Integer> scoreByStockId) {
+    }
+
+    private static class CountryAggregate {
+        private final Map<Integer, StockScore> scoreByStockId = new HashMap<>();
+        private final Map<Enum<?>, Histogram> histogramsBySector =
+            new TreeMap<>(Comparator.comparingInt(Enum::ordinal));
+
+        synchronized void put(Integer stockId, Enum<?> sector, int score) {
+            StockScore previous = scoreByStockId.put(stockId, new StockScore(sector, score));
+            if (previous != null) {
+                histogramsBySector.get(previous.sector).remove(previous.score);
+            }
+            histogramsBySector.computeIfAbsent(sector, key -> new Histogram()).add(score);
+        }
+
+        synchronized Snapshot snapshot() {
+            Map<String, Histogram> histograms = new LinkedHashMap<>();
+            histogramsBySector.forEach((sector, histogram) -> {
+                if (histogram.getCount() > 0) {
+                    histograms.put(sector.name(), histogram.copy());
+                }
+            });
+
+            Map<Integer, Integer> scores = new HashMap<>();
+            scoreByStockId.forEach((stockId, stockScore) -> scores.put(stockId, stockScore.score));
+            return new Snapshot(histograms, scores);
+        }
+    }
+
+    private record StockScore(Enum<?> sector, int score) {
+    }
+}
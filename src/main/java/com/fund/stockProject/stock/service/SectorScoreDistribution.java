@@ -0,0 +1,189 @@
+package com.fund.stockProject.stock.service;
+
+import com.fund.stockProject.stock.domain.COUNTRY;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 섹터별 최신 유효 점수 분포 (인메모리)
+ *
+ * 점수는 0~100 범위이므로 섹터마다 고정 크기 히스토그램의 누적합(점수 이상 개수)을 보관합니다.
+ * 섹터 내 순위/상위 퍼센트는 배열 조회 한 번, 섹터 평균은 합계/개수로 바로 계산합니다.
+ * SectorScoreSnapshotService.saveDailySnapshot 실행 시 국가 단위로 교체되며,
+ * 교체 시점의 스냅샷 버전(수정 시각)을 함께 보관해 다른 인스턴스에서 저장된 스냅샷과 비교합니다.
+ */
+@Component
+public class SectorScoreDistribution {
+
+    static final int MIN_SCORE = 0;
+    static final int MAX_SCORE = 100;
+
+    private final Map<COUNTRY, CountryDistribution> distributions = new ConcurrentHashMap<>();
+
+    public boolean isLoaded(COUNTRY country) {
+        return distributions.containsKey(country);
+    }
+
+    /**
+     * 국가의 분포를 통째로 교체합니다.
+     *
+     * @param country 국가
+     * @param version 분포의 기준이 된 스냅샷 수정 시각 (스냅샷이 없으면 null)
+     * @param histogramsBySector 섹터 키 -> 히스토그램 (섹터 순서 유지)
+     * @param scoreByStockId 종목 ID -> 최신 유효 점수
+     */
+    public void replace(COUNTRY country, LocalDateTime version,
+                        Map<String, Histogram> histogramsBySector, Map<Integer, Integer> scoreByStockId) {
+        Map<String, SectorStats> statsBySector = new LinkedHashMap<>();
+        histogramsBySector.forEach((sectorKey, histogram) -> statsBySector.put(sectorKey, histogram.toStats()));
+        distributions.put(country, new CountryDistribution(
+            version, Collections.unmodifiableMap(statsBySector), Map.copyOf(scoreByStockId)));
+    }
+
+    /**
+     * 현재 분포의 스냅샷 버전. 로드되지 않았거나 스냅샷 없이 로드됐으면 빈 Optional.
+     */
+    public Optional<LocalDateTime> getVersion(COUNTRY country) {
+        CountryDistribution distribution = distributions.get(country);
+        return distribution == null ? Optional.empty() : Optional.ofNullable(distribution.version);
+    }
+
+    /**
+     * 섹터 키 순서대로 섹터 통계를 반환합니다. 로드되지 않았으면 빈 Optional.
+     */
+    public Optional<Map<String, SectorStats>> getAllSectorStats(COUNTRY country) {
+        CountryDistribution distribution = distributions.get(country);
+        return distribution == null ? Optional.empty() : Optional.of(distribution.statsBySector);
+    }
+
+    public Optional<SectorStats> getSectorStats(COUNTRY country, String sectorKey) {
+        CountryDistribution distribution = distributions.get(country);
+        if (distribution == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(distribution.statsBySector.get(sectorKey));
+    }
+
+    public Optional<Integer> getScore(COUNTRY country, Integer stockId) {
+        CountryDistribution distribution = distributions.get(country);
+        if (distribution == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(distribution.scoreByStockId.get(stockId));
+    }
+
+    private record CountryDistribution(LocalDateTime version, Map<String, SectorStats> statsBySector,
+                                       Map<Integer, Integer> scoreByStockId) {
+    }
+
+    private static int clamp(int score) {
+        return Math.max(MIN_SCORE, Math.min(MAX_SCORE, score));
+    }
+
+    /**
+     * 점수 누적용 히스토그램 (단일 스레드에서 채운 뒤 SectorStats로 고정)
+     */
+    public static class Histogram {
+        private final int[] counts = new int[MAX_SCORE + 1];
+        private long sum;
+        private int count;
+
+        public void add(int score) {
+            counts[clamp(score)]++;
+            sum += score;
+            count++;
+        }
+
+        public void remove(int score) {
+            int index = clamp(score);
+            if (counts[index] == 0) {
+                return;
+            }
+            counts[index]--;
+            sum -= score;
+            count--;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public Histogram copy() {
+            Histogram copy = new Histogram();
+            System.arraycopy(counts, 0, copy.counts, 0, counts.length);
+            copy.sum = sum;
+            copy.count = count;
+            return copy;
+        }
+
+        SectorStats toStats() {
+            // atLeast[s] = 점수가 s 이상인 종목 수
+            int[] atLeast = new int[MAX_SCORE + 2];
+            for (int score = MAX_SCORE; score >= MIN_SCORE; score--) {
+                atLeast[score] = atLeast[score + 1] + counts[score];
+            }
+            return new SectorStats(atLeast, sum, count);
+        }
+    }
+
+    /**
+     * 고정된 섹터 점수 분포
+     */
+    public static class SectorStats {
+        private final int[] atLeast;
+        private final long sum;
+        private final int total;
+
+        private SectorStats(int[] atLeast, long sum, int total) {
+            this.atLeast = atLeast;
+            this.sum = sum;
+            this.total = total;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * 섹터 평균 (반올림)
+         */
+        public int getAverage() {
+            return total == 0 ? 0 : (int) Math.round(sum / (double) total);
+        }
+
+        public int countHigher(int score) {
+            return atLeast[clamp(score) + 1];
+        }
+
+        public int countEqual(int score) {
+            int index = clamp(score);
+            return atLeast[index] - atLeast[index + 1];
+        }
+
+        /**
+         * 섹터 내 순위 (자신보다 높은 점수 개수 + 1)
+         */
+        public int rank(int score) {
+            return countHigher(score) + 1;
+        }
+
+        /**
+         * 상위 퍼센트 (자신 이상 점수 비율, 반올림)
+         */
+        public int topPercent(int score) {
+            if (total == 0) {
+                return 0;
+            }
+            return (int) Math.round((countHigher(score) + countEqual(score)) * 100.0 / total);
+        }
+    }
+}
@@ -1,31 +1,60 @@
 package com.fund.stockProject.stock.service;
 
-import com.fund.stockProject.score.entity.Score;
-import com.fund.stockProject.score.repository.ScoreRepository;
 import com.fund.stockProject.stock.domain.COUNTRY;
 import com.fund.stockProject.stock.domain.DomesticSector;
 import com.fund.stockProject.stock.domain.OverseasSector;
 import com.fund.stockProject.stock.dto.response.SectorAverageResponse;
-import com.fund.stockProject.stock.entity.SectorScoreSnapshot;
-import com.fund.stockProject.stock.entity.Stock;
 import com.fund.stockProject.stock.repository.SectorScoreSnapshotRepository;
+import com.fund.stockProject.stock.service.SectorScoreDistribution.Histogram;
+import com.fund.stockProject.stock.service.SectorScoreDistribution.SectorStats;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import java.time.LocalDate;
-import java.util.EnumMap;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SectorScoreSnapshotService {
 
-    private final ScoreRepository scoreRepository;
+    // 인메모리 분포가 DB 스냅샷보다 오래됐는지 확인하는 주기
+    private static final long FRESHNESS_CHECK_INTERVAL_MS = 10 * 60 * 1000L;
+
     private final SectorScoreSnapshotRepository snapshotRepository;
+    private final SectorScoreDistribution sectorScoreDistribution;
+    private final SectorScoreAggregator sectorScoreAggregator;
+
+    private final Map<COUNTRY, Long> checkedAtByCountry = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public List<SectorAverageResponse> getLatestSectorAverages(COUNTRY country) {
+        // 최신 분포가 메모리에 있으면 DB 조회 없이 응답
+        Optional<Map<String, SectorStats>> inMemory = refreshIfLoaded(country)
+            ? sectorScoreDistribution.getAllSectorStats(country)
+            : Optional.empty();
+        if (inMemory.isPresent()) {
+            return inMemory.get().entrySet().stream()
+                .map(entry -> SectorAverageResponse.builder()
+                    .sector(entry.getKey())
+                    .sectorName(resolveSectorNameByKey(country, entry.getKey()))
+                    .averageScore(entry.getValue().getAverage())
+                    .count(entry.getValue().getTotal())
+                    .build())
+                .toList();
+        }
+
         return snapshotRepository.findLatestDateByCountry(country)
             .map(date -> snapshotRepository.findByCountryAndDate(country, date).stream()
                 .map(snapshot -> SectorAverageResponse.builder()
@@ -49,6 +78,22 @@ public class SectorScoreSnapshotService {
         }
 
         String sectorName = resolveSectorNameByKey(country, normalizedSector);
+        if (refreshIfLoaded(country)) {
+            return sectorScoreDistribution.getSectorStats(country, normalizedSector)
+                .map(stats -> SectorAverageResponse.builder()
+                    .sector(normalizedSector)
+                    .sectorName(sectorName)
+                    .averageScore(stats.getAverage())
+                    .count(stats.getTotal())
+                    .build())
+                .orElseGet(() -> SectorAverageResponse.builder()
+                    .sector(normalizedSector)
+                    .sectorName(sectorName)
+                    .averageScore(0)
+                    .count(0)
+                    .build());
+        }
+
         return snapshotRepository.findLatestDateByCountry(country)
             .map(date -> snapshotRepository.findByCountryAndDateAndSector(country, date, normalizedSector)
                 .map(snapshot -> SectorAverageResponse.builder()
@@ -71,77 +116,135 @@ public class SectorScoreSnapshotService {
                 .build());
     }
 
+    /**
+     * 배치 중 갱신된 섹터 집계를 인메모리 분포에 반영하고, 모든 섹터를 한 번의 multi-row upsert로 저장합니다.
+     */
+    @Transactional
     public void saveDailySnapshot(COUNTRY country, LocalDate date) {
-        if (country == COUNTRY.KOREA) {
-            List<Score> scores = scoreRepository.findLatestValidScoresByCountryKorea();
-            Map<DomesticSector, long[]> stats = new EnumMap<>(DomesticSector.class);
-            for (Score score : scores) {
-                Stock stock = score.getStock();
-                if (stock == null) {
-                    continue;
-                }
-                DomesticSector sector = stock.getDomesticSector();
-                if (sector == null || sector == DomesticSector.UNKNOWN) {
-                    continue;
-                }
-                long[] acc = stats.computeIfAbsent(sector, key -> new long[2]);
-                acc[0] += score.getScoreKorea();
-                acc[1] += 1;
-            }
-            upsertSnapshots(country, date, stats);
-            return;
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Histogram> histogramsBySector = publishDistribution(country, now);
+        upsertSnapshots(country, date, now, histogramsBySector);
+        checkedAtByCountry.put(country, System.currentTimeMillis());
+    }
+
+    /**
+     * 섹터 내 점수 분포를 반환합니다. 아직 메모리에 없거나 DB 스냅샷보다 오래됐으면 다시 로드합니다.
+     */
+    public Optional<SectorStats> getSectorStats(COUNTRY country, String sectorKey) {
+        ensureDistributionFresh(country);
+        return sectorScoreDistribution.getSectorStats(country, sectorKey);
+    }
+
+    /**
+     * 분포에 포함된 종목의 최신 유효 점수를 반환합니다.
+     */
+    public Optional<Integer> getLatestValidScore(COUNTRY country, Integer stockId) {
+        ensureDistributionFresh(country);
+        return sectorScoreDistribution.getScore(country, stockId);
+    }
+
+    private boolean refreshIfLoaded(COUNTRY country) {
+        if (!sectorScoreDistribution.isLoaded(country)) {
+            return false;
         }
+        ensureDistributionFresh(country);
+        return true;
+    }
 
-        List<Score> scores = scoreRepository.findLatestValidScoresByCountryOversea();
-        Map<OverseasSector, long[]> stats = new EnumMap<>(OverseasSector.class);
-        for (Score score : scores) {
-            Stock stock = score.getStock();
-            if (stock == null) {
-                continue;
+    /**
+     * 분포가 없으면 로드하고, 마지막 확인 후 FRESHNESS_CHECK_INTERVAL_MS 가 지났으면
+     * DB 스냅샷의 최신 수정 시각과 비교해 다른 인스턴스의 배치로 저장된 스냅샷이 더 새로우면 다시 로드합니다.
+     * 이 경우 이 인스턴스의 섹터 집계도 점수 배치를 거치지 않아 오래됐으므로 DB에서 다시 채웁니다.
+     */
+    private void ensureDistributionFresh(COUNTRY country) {
+        if (isFresh(country)) {
+            return;
+        }
+        synchronized (this) {
+            if (isFresh(country)) {
+                return;
             }
-            OverseasSector sector = stock.getOverseasSector();
-            if (sector == null || sector == OverseasSector.UNKNOWN) {
-                continue;
+            Optional<LocalDateTime> latest = snapshotRepository.findLatestModifiedAtByCountry(country);
+            if (!sectorScoreDistribution.isLoaded(country)) {
+                publishDistribution(country, latest.orElse(null));
+            } else if (latest.isPresent() && isNewer(latest.get(), sectorScoreDistribution.getVersion(country))) {
+                log.info("Sector score distribution reloaded: country={}, snapshotModifiedAt={}", country, latest.get());
+                sectorScoreAggregator.reset(country);
+                publishDistribution(country, latest.get());
             }
-            long[] acc = stats.computeIfAbsent(sector, key -> new long[2]);
-            acc[0] += score.getScoreOversea();
-            acc[1] += 1;
+            checkedAtByCountry.put(country, System.currentTimeMillis());
         }
-        upsertSnapshots(country, date, stats);
     }
 
-    private void upsertSnapshots(COUNTRY country, LocalDate date, Map<? extends Enum<?>, long[]> stats) {
-        for (Map.Entry<? extends Enum<?>, long[]> entry : stats.entrySet()) {
-            Enum<?> sector = entry.getKey();
-            long[] acc = entry.getValue();
-            long count = acc[1];
-            if (count == 0) {
-                continue;
-            }
-            int average = (int) Math.round(acc[0] / (double) count);
-            String sectorKey = sector.name();
-            String sectorName = resolveSectorName(sector);
+    private boolean isFresh(COUNTRY country) {
+        Long checkedAt = checkedAtByCountry.get(country);
+        return sectorScoreDistribution.isLoaded(country)
+            && checkedAt != null
+            && System.currentTimeMillis() - checkedAt < FRESHNESS_CHECK_INTERVAL_MS;
+    }
 
-            SectorScoreSnapshot snapshot = snapshotRepository
-                .findByCountryAndDateAndSector(country, date, sectorKey)
-                .orElseGet(() -> new SectorScoreSnapshot(date, country, sectorKey, sectorName, average, (int) count));
+    private boolean isNewer(LocalDateTime latest, Optional<LocalDateTime> cached) {
+        return cached.map(latest::isAfter).orElse(true);
+    }
+
+    /**
+     * 섹터 집계 복사본으로 인메모리 분포를 교체합니다. (집계가 비어 있으면 DB에서 한 번 채움)
+     */
+    private Map<String, Histogram> publishDistribution(COUNTRY country, LocalDateTime version) {
+        SectorScoreAggregator.Snapshot snapshot = sectorScoreAggregator.snapshot(country);
+        sectorScoreDistribution.replace(country, version, snapshot.histogramsBySector(), snapshot.scoreByStockId());
+        return snapshot.histogramsBySector();
+    }
 
-            snapshot.update(average, (int) count, sectorName);
-            snapshotRepository.save(snapshot);
+    private void upsertSnapshots(COUNTRY country, LocalDate date, LocalDateTime now,
+                                 Map<String, Histogram> histogramsBySector) {
+        if (histogramsBySector.isEmpty()) {
+            log.info("Sector score snapshot skipped: country={}, date={}, no sectors", country, date);
+            return;
         }
 
-        log.info("Sector score snapshot saved: country={}, date={}, sectors={}", country, date, stats.size());
-    }
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO sector_score_snapshot "
+                + "(snapshot_date, country, sector, sector_name, average_score, `count`, created_at, modified_at) VALUES ");
+        List<Object> params = new ArrayList<>();
+        for (Map.Entry<String, Histogram> entry : histogramsBySector.entrySet()) {
+            Histogram histogram = entry.getValue();
+            int count = histogram.getCount();
+            int average = (int) Math.round(histogram.getSum() / (double) count);
 
-    private String resolveSectorName(Enum<?> sector) {
-        if (sector instanceof DomesticSector domestic) {
-            return domestic.getName();
+            if (!params.isEmpty()) {
+                sql.append(", ");
+            }
+            int base = params.size();
+            sql.append("(?").append(base + 1)
+                .append(", ?").append(base + 2)
+                .append(", ?").append(base + 3)
+                .append(", ?").append(base + 4)
+                .append(", ?").append(base + 5)
+                .append(", ?").append(base + 6)
+                .append(", ?").append(base + 7)
+                .append(", ?").append(base + 7)
+                .append(")");
+            params.add(date);
+            params.add(country.name());
+            params.add(entry.getKey());
+            params.add(resolveSectorNameByKey(country, entry.getKey()));
+            params.add(average);
+            params.add(count);
+            params.add(now);
         }
-        if (sector instanceof OverseasSector overseas) {
-            return overseas.getName();
+        sql.append(" ON DUPLICATE KEY UPDATE sector_name = VALUES(sector_name), average_score = VALUES(average_score), "
+            + "`count` = VALUES(`count`), modified_at = VALUES(modified_at)");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < params.size(); i++) {
+            query.setParameter(i + 1, params.get(i));
         }
-        return sector.name();
+        query.executeUpdate();
+
+        log.info("Sector score snapshot saved: country={}, date={}, sectors={}", country, date, histogramsBySector.size());
     }
+
     private String resolveSectorNameByKey(COUNTRY country, String sectorKey) {
         try {
             if (country == COUNTRY.KOREA) {
@@ -7,8 +7,11 @@ import com.fund.stockProject.stock.dto.response.StockKoreaMarketCapResponse;
 import com.fund.stockProject.stock.dto.response.StockKoreaRisingDescentResponse;
 import com.fund.stockProject.stock.dto.response.StockOverseaRankResponse;
 import com.fund.stockProject.stock.entity.Stock;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,6 +33,7 @@ import com.fund.stockProject.stock.dto.response.StockOverseaVolumeRankResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -43,7 +47,12 @@ public class SecurityService {
     private final ObjectMapper objectMapper;
     private final CacheManager cacheManager;
     private static final String STOCK_PRICE_CACHE = "stockPrice";
+    private static final int BATCH_PRICE_CONCURRENCY = 8; // KIS 초당 호출 제한을 고려한 동시 요청 수
+    private static final Duration BATCH_PRICE_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration STOCK_PRICE_CACHE_TTL = Duration.ofSeconds(30); // RedisConfig stockPrice TTL
     private final Map<String, Mono<StockInfoResponse>> inFlightPriceRequests = new ConcurrentHashMap<>();
+    // 이 인스턴스가 시세를 캐시에 넣은 시각 (다른 인스턴스가 넣은 값은 TTL 이내로만 알 수 있음)
+    private final Map<String, Long> priceCachedAt = new ConcurrentHashMap<>();
 
     /**
      * 국내, 해외 주식 정보 조회
@@ -1136,6 +1145,63 @@ public class SecurityService {
         );
     }
 
+    /**
+     * maxStaleness 이내에 조회된 시세가 캐시에 있으면 그대로 쓰고, 아니면 KIS 에서 새로 조회합니다. (진행 중 요청 공유)
+     * 다른 인스턴스가 캐시한 시세는 조회 시각을 알 수 없으므로 maxStaleness 가 캐시 TTL 이상일 때만 사용합니다.
+     */
+    public Mono<StockInfoResponse> getRealTimeStockPrice(Stock stock, Duration maxStaleness) {
+        if (stock == null || stock.getSymbol() == null || stock.getExchangeNum() == null) {
+            return Mono.error(new IllegalArgumentException("유효하지 않은 종목 정보입니다."));
+        }
+
+        String cacheKey = buildStockPriceCacheKey(stock);
+        Long cachedAt = priceCachedAt.get(cacheKey);
+        boolean fresh = cachedAt != null
+            ? System.currentTimeMillis() - cachedAt <= maxStaleness.toMillis()
+            : maxStaleness.compareTo(STOCK_PRICE_CACHE_TTL) >= 0;
+        if (fresh) {
+            StockInfoResponse cached = getCachedRealTimeStockPrice(stock);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+        }
+
+        return inFlightPriceRequests.computeIfAbsent(cacheKey, key ->
+            requestAndCacheRealTimeStockPrice(stock)
+                .doFinally(signalType -> inFlightPriceRequests.remove(key))
+                .cache()
+        );
+    }
+
+    /**
+     * 여러 종목의 실시간 가격을 동시에 조회합니다. (캐시/진행 중 요청 공유, 동시 요청 수 제한)
+     * 실패하거나 시간 초과된 종목은 결과에서 빠집니다.
+     *
+     * @return stockId -> 가격 정보
+     */
+    public Mono<Map<Integer, StockInfoResponse>> getRealTimeStockPrices(Collection<Stock> stocks) {
+        if (stocks == null || stocks.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        Map<Integer, Stock> uniqueStocks = new LinkedHashMap<>();
+        for (Stock stock : stocks) {
+            if (stock != null && stock.getId() != null) {
+                uniqueStocks.putIfAbsent(stock.getId(), stock);
+            }
+        }
+
+        return Flux.fromIterable(uniqueStocks.values())
+            .flatMap(stock -> getRealTimeStockPrice(stock)
+                .timeout(BATCH_PRICE_TIMEOUT)
+                .map(response -> Map.entry(stock.getId(), response))
+                .onErrorResume(e -> {
+                    log.warn("Batch price lookup failed - stockId: {}, error: {}", stock.getId(), e.getMessage());
+                    return Mono.empty();
+                }), BATCH_PRICE_CONCURRENCY)
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
     public StockInfoResponse getCachedRealTimeStockPrice(Stock stock) {
         Cache cache = cacheManager.getCache(STOCK_PRICE_CACHE);
         if (cache == null || stock == null || stock.getSymbol() == null || stock.getExchangeNum() == null) {
@@ -1189,6 +1255,7 @@ public class SecurityService {
         String cacheKey = buildStockPriceCacheKey(stock);
         if (cacheKey != null) {
             cache.put(cacheKey, normalized);
+            priceCachedAt.put(cacheKey, System.currentTimeMillis());
         }
     }
 
@@ -14,6 +14,7 @@ import java.io.InputStreamReader;
 public class StockMasterUpdateService {
 
     private final StockImportService stockImportService;
+    private final SectorScoreAggregator sectorScoreAggregator;
 
     /**
      * 종목 마스터 데이터 업데이트
@@ -79,6 +80,8 @@ public class StockMasterUpdateService {
             }
             log.info("Importing stocks from JSON file: {}", jsonFilePath);
             stockImportService.importStocksFromJson(jsonFilePath);
+            // valid/섹터가 바뀌었을 수 있으므로 섹터 집계는 다음 사용 시 DB에서 다시 채움
+            sectorScoreAggregator.reset();
             
             log.info("Stock master update completed successfully");
             
@@ -0,0 +1,256 @@
+package com.fund.stockProject.stock.service;
+
+import com.fund.stockProject.keyword.service.StockKeywordCache;
+import com.fund.stockProject.keyword.service.StockKeywordCache.KeywordFilter;
+import com.fund.stockProject.score.entity.Score;
+import com.fund.stockProject.score.repository.ScoreRepository;
+import com.fund.stockProject.stock.domain.COUNTRY;
+import com.fund.stockProject.stock.domain.EXCHANGENUM;
+import com.fund.stockProject.stock.dto.response.StockRelevantResponse;
+import com.fund.stockProject.stock.entity.Stock;
+import com.fund.stockProject.stock.repository.StockRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관련 종목 인메모리 인덱스
+ *
+ * 거래소별로 종목을 최신 유효 점수 오름차순 배열로 보관하고, 이진 탐색 후 양쪽으로 넓혀가며
+ * 점수가 가장 가까운 종목을 찾습니다. (동점이면 같은 섹터 우선)
+ * 키워드는 인덱스를 만들 때 함께 담아 응답이 하나의 스냅샷에서 만들어지도록 합니다.
+ * 점수 배치가 끝나면(ScoreBatchService.runCountryBatch) 국가별로 다시 만들고, 아직 만들어지지 않은 국가는 첫 조회 시 만듭니다.
+ * 배치가 다른 인스턴스에서 돈 경우를 위해 REFRESH_INTERVAL_MS 가 지난 인덱스는 스케줄러가 백그라운드에서 다시 만들고,
+ * 조회는 항상 기존 인덱스로 응답합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockRelevanceIndex {
+
+    private static final int SCORE_RANGE = 10; // 관련 종목으로 인정하는 점수 차이
+    private static final int RELEVANT_LIMIT = 3;
+    private static final int KEYWORD_LIMIT = 2;
+    private static final long REFRESH_INTERVAL_MS = 10 * 60 * 1000L; // 10분
+
+    private final ScoreRepository scoreRepository;
+    private final StockRepository stockRepository;
+    private final StockKeywordCache stockKeywordCache;
+
+    private final Map<COUNTRY, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 점수가 가까운 같은 거래소 종목을 최대 3개 반환합니다.
+     *
+     * @param stockId 기준 종목 ID
+     * @return 관련 종목 목록 (없으면 빈 리스트)
+     */
+    public List<StockRelevantResponse> findRelevantStocks(Integer stockId) {
+        Entry target = findEntry(stockId);
+        if (target == null) {
+            target = loadUnindexedTarget(stockId);
+            if (target == null) {
+                return List.of();
+            }
+        }
+
+        Snapshot snapshot = getOrBuild(getCountry(target.exchangeNum));
+        Entry[] bucket = snapshot.byExchange.get(target.exchangeNum);
+        if (bucket == null || bucket.length == 0) {
+            return List.of();
+        }
+
+        return nearest(bucket, target).stream()
+            .map(entry -> StockRelevantResponse.builder()
+                .stockId(entry.stockId)
+                .symbolName(entry.symbolName)
+                .score(entry.score)
+                .diff(entry.diff)
+                .keywords(entry.keywords)
+                .build())
+            .toList();
+    }
+
+    /**
+     * 해당 국가의 인덱스를 다시 만듭니다. 점수 배치가 끝난 뒤 호출됩니다.
+     */
+    public void rebuild(COUNTRY country) {
+        long startedAt = System.currentTimeMillis();
+        List<Score> scores = country == COUNTRY.KOREA
+            ? scoreRepository.findLatestValidScoresByCountryKorea()
+            : scoreRepository.findLatestValidScoresByCountryOversea();
+
+        List<Integer> stockIds = scores.stream().map(Score::getStockId).toList();
+        stockKeywordCache.preload(stockIds);
+
+        Map<EXCHANGENUM, List<Entry>> grouped = new EnumMap<>(EXCHANGENUM.class);
+        Map<Integer, Entry> byStockId = new HashMap<>();
+        for (Score score : scores) {
+            Stock stock = score.getStock();
+            if (stock == null || stock.getExchangeNum() == null) {
+                continue;
+            }
+            Entry entry = toEntry(stock, score, country);
+            grouped.computeIfAbsent(stock.getExchangeNum(), key -> new ArrayList<>()).add(entry);
+            byStockId.put(entry.stockId, entry);
+        }
+
+        Map<EXCHANGENUM, Entry[]> byExchange = new EnumMap<>(EXCHANGENUM.class);
+        grouped.forEach((exchangeNum, entries) -> {
+            Entry[] sorted = entries.toArray(new Entry[0]);
+            Arrays.sort(sorted, Comparator.comparingInt(entry -> entry.score));
+            byExchange.put(exchangeNum, sorted);
+        });
+
+        snapshots.put(country, new Snapshot(byExchange, byStockId, System.currentTimeMillis()));
+        log.info("Stock relevance index rebuilt: country={}, stocks={}, elapsedMs={}",
+            country, byStockId.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 이미 만들어진 국가 중 REFRESH_INTERVAL_MS 가 지난 인덱스를 다시 만듭니다. (배치 직후 다시 만든 국가는 건너뜀)
+     */
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MS, initialDelay = REFRESH_INTERVAL_MS)
+    public void refreshStale() {
+        long now = System.currentTimeMillis();
+        snapshots.forEach((country, snapshot) -> {
+            if (now - snapshot.builtAt < REFRESH_INTERVAL_MS) {
+                return;
+            }
+            try {
+                rebuild(country);
+            } catch (Exception e) {
+                log.warn("Failed to refresh stock relevance index: country={}, error={}", country, e.getMessage());
+            }
+        });
+    }
+
+    private Snapshot getOrBuild(COUNTRY country) {
+        Snapshot snapshot = snapshots.get(country);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // 첫 조회만 동기로 만듦
+        synchronized (this) {
+            if (!snapshots.containsKey(country)) {
+                rebuild(country);
+            }
+            return snapshots.get(country);
+        }
+    }
+
+    private Entry findEntry(Integer stockId) {
+        for (Snapshot snapshot : snapshots.values()) {
+            Entry entry = snapshot.byStockId.get(stockId);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 인덱스에 없는 종목(아직 빌드 전 국가, valid=false 등)은 DB에서 최신 점수를 읽어 기준으로 삼습니다.
+     */
+    private Entry loadUnindexedTarget(Integer stockId) {
+        Stock stock = stockRepository.findStockById(stockId).orElse(null);
+        if (stock == null || stock.getExchangeNum() == null) {
+            return null;
+        }
+
+        COUNTRY country = getCountry(stock.getExchangeNum());
+        Entry indexed = getOrBuild(country).byStockId.get(stockId);
+        if (indexed != null) {
+            return indexed;
+        }
+
+        return scoreRepository.findTopByStockIdOrderByDateDesc(stockId)
+            .map(score -> toEntry(stock, score, country))
+            .filter(entry -> entry.score != 9999)
+            .orElse(null);
+    }
+
+    private List<Entry> nearest(Entry[] bucket, Entry target) {
+        // target.score 이상이 처음 나오는 위치
+        int low = 0;
+        int high = bucket.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bucket[mid].score < target.score) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        List<Entry> result = new ArrayList<>(RELEVANT_LIMIT);
+        int left = low - 1;
+        int right = low;
+        while (result.size() < RELEVANT_LIMIT) {
+            Entry leftEntry = left >= 0 ? bucket[left] : null;
+            Entry rightEntry = right < bucket.length ? bucket[right] : null;
+            int leftDistance = leftEntry != null ? target.score - leftEntry.score : Integer.MAX_VALUE;
+            int rightDistance = rightEntry != null ? rightEntry.score - target.score : Integer.MAX_VALUE;
+
+            if (Math.min(leftDistance, rightDistance) > SCORE_RANGE) {
+                break;
+            }
+
+            boolean takeLeft = leftDistance < rightDistance
+                || (leftDistance == rightDistance && isSameSector(leftEntry, target)
+                    && !isSameSector(rightEntry, target));
+            Entry picked = takeLeft ? leftEntry : rightEntry;
+            if (takeLeft) {
+                left--;
+            } else {
+                right++;
+            }
+
+            if (!picked.stockId.equals(target.stockId)) {
+                result.add(picked);
+            }
+        }
+        return result;
+    }
+
+    private boolean isSameSector(Entry entry, Entry target) {
+        return entry != null && entry.sector != null && Objects.equals(entry.sector, target.sector);
+    }
+
+    private Entry toEntry(Stock stock, Score score, COUNTRY country) {
+        int value = country == COUNTRY.KOREA ? score.getScoreKorea() : score.getScoreOversea();
+        String sector = stock.getDomesticSector() != null ? stock.getDomesticSector().name()
+            : stock.getOverseasSector() != null ? stock.getOverseasSector().name() : null;
+        return new Entry(
+            stock.getId(),
+            stock.getSymbolName(),
+            stock.getExchangeNum(),
+            sector,
+            value,
+            score.getDiff(),
+            stockKeywordCache.getTopKeywords(stock.getId(), stock.getSymbolName(), KEYWORD_LIMIT, KeywordFilter.STOCK)
+        );
+    }
+
+    private COUNTRY getCountry(EXCHANGENUM exchangeNum) {
+        return List.of(EXCHANGENUM.KOSPI, EXCHANGENUM.KOSDAQ, EXCHANGENUM.KOREAN_ETF)
+            .contains(exchangeNum) ? COUNTRY.KOREA : COUNTRY.OVERSEA;
+    }
+
+    private record Snapshot(Map<EXCHANGENUM, Entry[]> byExchange, Map<Integer, Entry> byStockId, long builtAt) {
+    }
+
+    private record Entry(Integer stockId, String symbolName, EXCHANGENUM exchangeNum, String sector,
+                         int score, Integer diff, List<String> keywords) {
+    }
+}
@@ -4,12 +4,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fund.stockProject.global.config.SecurityHttpConfig;
-import com.fund.stockProject.keyword.entity.Keyword;
-import com.fund.stockProject.keyword.entity.StockKeyword;
-import com.fund.stockProject.keyword.repository.KeywordRepository;
+import com.fund.stockProject.keyword.service.StockKeywordCache;
+import com.fund.stockProject.keyword.service.StockKeywordCache.KeywordFilter;
 import com.fund.stockProject.score.entity.Score;
+import com.fund.stockProject.score.entity.ScoreMonthly;
 import com.fund.stockProject.searchkeyword.service.SearchKeywordService;
 import com.fund.stockProject.score.repository.ScoreRepository;
+import com.fund.stockProject.score.service.ScoreHistoryService;
 import com.fund.stockProject.score.service.ScoreService;
 import com.fund.stockProject.stock.domain.CATEGORY;
 import com.fund.stockProject.stock.domain.COUNTRY;
@@ -26,11 +27,13 @@ import com.fund.stockProject.stock.repository.StockRepository;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -42,7 +45,6 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -61,9 +63,11 @@ public class StockService {
     private final SecurityHttpConfig securityHttpConfig;
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
-    private final KeywordRepository keywordRepository;
+    private final StockKeywordCache stockKeywordCache;
     private final SearchKeywordService searchKeywordService;
     private final SectorScoreSnapshotService sectorScoreSnapshotService;
+    private final StockRelevanceIndex stockRelevanceIndex;
+    private final ScoreHistoryService scoreHistoryService;
 
     private final int LIMITS = 9;
 
@@ -545,7 +549,7 @@ public class StockService {
         }
     }
 
-    private double roundTo1Decimal(double value) {
+    private static double roundTo1Decimal(double value) {
         return Math.round(value * 10.0) / 10.0;
     }
 
@@ -682,19 +686,12 @@ public class StockService {
         COUNTRY country) {
         final List<StockDiffResponse> stockDiffResponses = new ArrayList<>();
 
-        // 모든 stockId를 수집하여 배치 조회로 N+1 문제 해결
+        // 모든 stockId를 수집하여 키워드 캐시를 한 번에 채움 (N+1 문제 해결)
         List<Integer> stockIds = scores.stream()
             .map(score -> score.getStock().getId())
             .distinct()
             .toList();
-
-        // 배치 조회로 모든 Keyword를 한 번에 가져오기
-        List<StockKeyword> stockKeywords = keywordRepository.findKeywordsByStockIds(stockIds);
-
-        // stockId별로 그룹화
-        java.util.Map<Integer, List<StockKeyword>> stockKeywordsByStockId = 
-            stockKeywords.stream()
-                .collect(Collectors.groupingBy(sk -> sk.getStock().getId()));
+        stockKeywordCache.preload(stockIds);
 
         // SymbolName을 미리 Map으로 만들어서 효율적으로 접근
         java.util.Map<Integer, String> symbolNameMap = scores.stream()
@@ -709,14 +706,8 @@ public class StockService {
             Integer stockId = score.getStock().getId();
             String symbolName = symbolNameMap.get(stockId);
             
-            // 배치 조회 결과에서 키워드 가져오기 (stockId별로 그룹화된 결과 사용)
-            List<String> uniqueKeywords = stockKeywordsByStockId.getOrDefault(stockId, List.of())
-                .stream()
-                .map(sk -> sk.getKeyword().getName())
-                .filter(keyword -> !keyword.equals(symbolName) && isValidKeyword(keyword))
-                .distinct()
-                .limit(2)
-                .toList();
+            // 캐시에서 종목별 유효 키워드 가져오기 (종목명과 같은 키워드 제외)
+            List<String> uniqueKeywords = stockKeywordCache.getTopKeywords(stockId, symbolName, 2, KeywordFilter.STOCK);
 
             stockDiffResponses.add(StockDiffResponse.builder()
                 .stockId(stockId)
@@ -730,17 +721,6 @@ public class StockService {
         return stockDiffResponses;
     }
 
-    private boolean isValidKeyword(String name) {
-        if (name == null || name.isBlank()) {
-            return false;
-        }
-
-        String specialCharsPattern = "^[a-zA-Z0-9가-힣\\s]+$";
-        String postfixPattern = "^(이|가|을|를|의|에|로|으로|에서|와|과|은|는|도|만|까지|부터|마저|조차|나마|처럼|같이|크|등|또|전).*|.*(이|가|을|를|의|에|로|으로|에서|와|과|은|는|도|만|까지|부터|마저|조차|나마|처럼|같이|하|등|또|전)$";
-
-        return name.matches(specialCharsPattern) && !name.matches(postfixPattern);
-    }
-
     /**
      * 국내/해외 떡락 지표 반환
      * @param country 국내/해외 분류
@@ -752,42 +732,15 @@ public class StockService {
     }
 
     public List<StockRelevantResponse> getRelevantStocks(final Integer id) {
-        Stock searchById = stockRepository.findStockById(id).orElse(null);
-        final List<Stock> relevantStocksByExchangeNumAndScore = stockQueryRepository.findRelevantStocksByExchangeNumAndScore(
-            searchById);
+        // 거래소/최신 점수 기준 인메모리 인덱스에서 조회 (키워드 포함)
+        final List<StockRelevantResponse> stockRelevantResponses = stockRelevanceIndex.findRelevantStocks(id);
 
-        if (relevantStocksByExchangeNumAndScore.isEmpty()) {
+        if (stockRelevantResponses.isEmpty()) {
             System.out.println("Stock " + id + " relevant Stocks are not found");
 
             return null;
         }
 
-        final List<StockRelevantResponse> stockRelevantResponses = new ArrayList<>();
-
-        for (final Stock stock : relevantStocksByExchangeNumAndScore) {
-            final List<String> uniqueKeywords = keywordRepository.findKeywordsByStockId(
-                    stock.getId(), PageRequest.of(0, 10))
-                .stream()
-                .map(Keyword::getName)
-                .filter(keyword -> (!keyword.equals(stock.getSymbolName()) && isValidKeyword(
-                    keyword))) // symbolName과 일치하는 키워드 제거
-                .distinct()
-                .limit(2)
-                .toList();
-
-            stockRelevantResponses.add(StockRelevantResponse.builder()
-                .stockId(stock.getId())
-                .symbolName(stock.getSymbolName())
-                .keywords(uniqueKeywords)
-                .score(stock.getExchangeNum()
-                    .equals(EXCHANGENUM.KOSPI) || stock.getExchangeNum()
-                    .equals(EXCHANGENUM.KOSDAQ) || stock.getExchangeNum()
-                    .equals(EXCHANGENUM.KOREAN_ETF) ? stock.getScores().get(0).getScoreKorea()
-                    : stock.getScores().get(0).getScoreOversea())
-                .diff(stock.getScores().get(0).getDiff())
-                .build());
-        }
-
         return stockRelevantResponses;
     }
 
@@ -805,12 +758,7 @@ public class StockService {
         Stock stock = stockRepository.findStockById(id)
                 .orElseThrow(() -> new RuntimeException("no stock found"));
 
-        List<String> keywords = keywordRepository.findKeywordsByStockId(id, PageRequest.of(0, 2))
-                .stream()
-                .map(Keyword::getName)
-                .filter(this::isValidKeyword)
-                .distinct()
-                .toList();
+        List<String> keywords = stockKeywordCache.getTopKeywords(id, null, 2, KeywordFilter.STOCK);
 
         StockInfoResponse stockInfoKorea = securityService.getSecurityStockInfoKorea(stock.getId(), stock.getSymbolName(),
                 stock.getSecurityName(), stock.getSymbol(), stock.getExchangeNum(),
@@ -838,35 +786,109 @@ public class StockService {
 
         COUNTRY country = getCountryFromExchangeNum(stock.getExchangeNum());
         java.time.YearMonth targetMonth = parseYearMonthOrNow(yearMonth);
-        LocalDate startDate = targetMonth.atDay(1);
-        LocalDate endDate = targetMonth.atEndOfMonth();
-
-        List<Score> scores = scoreRepository.findByStockIdAndDateBetween(stock.getId(), startDate, endDate);
-
-        int sum = 0;
-        int count = 0;
-        if (scores != null) {
-            for (Score score : scores) {
-                int value = country == COUNTRY.KOREA ? score.getScoreKorea() : score.getScoreOversea();
-                if (value == 9999) {
-                    continue;
-                }
-                sum += value;
-                count++;
-            }
-        }
 
-        Double average = count == 0 ? null : roundTo1Decimal(sum / (double) count);
+        // 월 행 하나에 합계/개수가 있으므로 일자별 Score를 읽지 않음
+        ScoreMonthly monthly = scoreHistoryService.getMonth(stock.getId(), country, targetMonth);
+        Double average = monthly.getAverageScore();
         return StockMonthlyAverageResponse.builder()
             .stockId(stock.getId())
             .symbolName(stock.getSymbolName())
             .country(country)
             .yearMonth(targetMonth.toString())
-            .dataCount(count)
-            .averageScore(average)
+            .dataCount(monthly.getDataCount())
+            .averageScore(average == null ? null : roundTo1Decimal(average))
             .build();
     }
 
+    /**
+     * 기간 내 일자별 점수와 주/월 단위 집계(평균, 최소, 최대)
+     *
+     * @param id 종목 ID
+     * @param startDate 시작일 (미지정 시 종료일 30일 전)
+     * @param endDate 종료일 (미지정 시 오늘)
+     */
+    public StockScoreHistoryResponse getScoreHistory(Integer id, LocalDate startDate, LocalDate endDate) {
+        Stock stock = stockRepository.findStockById(id)
+            .orElseThrow(() -> new RuntimeException("no stock found"));
+
+        COUNTRY country = getCountryFromExchangeNum(stock.getExchangeNum());
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(30);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+
+        List<ScoreHistoryService.DailyScore> dailyScores =
+            scoreHistoryService.getDailyScores(stock.getId(), country, start, end);
+
+        ScoreRollup total = new ScoreRollup(start);
+        Map<LocalDate, ScoreRollup> weekly = new LinkedHashMap<>();
+        Map<LocalDate, ScoreRollup> monthly = new LinkedHashMap<>();
+        List<StockScoreHistoryResponse.DailyScore> daily = new ArrayList<>(dailyScores.size());
+        for (ScoreHistoryService.DailyScore dailyScore : dailyScores) {
+            LocalDate date = dailyScore.date();
+            LocalDate weekStart = date.with(java.time.temporal.TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            LocalDate monthStart = date.withDayOfMonth(1);
+
+            total.add(dailyScore.score());
+            weekly.computeIfAbsent(weekStart.isBefore(start) ? start : weekStart, ScoreRollup::new).add(dailyScore.score());
+            monthly.computeIfAbsent(monthStart.isBefore(start) ? start : monthStart, ScoreRollup::new).add(dailyScore.score());
+            daily.add(StockScoreHistoryResponse.DailyScore.builder()
+                .date(date.toString())
+                .score(dailyScore.score())
+                .diff(dailyScore.diff())
+                .build());
+        }
+
+        return StockScoreHistoryResponse.builder()
+            .stockId(stock.getId())
+            .symbolName(stock.getSymbolName())
+            .country(country)
+            .startDate(start.toString())
+            .endDate(end.toString())
+            .dataCount(total.count)
+            .averageScore(total.average())
+            .minScore(total.min)
+            .maxScore(total.max)
+            .dailyScores(daily)
+            .weeklyScores(weekly.values().stream().map(ScoreRollup::toResponse).toList())
+            .monthlyScores(monthly.values().stream().map(ScoreRollup::toResponse).toList())
+            .build();
+    }
+
+    private static class ScoreRollup {
+        private final LocalDate periodStart;
+        private int count;
+        private long sum;
+        private Integer min;
+        private Integer max;
+
+        ScoreRollup(LocalDate periodStart) {
+            this.periodStart = periodStart;
+        }
+
+        void add(int score) {
+            count++;
+            sum += score;
+            min = min == null ? score : Math.min(min, score);
+            max = max == null ? score : Math.max(max, score);
+        }
+
+        Double average() {
+            return count == 0 ? null : roundTo1Decimal(sum / (double) count);
+        }
+
+        StockScoreHistoryResponse.PeriodScore toResponse() {
+            return StockScoreHistoryResponse.PeriodScore.builder()
+                .periodStart(periodStart.toString())
+                .dataCount(count)
+                .averageScore(average())
+                .minScore(min)
+                .maxScore(max)
+                .build();
+        }
+    }
+
     public List<SectorAverageResponse> getSectorAverageScores(COUNTRY country) {
         return sectorScoreSnapshotService.getLatestSectorAverages(country);
     }
@@ -880,81 +902,56 @@ public class StockService {
             .orElseThrow(() -> new RuntimeException("no stock found"));
 
         COUNTRY country = getCountryFromExchangeNum(stock.getExchangeNum());
+        String sectorName;
+        String sectorKey;
+        boolean unknownSector;
         if (country == COUNTRY.KOREA) {
             DomesticSector sector = stock.getDomesticSector();
-            String sectorName = sector != null ? sector.getName() : DomesticSector.UNKNOWN.getName();
-            String sectorKey = sector != null ? sector.name() : DomesticSector.UNKNOWN.name();
-
-            if (sector == null || sector == DomesticSector.UNKNOWN) {
-                return buildEmptySectorPercentile(stockId, sectorKey, sectorName, null);
-            }
-
-            Optional<Score> targetScoreOpt = scoreRepository
-                .findTopByStockIdAndScoreOverseaAndScoreKoreaNotOrderByDateDesc(stockId, 9999, 9999);
-            if (targetScoreOpt.isEmpty()) {
-                return buildEmptySectorPercentile(stockId, sectorKey, sectorName, null);
-            }
-
-            int targetScore = targetScoreOpt.get().getScoreKorea();
-            List<Score> sectorScores = scoreRepository.findLatestValidScoresByDomesticSector(sector);
-            return buildSectorPercentileResponse(stockId, sectorKey, sectorName, targetScore, sectorScores, true);
+            sectorName = sector != null ? sector.getName() : DomesticSector.UNKNOWN.getName();
+            sectorKey = sector != null ? sector.name() : DomesticSector.UNKNOWN.name();
+            unknownSector = sector == null || sector == DomesticSector.UNKNOWN;
+        } else {
+            OverseasSector sector = stock.getOverseasSector();
+            sectorName = sector != null ? sector.getName() : OverseasSector.UNKNOWN.getName();
+            sectorKey = sector != null ? sector.name() : OverseasSector.UNKNOWN.name();
+            unknownSector = sector == null || sector == OverseasSector.UNKNOWN;
         }
 
-        OverseasSector sector = stock.getOverseasSector();
-        String sectorName = sector != null ? sector.getName() : OverseasSector.UNKNOWN.getName();
-        String sectorKey = sector != null ? sector.name() : OverseasSector.UNKNOWN.name();
-
-        if (sector == null || sector == OverseasSector.UNKNOWN) {
+        if (unknownSector) {
             return buildEmptySectorPercentile(stockId, sectorKey, sectorName, null);
         }
 
-        Optional<Score> targetScoreOpt = scoreRepository
-            .findTopByStockIdAndScoreKoreaAndScoreOverseaNotOrderByDateDesc(stockId, 9999, 9999);
+        // 섹터 분포에 포함된 종목은 메모리에서, 아니면(valid=false 등) DB에서 최신 유효 점수 조회
+        Optional<Integer> targetScoreOpt = sectorScoreSnapshotService.getLatestValidScore(country, stockId)
+            .or(() -> findLatestValidScore(stockId, country));
         if (targetScoreOpt.isEmpty()) {
             return buildEmptySectorPercentile(stockId, sectorKey, sectorName, null);
         }
 
-        int targetScore = targetScoreOpt.get().getScoreOversea();
-        List<Score> sectorScores = scoreRepository.findLatestValidScoresByOverseasSector(sector);
-        return buildSectorPercentileResponse(stockId, sectorKey, sectorName, targetScore, sectorScores, false);
+        int targetScore = targetScoreOpt.get();
+        return sectorScoreSnapshotService.getSectorStats(country, sectorKey)
+            .filter(stats -> stats.getTotal() > 0)
+            .map(stats -> SectorPercentileResponse.builder()
+                .stockId(stockId)
+                .sector(sectorKey)
+                .sectorName(sectorName)
+                .score(targetScore)
+                .rank(stats.rank(targetScore))
+                .total(stats.getTotal())
+                .topPercent(stats.topPercent(targetScore))
+                .build())
+            .orElseGet(() -> buildEmptySectorPercentile(stockId, sectorKey, sectorName, targetScore));
     }
 
-    private SectorPercentileResponse buildSectorPercentileResponse(
-        Integer stockId,
-        String sectorKey,
-        String sectorName,
-        int targetScore,
-        List<Score> sectorScores,
-        boolean isKorea
-    ) {
-        int total = sectorScores.size();
-        if (total == 0) {
-            return buildEmptySectorPercentile(stockId, sectorKey, sectorName, targetScore);
-        }
-
-        long higher = 0;
-        long equal = 0;
-        for (Score score : sectorScores) {
-            int value = isKorea ? score.getScoreKorea() : score.getScoreOversea();
-            if (value > targetScore) {
-                higher++;
-            } else if (value == targetScore) {
-                equal++;
-            }
+    private Optional<Integer> findLatestValidScore(Integer stockId, COUNTRY country) {
+        if (country == COUNTRY.KOREA) {
+            return scoreRepository
+                .findTopByStockIdAndScoreOverseaAndScoreKoreaNotOrderByDateDesc(stockId, 9999, 9999)
+                .map(Score::getScoreKorea);
         }
-
-        int rank = (int) higher + 1;
-        int topPercent = (int) Math.round((higher + equal) * 100.0 / total);
-
-        return SectorPercentileResponse.builder()
-            .stockId(stockId)
-            .sector(sectorKey)
-            .sectorName(sectorName)
-            .score(targetScore)
-            .rank(rank)
-            .total(total)
-            .topPercent(topPercent)
-            .build();
+        return scoreRepository
+            .findTopByStockIdAndScoreKoreaAndScoreOverseaNotOrderByDateDesc(stockId, 9999, 9999)
+            .map(Score::getScoreOversea);
     }
 
     private SectorPercentileResponse buildEmptySectorPercentile(
@@ -1011,20 +1008,17 @@ public class StockService {
             return null;
         }
 
-        List<Score> scores = stock.getScores();
+        // 조회 기간의 점수만 월 단위 시계열에서 읽음 (전체 Score 이력을 로드하지 않음)
+        Map<LocalDate, ScoreHistoryService.DailyScore> scoresByDate = new HashMap<>();
+        LocalDate scoreStartDate = startDate.isBefore(endDate.minusMonths(36)) ? endDate.minusMonths(36) : startDate;
+        for (ScoreHistoryService.DailyScore dailyScore : scoreHistoryService.getDailyScores(stock.getId(), country, scoreStartDate, endDate)) {
+            scoresByDate.put(dailyScore.date(), dailyScore);
+        }
         List<StockChartResponse.PriceInfo> priceInfos = new ArrayList<>();
 
         for (PriceInfo priceInfo : itemChartPrices) {
             LocalDate priceDate = LocalDate.parse(priceInfo.getLocalDate(), DateTimeFormatter.BASIC_ISO_DATE);
-            Score matchingScore = null;
-
-            // 날짜에 맞는 Score 찾기
-            for (Score score : scores) {
-                if (score.getDate().equals(priceDate)) {
-                    matchingScore = score;
-                    break;
-                }
-            }
+            ScoreHistoryService.DailyScore matchingScore = scoresByDate.get(priceDate);
 
             // PriceInfo와 Score 병합
             StockChartResponse.PriceInfo enrichedPriceInfo = StockChartResponse.PriceInfo.builder()
@@ -1035,8 +1029,8 @@ public class StockService {
                 .lowPrice(priceInfo.getLowPrice())
                 .accumulatedTradingVolume(priceInfo.getAccumulatedTradingVolume())
                 .accumulatedTradingValue(priceInfo.getAccumulatedTradingValue())
-                .score(matchingScore != null ? (country == COUNTRY.KOREA ? matchingScore.getScoreKorea() : matchingScore.getScoreOversea()) : null)
-                .diff(matchingScore != null ? matchingScore.getDiff() : null)
+                .score(matchingScore != null ? matchingScore.score() : null)
+                .diff(matchingScore != null ? matchingScore.diff() : null)
                 .build();
 
             priceInfos.add(enrichedPriceInfo);
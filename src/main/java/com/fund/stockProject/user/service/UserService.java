@@ -3,9 +3,13 @@ package com.fund.stockProject.user.service;
 import com.fund.stockProject.auth.service.AuthService;
 import com.fund.stockProject.experiment.repository.ExperimentRepository;
 import com.fund.stockProject.experiment.repository.ExperimentTradeItemRepository;
+import com.fund.stockProject.experiment.service.InvestmentPatternService;
+import com.fund.stockProject.experiment.service.UserExperimentStatsService;
 import com.fund.stockProject.global.service.S3Service;
 import com.fund.stockProject.notification.repository.NotificationRepository;
 import com.fund.stockProject.notification.repository.UserDeviceTokenRepository;
+import com.fund.stockProject.notification.service.DeviceTokenRegistry;
+import com.fund.stockProject.notification.service.NotificationUnreadCounter;
 import com.fund.stockProject.preference.repository.PreferenceRepository;
 import com.fund.stockProject.user.dto.UserProfileResponse;
 import com.fund.stockProject.user.dto.UserUpdateRequest;
@@ -25,8 +29,12 @@ public class UserService {
     private final PreferenceRepository preferenceRepository;
     private final NotificationRepository notificationRepository;
     private final UserDeviceTokenRepository userDeviceTokenRepository;
+    private final DeviceTokenRegistry deviceTokenRegistry;
+    private final NotificationUnreadCounter notificationUnreadCounter;
     private final ExperimentRepository experimentRepository;
     private final ExperimentTradeItemRepository experimentTradeItemRepository;
+    private final UserExperimentStatsService userExperimentStatsService;
+    private final InvestmentPatternService investmentPatternService;
 
     @Transactional
     public UserProfileResponse updateMyProfile(UserUpdateRequest request) {
@@ -93,14 +101,18 @@ public class UserService {
 
         // 2. Experiment 삭제
         experimentRepository.deleteByUserId(userId);
+        userExperimentStatsService.deleteByUserId(userId);
+        investmentPatternService.deleteByUserId(userId);
 
         // 3. Preference 데이터 삭제 (북마크 포함)
         preferenceRepository.deleteByUserId(userId);
 
         // 4. Notification 데이터 삭제
         notificationRepository.deleteByUserId(userId);
+        notificationUnreadCounter.evict(userId);
 
         // 5. UserDeviceToken 데이터 삭제
         userDeviceTokenRepository.deleteByUserId(userId);
+        deviceTokenRegistry.invalidate(userId);
     }
 }
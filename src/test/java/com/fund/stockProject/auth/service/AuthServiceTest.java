@@ -0,0 +1,91 @@
+package com.fund.stockProject.auth.service;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fund.stockProject.auth.repository.RefreshTokenRepository;
+import com.fund.stockProject.experiment.repository.ExperimentRepository;
+import com.fund.stockProject.experiment.repository.ExperimentTradeItemRepository;
+import com.fund.stockProject.experiment.service.InvestmentPatternService;
+import com.fund.stockProject.experiment.service.UserExperimentStatsService;
+import com.fund.stockProject.notification.repository.NotificationRepository;
+import com.fund.stockProject.notification.repository.UserDeviceTokenRepository;
+import com.fund.stockProject.notification.service.DeviceTokenRegistry;
+import com.fund.stockProject.notification.service.NotificationUnreadCounter;
+import com.fund.stockProject.preference.repository.PreferenceRepository;
+import com.fund.stockProject.user.entity.User;
+import com.fund.stockProject.user.repository.UserRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PreferenceRepository preferenceRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserDeviceTokenRepository userDeviceTokenRepository;
+
+    @Mock
+    private DeviceTokenRegistry deviceTokenRegistry;
+
+    @Mock
+    private NotificationUnreadCounter notificationUnreadCounter;
+
+    @Mock
+    private ExperimentRepository experimentRepository;
+
+    @Mock
+    private ExperimentTradeItemRepository experimentTradeItemRepository;
+
+    @Mock
+    private UserExperimentStatsService userExperimentStatsService;
+
+    @Mock
+    private InvestmentPatternService investmentPatternService;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Test
+    void withdrawUser_invalidatesCachedDeviceTokens() {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+
+        authService.withdrawUser("user@example.com");
+
+        InOrder order = inOrder(userDeviceTokenRepository, deviceTokenRegistry);
+        order.verify(userDeviceTokenRepository).deleteByUserId(1);
+        order.verify(deviceTokenRegistry).invalidate(1);
+    }
+
+    @Test
+    void withdrawUser_evictsUnreadCounter() {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+
+        authService.withdrawUser("user@example.com");
+
+        InOrder order = inOrder(notificationRepository, notificationUnreadCounter);
+        order.verify(notificationRepository).deleteByUserId(1);
+        order.verify(notificationUnreadCounter).evict(1);
+    }
+}
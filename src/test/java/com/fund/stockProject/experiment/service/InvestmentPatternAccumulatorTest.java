@@ -0,0 +1,61 @@
+package com.fund.stockProject.experiment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.fund.stockProject.experiment.domain.INVESTMENTPATTERN;
+import org.junit.jupiter.api.Test;
+
+class InvestmentPatternAccumulatorTest {
+
+    @Test
+    void result_defaultsToValuePreemptiveWithoutExperiments() {
+        InvestmentPatternAccumulator accumulator = new InvestmentPatternAccumulator();
+
+        assertThat(accumulator.result()).isEqualTo(INVESTMENTPATTERN.VALUE_PREEMPTIVE);
+        assertThat(accumulator.getExperimentCount()).isZero();
+    }
+
+    @Test
+    void add_sumsDistanceFromOriginPerQuadrant() {
+        InvestmentPatternAccumulator accumulator = new InvestmentPatternAccumulator();
+        accumulator.add(80, 40.0);  // 1사분면, 거리 50
+        accumulator.add(20, -40.0); // 3사분면, 거리 50
+        accumulator.add(56, -8.0);  // 4사분면, 거리 10
+
+        assertThat(accumulator.getExperimentCount()).isEqualTo(3);
+        assertThat(accumulator.getDistanceSum(INVESTMENTPATTERN.TREND_PREEMPTIVE)).isCloseTo(50.0, within(1e-9));
+        assertThat(accumulator.getDistanceSum(INVESTMENTPATTERN.REVERSE_INVESTOR)).isCloseTo(50.0, within(1e-9));
+        assertThat(accumulator.getDistanceSum(INVESTMENTPATTERN.LAGGING_FOLLOWER)).isCloseTo(10.0, within(1e-9));
+        assertThat(accumulator.getDistanceSum(INVESTMENTPATTERN.VALUE_PREEMPTIVE)).isZero();
+    }
+
+    @Test
+    void result_prefersDeclarationOrderOnTie() {
+        InvestmentPatternAccumulator accumulator = new InvestmentPatternAccumulator();
+        accumulator.add(80, 40.0);
+        accumulator.add(20, -40.0);
+
+        assertThat(accumulator.result()).isEqualTo(INVESTMENTPATTERN.TREND_PREEMPTIVE);
+    }
+
+    @Test
+    void add_roundsRoiToOneDecimalBeforeClassifying() {
+        InvestmentPatternAccumulator accumulator = new InvestmentPatternAccumulator();
+        accumulator.add(30, 0.04); // 0.0 으로 반올림되어 수익 없음(3사분면)
+
+        assertThat(accumulator.result()).isEqualTo(INVESTMENTPATTERN.REVERSE_INVESTOR);
+        assertThat(accumulator.getDistanceSum(INVESTMENTPATTERN.REVERSE_INVESTOR)).isCloseTo(20.0, within(1e-9));
+    }
+
+    @Test
+    void add_skipsExperimentWithoutRoi() {
+        InvestmentPatternAccumulator accumulator = new InvestmentPatternAccumulator();
+        accumulator.add(90, null);
+        accumulator.add(30, 5.0);
+
+        assertThat(accumulator.getExperimentCount()).isEqualTo(1);
+        assertThat(accumulator.getDistanceSum(INVESTMENTPATTERN.LAGGING_FOLLOWER)).isZero();
+        assertThat(accumulator.result()).isEqualTo(INVESTMENTPATTERN.VALUE_PREEMPTIVE);
+    }
+}
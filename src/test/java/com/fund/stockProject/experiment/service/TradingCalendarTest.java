@@ -0,0 +1,88 @@
+package com.fund.stockProject.experiment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class TradingCalendarTest {
+
+    @Mock
+    private HolidayService holidayService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TradingCalendar tradingCalendar;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(holidayService.loadPersistedHolidays(2025)).thenReturn(Set.of(
+            LocalDate.of(2025, 10, 3),   // 개천절 (금)
+            LocalDate.of(2025, 10, 6),   // 추석 연휴 (월~수)
+            LocalDate.of(2025, 10, 7),
+            LocalDate.of(2025, 10, 8),
+            LocalDate.of(2025, 10, 9),   // 한글날 (목)
+            LocalDate.of(2025, 12, 25)   // 성탄절 (목)
+        ));
+        lenient().when(holidayService.loadPersistedHolidays(2026)).thenReturn(Set.of(
+            LocalDate.of(2026, 1, 1)     // 신정 (목)
+        ));
+        lenient().when(holidayService.loadPersistedHolidays(2027)).thenReturn(Set.of());
+        lenient().when(holidayService.refreshHolidays(2027)).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void nthBusinessDay_countsStartDateWhenBusinessDay() {
+        assertThat(tradingCalendar.nthBusinessDay(LocalDate.of(2025, 12, 31), 1)).isEqualTo(LocalDate.of(2025, 12, 31));
+        assertThat(tradingCalendar.nthBusinessDay(LocalDate.of(2025, 12, 29), 3)).isEqualTo(LocalDate.of(2025, 12, 31));
+    }
+
+    @Test
+    void nthBusinessDay_skipsWeekends() {
+        assertThat(tradingCalendar.nthBusinessDay(LocalDate.of(2025, 12, 27), 1)).isEqualTo(LocalDate.of(2025, 12, 29));
+        assertThat(tradingCalendar.nthBusinessDay(LocalDate.of(2025, 12, 19), 2)).isEqualTo(LocalDate.of(2025, 12, 22));
+    }
+
+    @Test
+    void nthBusinessDay_skipsHolidays() {
+        assertThat(tradingCalendar.nthBusinessDay(LocalDate.of(2025, 12, 24), 2)).isEqualTo(LocalDate.of(2025, 12, 26));
+        // 10/3 ~ 10/9 연휴(주말 포함)를 건너뜀
+        assertThat(tradingCalendar.nthBusinessDay(LocalDate.of(2025, 10, 2), 2)).isEqualTo(LocalDate.of(2025, 10, 10));
+    }
+
+    @Test
+    void nthBusinessDay_crossesYearBoundary() {
+        // 12/31(수) -> 1/1 신정 -> 1/2(금)
+        assertThat(tradingCalendar.nthBusinessDay(LocalDate.of(2025, 12, 31), 2)).isEqualTo(LocalDate.of(2026, 1, 2));
+        assertThat(tradingCalendar.nthBusinessDay(LocalDate.of(2025, 12, 30), 5)).isEqualTo(LocalDate.of(2026, 1, 6));
+    }
+
+    @Test
+    void nthBusinessDay_countsWeekendsOnlyForYearWithoutPersistedHolidays() {
+        // 2027-01-01 은 금요일, 보관된 공휴일이 없으면 주말만 제외하고 갱신을 요청
+        assertThat(tradingCalendar.nthBusinessDay(LocalDate.of(2027, 1, 1), 2)).isEqualTo(LocalDate.of(2027, 1, 4));
+        verify(holidayService).refreshHolidays(2027);
+        verify(holidayService, never()).refreshHolidays(2025);
+    }
+
+    @Test
+    void nthBusinessDay_rejectsNonPositiveCount() {
+        assertThatThrownBy(() -> tradingCalendar.nthBusinessDay(LocalDate.of(2025, 12, 31), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
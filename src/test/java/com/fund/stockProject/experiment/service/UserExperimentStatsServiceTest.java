@@ -0,0 +1,84 @@
+package com.fund.stockProject.experiment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fund.stockProject.experiment.entity.UserExperimentStats;
+import com.fund.stockProject.experiment.repository.ExperimentRepository;
+import com.fund.stockProject.experiment.repository.UserExperimentStatsRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserExperimentStatsServiceTest {
+
+    @Mock
+    private UserExperimentStatsRepository userExperimentStatsRepository;
+
+    @Mock
+    private ExperimentRepository experimentRepository;
+
+    @Mock
+    private ExperimentGlobalStatsCache experimentGlobalStatsCache;
+
+    @Mock
+    private HumanIndicatorDistributionCache humanIndicatorDistributionCache;
+
+    @InjectMocks
+    private UserExperimentStatsService userExperimentStatsService;
+
+    @Test
+    void seedMissingStats_rebuildsWhenSomeRowsAlreadyExist() {
+        when(experimentRepository.countUsersWithCompletedExperiments()).thenReturn(5L);
+        when(userExperimentStatsRepository.count()).thenReturn(3L);
+        when(userExperimentStatsRepository.rebuildAll()).thenReturn(5);
+
+        assertThat(userExperimentStatsService.seedMissingStats()).isEqualTo(5);
+
+        verify(userExperimentStatsRepository).rebuildAll();
+        verify(experimentGlobalStatsCache).invalidate();
+        verify(humanIndicatorDistributionCache).refresh();
+    }
+
+    @Test
+    void seedMissingStats_skipsWhenEveryUserHasRow() {
+        when(experimentRepository.countUsersWithCompletedExperiments()).thenReturn(5L);
+        when(userExperimentStatsRepository.count()).thenReturn(5L);
+
+        assertThat(userExperimentStatsService.seedMissingStats()).isZero();
+
+        verify(userExperimentStatsRepository, never()).rebuildAll();
+        verify(experimentGlobalStatsCache, never()).invalidate();
+    }
+
+    @Test
+    void getStats_rebuildsMissingRowOfUserWithCompletedExperiments() {
+        UserExperimentStats rebuilt = new UserExperimentStats(7);
+        when(userExperimentStatsRepository.findByUserId(7)).thenReturn(Optional.empty(), Optional.of(rebuilt));
+        when(experimentRepository.existsCompletedByUserId(7)).thenReturn(true);
+
+        assertThat(userExperimentStatsService.getStats(7)).isSameAs(rebuilt);
+
+        verify(userExperimentStatsRepository).rebuildByUserId(7);
+        verify(experimentGlobalStatsCache).invalidate();
+    }
+
+    @Test
+    void getStats_returnsEmptyStatsWithoutRebuildWhenNoCompletedExperiment() {
+        when(userExperimentStatsRepository.findByUserId(7)).thenReturn(Optional.empty());
+        when(experimentRepository.existsCompletedByUserId(7)).thenReturn(false);
+
+        UserExperimentStats stats = userExperimentStatsService.getStats(7);
+
+        assertThat(stats.getUserId()).isEqualTo(7);
+        assertThat(stats.getCompletedCount()).isZero();
+        verify(userExperimentStatsRepository, never()).rebuildByUserId(any());
+    }
+}
@@ -0,0 +1,139 @@
+package com.fund.stockProject.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fund.stockProject.auth.domain.PROVIDER;
+import com.fund.stockProject.auth.domain.ROLE;
+import com.fund.stockProject.notification.domain.NotificationType;
+import com.fund.stockProject.notification.dto.NotificationResponse;
+import com.fund.stockProject.notification.entity.Notification;
+import com.fund.stockProject.user.entity.User;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:notification;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=COUNT,DATE,DAY,KEY,MONTH,VALUE,YEAR",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NotificationRepositoryCursorTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-05T00:00:00Z");
+    private static final Instant T1 = Instant.parse("2026-01-05T00:01:00Z");
+    private static final Instant T2 = Instant.parse("2026-01-05T00:02:00Z");
+    private static final Instant FIRST_CURSOR = Instant.parse("3000-01-01T00:00:00Z");
+    private static final Pageable TEN = PageRequest.of(0, 10);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private User user;
+    private Notification n1;
+    private Notification n2;
+    private Notification n3;
+    private Notification n4;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(user("cursor@test.com"));
+        User other = entityManager.persist(user("other@test.com"));
+
+        n1 = entityManager.persist(notification(user, NotificationType.TEST, null, T0));
+        n2 = entityManager.persist(notification(user, NotificationType.TEST, null, T1));
+        n3 = entityManager.persist(notification(user, NotificationType.SCORE_SPIKE, 20, T1));
+        n4 = entityManager.persist(notification(user, NotificationType.TEST, null, T2));
+        // 화면에 보이지 않는 점수 급변(변화량 0)과 다른 유저 알림은 결과에 없어야 함
+        entityManager.persist(notification(user, NotificationType.SCORE_SPIKE, 0, T1));
+        entityManager.persist(notification(other, NotificationType.TEST, null, T1));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void firstPage_ordersByCreatedAtThenIdDescending() {
+        assertThat(ids(notificationRepository.findValidResponsesByUserIdBefore(
+            user.getId(), FIRST_CURSOR, Integer.MAX_VALUE, NotificationType.SCORE_SPIKE, TEN)))
+            .containsExactly(n4.getId(), n3.getId(), n2.getId(), n1.getId());
+    }
+
+    @Test
+    void sameCreatedAt_includesOnlySmallerIdsThanCursor() {
+        assertThat(ids(notificationRepository.findValidResponsesByUserIdBefore(
+            user.getId(), T1, n3.getId(), NotificationType.SCORE_SPIKE, TEN)))
+            .containsExactly(n2.getId(), n1.getId());
+        assertThat(ids(notificationRepository.findValidResponsesByUserIdBefore(
+            user.getId(), T1, n2.getId(), NotificationType.SCORE_SPIKE, TEN)))
+            .containsExactly(n1.getId());
+    }
+
+    @Test
+    void olderCreatedAt_isIncludedRegardlessOfId() {
+        assertThat(ids(notificationRepository.findValidResponsesByUserIdBefore(
+            user.getId(), T2, n1.getId(), NotificationType.SCORE_SPIKE, TEN)))
+            .containsExactly(n3.getId(), n2.getId(), n1.getId());
+    }
+
+    @Test
+    void pagesDoNotOverlapOrSkipRows() {
+        List<NotificationResponse> first = notificationRepository.findValidResponsesByUserIdBefore(
+            user.getId(), FIRST_CURSOR, Integer.MAX_VALUE, NotificationType.SCORE_SPIKE, PageRequest.of(0, 2));
+        NotificationResponse last = first.get(first.size() - 1);
+        List<NotificationResponse> second = notificationRepository.findValidResponsesByUserIdBefore(
+            user.getId(), last.getCreatedAt(), last.getId(), NotificationType.SCORE_SPIKE, PageRequest.of(0, 2));
+
+        assertThat(ids(first)).containsExactly(n4.getId(), n3.getId());
+        assertThat(ids(second)).containsExactly(n2.getId(), n1.getId());
+    }
+
+    @Test
+    void typeFilter_appliesSameCursorBoundary() {
+        assertThat(ids(notificationRepository.findValidResponsesByUserIdAndNotificationTypeBefore(
+            user.getId(), NotificationType.TEST, T1, n3.getId(), NotificationType.SCORE_SPIKE, TEN)))
+            .containsExactly(n2.getId(), n1.getId());
+        assertThat(ids(notificationRepository.findValidResponsesByUserIdAndNotificationTypeBefore(
+            user.getId(), NotificationType.SCORE_SPIKE, FIRST_CURSOR, Integer.MAX_VALUE, NotificationType.SCORE_SPIKE, TEN)))
+            .containsExactly(n3.getId());
+    }
+
+    private static User user(String email) {
+        return User.builder()
+            .email(email)
+            .role(ROLE.ROLE_USER)
+            .provider(PROVIDER.LOCAL)
+            .isActive(true)
+            .marketingAgreement(false)
+            .build();
+    }
+
+    private static Notification notification(User user, NotificationType type, Integer changeAbs, Instant createdAt) {
+        return Notification.builder()
+            .user(user)
+            .notificationType(type)
+            .changeAbs(changeAbs)
+            .title("title")
+            .body("body")
+            .createdAt(createdAt)
+            .build();
+    }
+
+    private static List<Integer> ids(List<NotificationResponse> responses) {
+        return responses.stream().map(NotificationResponse::getId).toList();
+    }
+}
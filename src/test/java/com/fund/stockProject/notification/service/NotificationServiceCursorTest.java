@@ -0,0 +1,110 @@
+package com.fund.stockProject.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fund.stockProject.notification.domain.NotificationType;
+import com.fund.stockProject.notification.dto.NotificationCursorResponse;
+import com.fund.stockProject.notification.dto.NotificationResponse;
+import com.fund.stockProject.notification.repository.NotificationRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceCursorTest {
+
+    private static final Instant T1 = Instant.parse("2026-01-05T00:00:00.123456Z");
+    private static final Instant T2 = Instant.parse("2026-01-05T00:00:01Z");
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Test
+    void firstPage_startsAfterLatestPossibleCursorAndReadsOneExtraRow() {
+        when(notificationRepository.findValidResponsesByUserIdBefore(
+            eq(1), any(Instant.class), any(Integer.class), eq(NotificationType.SCORE_SPIKE), any(Pageable.class)))
+            .thenReturn(List.of(response(30, T2), response(20, T1), response(10, T1)));
+
+        NotificationCursorResponse page = notificationService.getNotificationsByCursor(1, null, null, 2);
+
+        ArgumentCaptor<Instant> createdAt = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Integer> id = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(notificationRepository).findValidResponsesByUserIdBefore(
+            eq(1), createdAt.capture(), id.capture(), eq(NotificationType.SCORE_SPIKE), pageable.capture());
+        assertThat(createdAt.getValue()).isAfter(Instant.now());
+        assertThat(id.getValue()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(3);
+
+        assertThat(page.getContent()).extracting(NotificationResponse::getId).containsExactly(30, 20);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(decode(page.getNextCursor())).isEqualTo(T1 + "|20");
+    }
+
+    @Test
+    void nextCursor_roundTripsCreatedAtAndIdOfLastRow() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((T1 + "|20").getBytes(StandardCharsets.UTF_8));
+        when(notificationRepository.findValidResponsesByUserIdAndNotificationTypeBefore(
+            1, NotificationType.TEST, T1, 20, NotificationType.SCORE_SPIKE, Pageable.ofSize(3)))
+            .thenReturn(List.of(response(10, T1)));
+
+        NotificationCursorResponse page = notificationService.getNotificationsByCursor(1, NotificationType.TEST, cursor, 2);
+
+        assertThat(page.getContent()).extracting(NotificationResponse::getId).containsExactly(10);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void pageSize_isClampedToMaximum() {
+        when(notificationRepository.findValidResponsesByUserIdBefore(
+            eq(1), any(Instant.class), any(Integer.class), eq(NotificationType.SCORE_SPIKE), eq(Pageable.ofSize(101))))
+            .thenReturn(List.of());
+
+        NotificationCursorResponse page = notificationService.getNotificationsByCursor(1, null, null, 1000);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void invalidCursor_isRejected() {
+        String missingId = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(T1.toString().getBytes(StandardCharsets.UTF_8));
+        String badDate = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("yesterday|20".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> notificationService.getNotificationsByCursor(1, null, "%%%", 20))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> notificationService.getNotificationsByCursor(1, null, missingId, 20))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> notificationService.getNotificationsByCursor(1, null, badDate, 20))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static NotificationResponse response(int id, Instant createdAt) {
+        return new NotificationResponse(id, null, null, null, NotificationType.TEST, null, null, null,
+            "title", "body", false, createdAt);
+    }
+
+    private static String decode(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,174 @@
+package com.fund.stockProject.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fund.stockProject.notification.entity.OutboxEvent;
+import com.fund.stockProject.notification.service.FcmPushService.PushRequest;
+import com.fund.stockProject.notification.service.OutboxDispatchEngine.GroupResult;
+import com.fund.stockProject.notification.repository.OutboxRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OutboxDispatchEngineTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-05T00:00:00Z");
+    private static final Function<OutboxEvent, String> BY_PAYLOAD = OutboxEvent::getPayload;
+
+    private OutboxRepository outboxRepo;
+    private FcmPushService fcmPushService;
+    private OutboxDispatchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepo = mock(OutboxRepository.class);
+        fcmPushService = mock(FcmPushService.class);
+        engine = new OutboxDispatchEngine(outboxRepo, mock(PlatformTransactionManager.class),
+            2, 2, Duration.ofMinutes(5), Duration.ofMinutes(5), fcmPushService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void coalesce_mergesSameKeyWithinWindowFromFirstEvent() {
+        OutboxEvent first = event(1, "user-1", BASE);
+        OutboxEvent second = event(2, "user-1", BASE.plus(Duration.ofMinutes(3)));
+        OutboxEvent third = event(3, "user-1", BASE.plus(Duration.ofMinutes(5)));
+        OutboxEvent late = event(4, "user-1", BASE.plus(Duration.ofMinutes(6)));
+
+        List<List<OutboxEvent>> groups = engine.coalesce(List.of(late, third, first, second), BY_PAYLOAD);
+
+        assertThat(groups).hasSize(2);
+        assertThat(groups.get(0)).containsExactly(first, second, third);
+        assertThat(groups.get(1)).containsExactly(late);
+    }
+
+    @Test
+    void coalesce_keepsDifferentKeysAndNullKeysApart() {
+        OutboxEvent user1 = event(1, "user-1", BASE);
+        OutboxEvent user2 = event(2, "user-2", BASE);
+        OutboxEvent noKey1 = event(3, null, BASE);
+        OutboxEvent noKey2 = event(4, null, BASE);
+
+        List<List<OutboxEvent>> groups = engine.coalesce(List.of(user1, user2, noKey1, noKey2), BY_PAYLOAD);
+
+        assertThat(groups).containsExactlyInAnyOrder(
+            List.of(user1), List.of(user2), List.of(noKey1), List.of(noKey2));
+    }
+
+    @Test
+    void coalesce_fallsBackToCreatedAtWithoutScheduledAt() {
+        OutboxEvent first = OutboxEvent.builder().id(1).payload("user-1").createdAt(BASE).build();
+        OutboxEvent second = OutboxEvent.builder().id(2).payload("user-1")
+            .createdAt(BASE.plus(Duration.ofMinutes(10))).build();
+
+        List<List<OutboxEvent>> groups = engine.coalesce(List.of(second, first), BY_PAYLOAD);
+
+        assertThat(groups).containsExactly(List.of(first), List.of(second));
+    }
+
+    @Test
+    void dispatch_coalescesOnlyWithinOneClaimBatch() {
+        // claimSize=2: user-1 의 이벤트가 두 점유 배치로 나뉨 (그래서 일일 점수 급변은 발송 전에 유저별 1건으로 합쳐 둠)
+        OutboxEvent batch1User1 = event(1, "user-1", BASE);
+        OutboxEvent batch1User2 = event(2, "user-2", BASE);
+        OutboxEvent batch2User1 = event(3, "user-1", BASE.plus(Duration.ofMinutes(1)));
+        when(outboxRepo.lockScheduledEventIds(any(), anyInt()))
+            .thenReturn(List.of(1, 2), List.of(3), List.of());
+        when(outboxRepo.findAllById(List.of(1, 2))).thenReturn(List.of(batch1User1, batch1User2));
+        when(outboxRepo.findAllById(List.of(3))).thenReturn(List.of(batch2User1));
+
+        List<List<OutboxEvent>> handled = new ArrayList<>();
+        int dispatched = engine.dispatch(OutboxDispatchEngine.ClaimType.SCHEDULED, BY_PAYLOAD, group -> {
+            synchronized (handled) {
+                handled.add(group);
+            }
+            return GroupResult.processed(List.of());
+        });
+
+        assertThat(dispatched).isEqualTo(3);
+        assertThat(handled).containsExactlyInAnyOrder(
+            List.of(batch1User1), List.of(batch1User2), List.of(batch2User1));
+        verify(outboxRepo).markProcessed(eq(List.of(1, 2)), anyString());
+        verify(outboxRepo).markProcessed(eq(List.of(3)), anyString());
+    }
+
+    @Test
+    void dispatch_retriesWholeGroupWhenHandlerFails() {
+        OutboxEvent first = event(1, "user-1", BASE);
+        OutboxEvent second = event(2, "user-1", BASE.plus(Duration.ofMinutes(1)));
+        when(outboxRepo.lockRetryEventIds(any(), anyInt())).thenReturn(List.of(1, 2), List.of());
+        when(outboxRepo.findAllById(List.of(1, 2))).thenReturn(List.of(first, second));
+
+        engine.dispatch(OutboxDispatchEngine.ClaimType.RETRY, BY_PAYLOAD, group -> {
+            throw new IllegalStateException("send failed");
+        });
+
+        verify(outboxRepo).markRetry(eq(List.of(1, 2)), anyString(), any(Instant.class));
+    }
+
+    @Test
+    void dispatch_sendsPushesOfWholeClaimBatchInOneCall() {
+        OutboxEvent user1 = event(1, "user-1", BASE);
+        OutboxEvent user2 = event(2, "user-2", BASE);
+        when(outboxRepo.lockImmediateEventIds(anyInt())).thenReturn(List.of(1, 2), List.of());
+        when(outboxRepo.findAllById(List.of(1, 2))).thenReturn(List.of(user1, user2));
+
+        engine.dispatch(OutboxDispatchEngine.ClaimType.IMMEDIATE, BY_PAYLOAD, group -> GroupResult.processed(
+            List.of(PushRequest.alert(group.get(0).getId(), "title", "body", Map.of()))));
+
+        verify(fcmPushService, times(1)).sendAll(argThat(pushes ->
+            pushes.size() == 2 && pushes.stream().map(PushRequest::userId).toList().containsAll(List.of(1, 2))));
+        verify(outboxRepo).markProcessed(eq(List.of(1, 2)), anyString());
+    }
+
+    @Test
+    void dispatch_retriesOnlyGroupsWithPushesWhenBatchSendFails() {
+        OutboxEvent withPush = event(1, "user-1", BASE);
+        OutboxEvent withoutPush = event(2, "user-2", BASE);
+        when(outboxRepo.lockImmediateEventIds(anyInt())).thenReturn(List.of(1, 2), List.of());
+        when(outboxRepo.findAllById(List.of(1, 2))).thenReturn(List.of(withPush, withoutPush));
+        doThrow(new IllegalStateException("token lookup failed")).when(fcmPushService).sendAll(any());
+
+        engine.dispatch(OutboxDispatchEngine.ClaimType.IMMEDIATE, BY_PAYLOAD, group -> GroupResult.processed(
+            group.get(0) == withPush ? List.of(PushRequest.silent(1, Map.of())) : List.of()));
+
+        verify(outboxRepo).markProcessed(eq(List.of(2)), anyString());
+        verify(outboxRepo).markRetry(eq(List.of(1)), anyString(), any(Instant.class));
+    }
+
+    @Test
+    void dispatch_skipsBatchSendWithoutPushes() {
+        when(outboxRepo.lockImmediateEventIds(anyInt())).thenReturn(List.of(1), List.of());
+        when(outboxRepo.findAllById(List.of(1))).thenReturn(List.of(event(1, "user-1", BASE)));
+
+        engine.dispatch(OutboxDispatchEngine.ClaimType.IMMEDIATE, BY_PAYLOAD, group -> GroupResult.processed(List.of()));
+
+        verify(fcmPushService, never()).sendAll(any());
+    }
+
+    private static OutboxEvent event(int id, String key, Instant scheduledAt) {
+        return OutboxEvent.builder().id(id).payload(key).scheduledAt(scheduledAt).createdAt(BASE).build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.fund.stockProject.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fund.stockProject.notification.entity.OutboxEvent;
+import com.fund.stockProject.notification.repository.NotificationRepository;
+import com.fund.stockProject.notification.repository.OutboxRepository;
+import com.fund.stockProject.preference.domain.PreferenceType;
+import com.fund.stockProject.preference.repository.PreferenceRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class StockScoreAlertServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private NotificationRepository notificationRepo;
+
+    @Mock
+    private OutboxRepository outboxRepo;
+
+    @Mock
+    private PreferenceRepository preferenceRepo;
+
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private StockScoreAlertService stockScoreAlertService;
+
+    @BeforeEach
+    void setUp() {
+        stockScoreAlertService = new StockScoreAlertService(notificationRepo, outboxRepo, preferenceRepo,
+            objectMapper, unreadCounter, transactionManager, jdbcTemplate);
+    }
+
+    @Test
+    void sendDailyScoreAlerts_leavesOneReadyEventPerUserRegardlessOfEventOrder() throws Exception {
+        // id 순으로 점유하면 유저 7, 8 의 이벤트가 서로 다른 배치로 나뉠 수 있는 순서
+        OutboxEvent user7First = scoreSpike(1, 7, 100, 1001);
+        OutboxEvent user8First = scoreSpike(2, 8, 100, 1002);
+        OutboxEvent user7Second = scoreSpike(3, 7, 200, 1003);
+        OutboxEvent user8Second = scoreSpike(4, 8, 200, 1004);
+        OutboxEvent user9Only = scoreSpike(5, 9, 100, 1005);
+        when(outboxRepo.findByStatusAndScheduledAtBefore(eq("PENDING"), any(Instant.class)))
+            .thenReturn(List.of(user7First, user8First, user7Second, user8Second, user9Only));
+        when(preferenceRepo.existsByUserIdAndStockIdAndPreferenceTypeAndNotificationEnabled(
+            anyInt(), anyInt(), eq(PreferenceType.BOOKMARK), eq(true))).thenReturn(true);
+
+        stockScoreAlertService.sendDailyScoreAlerts();
+
+        assertThat(user7First.getStatus()).isEqualTo("READY_TO_SEND");
+        assertThat(user7Second.getStatus()).isEqualTo("PROCESSED");
+        assertThat(user8First.getStatus()).isEqualTo("READY_TO_SEND");
+        assertThat(user8Second.getStatus()).isEqualTo("PROCESSED");
+        assertThat(user9Only.getStatus()).isEqualTo("READY_TO_SEND");
+
+        assertThat(payload(user7First).get("digestNotificationIds")).isEqualTo(List.of(1001, 1003));
+        assertThat(payload(user8First).get("digestNotificationIds")).isEqualTo(List.of(1002, 1004));
+        assertThat(payload(user9Only)).doesNotContainKey("digestNotificationIds");
+    }
+
+    @Test
+    void sendDailyScoreAlerts_excludesUnbookmarkedAlertsFromDigest() throws Exception {
+        OutboxEvent enabled = scoreSpike(1, 7, 100, 1001);
+        OutboxEvent disabled = scoreSpike(2, 7, 200, 1002);
+        when(outboxRepo.findByStatusAndScheduledAtBefore(eq("PENDING"), any(Instant.class)))
+            .thenReturn(List.of(enabled, disabled));
+        when(preferenceRepo.existsByUserIdAndStockIdAndPreferenceTypeAndNotificationEnabled(
+            7, 100, PreferenceType.BOOKMARK, true)).thenReturn(true);
+        when(preferenceRepo.existsByUserIdAndStockIdAndPreferenceTypeAndNotificationEnabled(
+            7, 200, PreferenceType.BOOKMARK, true)).thenReturn(false);
+        when(notificationRepo.findById(1002)).thenReturn(Optional.empty());
+
+        stockScoreAlertService.sendDailyScoreAlerts();
+
+        assertThat(enabled.getStatus()).isEqualTo("READY_TO_SEND");
+        assertThat(payload(enabled)).doesNotContainKey("digestNotificationIds");
+        assertThat(disabled.getStatus()).isEqualTo("PROCESSED");
+    }
+
+    private OutboxEvent scoreSpike(int eventId, int userId, int stockId, int notificationId) throws Exception {
+        String payload = objectMapper.writeValueAsString(Map.of(
+            "notificationId", notificationId,
+            "userId", userId,
+            "stockId", stockId,
+            "type", "SCORE_SPIKE"));
+        return OutboxEvent.builder().id(eventId).type("ALERT_CREATED").payload(payload).build();
+    }
+
+    private Map<String, Object> payload(OutboxEvent event) throws Exception {
+        return objectMapper.readValue(event.getPayload(), new TypeReference<>() {});
+    }
+}
@@ -0,0 +1,80 @@
+package com.fund.stockProject.user.service;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+import com.fund.stockProject.experiment.repository.ExperimentRepository;
+import com.fund.stockProject.experiment.repository.ExperimentTradeItemRepository;
+import com.fund.stockProject.experiment.service.InvestmentPatternService;
+import com.fund.stockProject.experiment.service.UserExperimentStatsService;
+import com.fund.stockProject.notification.repository.NotificationRepository;
+import com.fund.stockProject.notification.repository.UserDeviceTokenRepository;
+import com.fund.stockProject.notification.service.DeviceTokenRegistry;
+import com.fund.stockProject.notification.service.NotificationUnreadCounter;
+import com.fund.stockProject.preference.repository.PreferenceRepository;
+import com.fund.stockProject.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PreferenceRepository preferenceRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserDeviceTokenRepository userDeviceTokenRepository;
+
+    @Mock
+    private DeviceTokenRegistry deviceTokenRegistry;
+
+    @Mock
+    private NotificationUnreadCounter notificationUnreadCounter;
+
+    @Mock
+    private ExperimentRepository experimentRepository;
+
+    @Mock
+    private ExperimentTradeItemRepository experimentTradeItemRepository;
+
+    @Mock
+    private UserExperimentStatsService userExperimentStatsService;
+
+    @Mock
+    private InvestmentPatternService investmentPatternService;
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    void deleteAllUserData_invalidatesCachedDeviceTokens() {
+        when(userRepository.existsById(1)).thenReturn(true);
+
+        userService.deleteAllUserData(1);
+
+        InOrder order = inOrder(userDeviceTokenRepository, deviceTokenRegistry);
+        order.verify(userDeviceTokenRepository).deleteByUserId(1);
+        order.verify(deviceTokenRegistry).invalidate(1);
+    }
+
+    @Test
+    void deleteAllUserData_evictsUnreadCounter() {
+        when(userRepository.existsById(1)).thenReturn(true);
+
+        userService.deleteAllUserData(1);
+
+        InOrder order = inOrder(notificationRepository, notificationUnreadCounter);
+        order.verify(notificationRepository).deleteByUserId(1);
+        order.verify(notificationUnreadCounter).evict(1);
+    }
+}